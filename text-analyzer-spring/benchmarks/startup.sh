@@ -0,0 +1,92 @@
+#!/usr/bin/env bash
+#
+# Time to first response and resident memory of a fresh instance, started as
+#   jar      the plain executable jar
+#   cds      the extracted jar with an AppCDS archive
+#   aot-cds  the extracted jar with Spring AOT initialization and its own AppCDS archive
+#   native   the GraalVM native image, when target/text-analyzer-spring exists
+#
+# Usage: benchmarks/startup.sh [runs]     (from text-analyzer-spring, default 5 runs)
+#
+# Builds the jar with the native profile first so that it carries the AOT classes.
+# The native image is only measured when it was built beforehand with
+#   ./mvnw -Pnative -DskipTests native:compile
+# Set SKIP_BUILD=1 to reuse the jar and archives of an earlier run.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+JAR=target/text-analyzer-spring-0.0.1-SNAPSHOT.jar
+NATIVE=target/text-analyzer-spring
+WORK=target/startup
+APP=$WORK/app/$(basename "$JAR")
+URL=http://localhost:$PORT/api/text-analyzer/analyze
+BODY='{"parameterType":"VOWELS","inputText":"The quick brown fox jumps over the lazy dog"}'
+
+if [ -z "${SKIP_BUILD:-}" ]; then
+    rm -rf "$WORK"
+    mkdir -p "$WORK"
+    # AOT processing starts the application context once, keep its log out of the report
+    sh mvnw -B -q -Pnative -DskipTests package > "$WORK/build.log"
+    "$JAVA" -Djarmode=tools -jar "$JAR" extract --destination "$WORK/app" > /dev/null
+    # Training runs: start the context, dump the loaded classes and exit after refresh
+    "$JAVA" -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Dspring.context.exit=onRefresh \
+        -jar "$APP" > "$WORK/training-cds.log" 2>&1
+    "$JAVA" -XX:ArchiveClassesAtExit="$WORK/app-aot.jsa" -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+        -jar "$APP" > "$WORK/training-aot-cds.log" 2>&1
+fi
+
+command_for() {
+    case $1 in
+        jar) echo "$JAVA -jar $JAR" ;;
+        cds) echo "$JAVA -XX:SharedArchiveFile=$WORK/app.jsa -jar $APP" ;;
+        aot-cds) echo "$JAVA -XX:SharedArchiveFile=$WORK/app-aot.jsa -Dspring.aot.enabled=true -jar $APP" ;;
+        native) echo "$NATIVE" ;;
+    esac
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Starts one instance, polls until /analyze answers 200 and prints "<ms> <rss KB>"
+measure() {
+    local start pid elapsed rss
+    start=$(now_ms)
+    # shellcheck disable=SC2046
+    $(command_for "$1") --server.port="$PORT" > "$WORK/$1.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null -H 'Content-Type: application/json' -d "$BODY" "$URL"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "$1 exited before answering, see $WORK/$1.log" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed $rss"
+}
+
+median() {
+    sort -n | awk '{v[NR] = $1} END {print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2}'
+}
+
+MODES="jar cds aot-cds"
+if [ -x "$NATIVE" ]; then
+    MODES="$MODES native"
+fi
+
+printf '%-8s %18s %12s\n' mode "first response ms" "rss MB"
+for mode in $MODES; do
+    results=$(for _ in $(seq "$RUNS"); do measure "$mode"; done)
+    millis=$(echo "$results" | cut -d' ' -f1 | median)
+    rss=$(echo "$results" | cut -d' ' -f2 | median)
+    printf '%-8s %18s %12s\n' "$mode" "$millis" "$(( ${rss%.*} / 1024 ))"
+done
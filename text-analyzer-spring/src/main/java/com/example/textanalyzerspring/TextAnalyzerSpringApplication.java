@@ -1,12 +1,25 @@
 package com.example.textanalyzerspring;
 
+import com.example.textanalyzerspring.config.TextAnalyzerRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
+@ImportRuntimeHints(TextAnalyzerRuntimeHints.class)
 public class TextAnalyzerSpringApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(TextAnalyzerSpringApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(TextAnalyzerSpringApplication.class, args);
+        if (!(context instanceof WebServerApplicationContext)) {
+            // Command-line mode (bulk profile): nothing is left to serve once the runners are done
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
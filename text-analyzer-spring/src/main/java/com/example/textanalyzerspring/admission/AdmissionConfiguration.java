@@ -0,0 +1,30 @@
+package com.example.textanalyzerspring.admission;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "text-analyzer.admission", name = "enabled", matchIfMissing = true)
+public class AdmissionConfiguration {
+
+    @Bean
+    public RequestBudget requestBudget(TextAnalyzerProperties properties) {
+        return new RequestBudget(properties.getAdmission());
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            RequestBudget budget, @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionControlFilter(budget, exceptionResolver));
+        registration.addUrlPatterns("/api/text-analyzer/*");
+        return registration;
+    }
+}
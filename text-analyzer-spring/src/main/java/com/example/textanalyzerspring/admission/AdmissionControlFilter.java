@@ -0,0 +1,191 @@
+package com.example.textanalyzerspring.admission;
+
+import com.example.textanalyzerspring.exception.RequestTooLargeException;
+import com.example.textanalyzerspring.exception.ServerBusyException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Charges the body of every API request against the {@link RequestBudget} before it
+ * is read, and gives the budget back once the response is complete. Rejections are
+ * rendered by the regular exception handlers.
+ */
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    // Bodies of these endpoints go through a fixed-size buffer or to disk, never whole into the heap
+    private static final Set<String> STREAMED_PATHS = Set.of(
+            "/api/text-analyzer/analyze/stream",
+            "/api/text-analyzer/jobs/upload");
+
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    private final RequestBudget budget;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return STREAMED_PATHS.contains(PATH_HELPER.getPathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long length = request.getContentLengthLong();
+        boolean chunked = length < 0 && request.getHeader(HttpHeaders.TRANSFER_ENCODING) != null;
+        if (length <= 0 && !chunked) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // The length of a chunked body is unknown up front, so it is held to the maximum size
+        long size = chunked ? budget.getMaxRequestSize() : length;
+        try {
+            budget.acquire(size);
+        } catch (RequestTooLargeException | ServerBusyException e) {
+            if (exceptionResolver.resolveException(request, response, null, e) == null) {
+                throw e;
+            }
+            return;
+        }
+
+        boolean releaseLater = false;
+        try {
+            chain.doFilter(chunked ? new LimitedBodyRequest(request, size) : request, response);
+            if (request.isAsyncStarted()) {
+                // Event streams keep the request text until the async response completes
+                request.getAsyncContext().addListener(new ReleasingListener(size));
+                releaseLater = true;
+            }
+        } finally {
+            if (!releaseLater) {
+                budget.release(size);
+            }
+        }
+    }
+
+    private final class ReleasingListener implements AsyncListener {
+
+        private final long size;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingListener(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                budget.release(size);
+            }
+        }
+    }
+
+    /**
+     * Fails the read of a chunked body as soon as it grows past the reserved size.
+     */
+    static final class LimitedBodyRequest extends HttpServletRequestWrapper {
+
+        private final long limit;
+        private ServletInputStream limited;
+
+        LimitedBodyRequest(HttpServletRequest request, long limit) {
+            super(request);
+            this.limit = limit;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (limited == null) {
+                limited = new LimitedInputStream(super.getInputStream(), limit);
+            }
+            return limited;
+        }
+    }
+
+    private static final class LimitedInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final long limit;
+        private long count;
+
+        private LimitedInputStream(ServletInputStream delegate, long limit) {
+            this.delegate = delegate;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            if (value >= 0) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        private void count(int read) {
+            count += read;
+            if (count > limit) {
+                throw new RequestTooLargeException(limit);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.textanalyzerspring.admission;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.exception.RequestTooLargeException;
+import com.example.textanalyzerspring.exception.ServerBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Memory budget for the request bodies being processed. Small bodies take the fast
+ * lane: they never wait and may use the whole budget. Larger bodies wait up to
+ * max-wait for room outside the fast-lane reserve, so they cannot crowd out small
+ * requests and the heap never holds more than the budget in request bodies.
+ */
+@Slf4j
+public class RequestBudget implements MeterBinder {
+
+    private final long capacity;
+    private final long standardCapacity;
+    private final long maxRequestSize;
+    private final long fastLaneSize;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    // Written under the lock, read without it by the gauges
+    private volatile long inUse;
+    private volatile int waiting;
+
+    private final LongAdder fastAdmitted = new LongAdder();
+    private final LongAdder standardAdmitted = new LongAdder();
+    private final LongAdder rejectedBusy = new LongAdder();
+    private final LongAdder rejectedTooLarge = new LongAdder();
+
+    public RequestBudget(TextAnalyzerProperties.Admission properties) {
+        this(properties, Runtime.getRuntime().maxMemory());
+    }
+
+    RequestBudget(TextAnalyzerProperties.Admission properties, long maxHeap) {
+        long budget = properties.getBudget().toBytes();
+        this.capacity = budget > 0 ? budget : maxHeap / 4;
+        this.standardCapacity = capacity - properties.getFastLaneReserve().toBytes();
+        if (standardCapacity <= 0) {
+            throw new IllegalArgumentException("Admission budget of " + capacity
+                    + " bytes leaves nothing outside the fast-lane reserve");
+        }
+        long maxRequestSize = properties.getMaxRequestSize().toBytes();
+        if (maxRequestSize > standardCapacity) {
+            log.warn("Lowering the maximum request size to {} bytes to fit the admission budget", standardCapacity);
+            maxRequestSize = standardCapacity;
+        }
+        this.maxRequestSize = maxRequestSize;
+        this.fastLaneSize = properties.getFastLaneSize().toBytes();
+        this.maxWaitNanos = properties.getMaxWait().toNanos();
+        this.retryAfter = properties.getRetryAfter();
+    }
+
+    /**
+     * Reserves {@code size} bytes of the budget, to be given back with {@link #release(long)}.
+     *
+     * @throws RequestTooLargeException when the body can never be admitted
+     * @throws ServerBusyException when there is no room for the body in time
+     */
+    public void acquire(long size) {
+        if (size > maxRequestSize) {
+            rejectedTooLarge.increment();
+            throw new RequestTooLargeException(maxRequestSize);
+        }
+        lock.lock();
+        try {
+            if (size <= fastLaneSize) {
+                if (inUse + size > capacity) {
+                    throw busy(size);
+                }
+                inUse += size;
+                fastAdmitted.increment();
+                return;
+            }
+
+            long remaining = maxWaitNanos;
+            waiting++;
+            try {
+                while (inUse + size > standardCapacity) {
+                    if (remaining <= 0) {
+                        throw busy(size);
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw busy(size);
+            } finally {
+                waiting--;
+            }
+            inUse += size;
+            standardAdmitted.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long size) {
+        lock.lock();
+        try {
+            inUse -= size;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getMaxRequestSize() {
+        return maxRequestSize;
+    }
+
+    public long getInUse() {
+        return inUse;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("text.analyzer.admission.budget", this, RequestBudget::getCapacity)
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("text.analyzer.admission.in.flight", this, RequestBudget::getInUse)
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("text.analyzer.admission.waiting", this, budget -> budget.waiting)
+                .register(registry);
+        FunctionCounter.builder("text.analyzer.admission.admitted", fastAdmitted, LongAdder::sum)
+                .tag("lane", "fast")
+                .register(registry);
+        FunctionCounter.builder("text.analyzer.admission.admitted", standardAdmitted, LongAdder::sum)
+                .tag("lane", "standard")
+                .register(registry);
+        FunctionCounter.builder("text.analyzer.admission.rejected", rejectedBusy, LongAdder::sum)
+                .tag("reason", "busy")
+                .register(registry);
+        FunctionCounter.builder("text.analyzer.admission.rejected", rejectedTooLarge, LongAdder::sum)
+                .tag("reason", "too_large")
+                .register(registry);
+    }
+
+    private ServerBusyException busy(long size) {
+        rejectedBusy.increment();
+        return new ServerBusyException(size, retryAfter);
+    }
+}
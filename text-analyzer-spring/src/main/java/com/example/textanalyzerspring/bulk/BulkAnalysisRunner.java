@@ -0,0 +1,65 @@
+package com.example.textanalyzerspring.bulk;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.BulkAnalysisReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the bulk analysis at startup when {@code text-analyzer.bulk.enabled} is set,
+ * normally through the {@code bulk} profile, and writes the report as JSON. The exit
+ * code is 1 when a file could not be read.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "text-analyzer.bulk", name = "enabled", havingValue = "true")
+public class BulkAnalysisRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    private final BulkAnalysisService bulkAnalysisService;
+    private final TextAnalyzerProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private int exitCode;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        TextAnalyzerProperties.Bulk bulk = properties.getBulk();
+        List<Path> paths = new ArrayList<>(bulk.getPaths());
+        args.getNonOptionArgs().forEach(arg -> paths.add(Path.of(arg)));
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "No paths to analyze, set text-analyzer.bulk.paths or pass them as arguments");
+        }
+
+        BulkAnalysisReport report = bulkAnalysisService.analyze(paths, bulk.getParameterTypes());
+        log.info("Analyzed {} files, {} bytes in {} ms ({} MB/s), {} failed", report.getFiles().size(),
+                report.getByteCount(), report.getElapsedMillis(),
+                String.format("%.1f", report.getMegabytesPerSecond()), report.getFailedCount());
+
+        ObjectWriter writer = objectMapper.writerWithDefaultPrettyPrinter();
+        if (bulk.getOutput() != null) {
+            writer.writeValue(bulk.getOutput().toFile(), report);
+        } else {
+            System.out.println(writer.writeValueAsString(report));
+        }
+        exitCode = report.getFailedCount() > 0 ? 1 : 0;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
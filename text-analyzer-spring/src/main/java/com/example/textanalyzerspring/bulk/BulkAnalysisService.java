@@ -0,0 +1,216 @@
+package com.example.textanalyzerspring.bulk;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.CharacterAnalyzer;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.LetterHistogram;
+import com.example.textanalyzerspring.model.BulkAnalysisReport;
+import com.example.textanalyzerspring.model.BulkFileResult;
+import com.example.textanalyzerspring.model.ParameterType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * Analyzes files and directory trees offline. Each file is memory-mapped in
+ * segments that are decoded from UTF-8 and counted in parallel, so large files
+ * use every worker and nothing is copied through the heap. Segment boundaries are
+ * moved forward to the start of a UTF-8 sequence, no character is split between
+ * two segments.
+ */
+@Slf4j
+@Service
+public class BulkAnalysisService {
+
+    private static final int CHAR_BUFFER_SIZE = 1 << 16;
+    private static final long MIN_SEGMENT_SIZE = 1024;
+
+    private final HistogramLetterCountingEngine engine;
+    private final int threads;
+    private final long segmentSize;
+
+    public BulkAnalysisService(HistogramLetterCountingEngine engine, TextAnalyzerProperties properties) {
+        this.engine = engine;
+        this.threads = properties.getBulk().getThreads() > 0
+                ? properties.getBulk().getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        this.segmentSize = properties.getBulk().getSegmentSize().toBytes();
+        if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bulk segment size must be between 1KB and 2GB");
+        }
+    }
+
+    public BulkAnalysisReport analyze(List<Path> paths, Set<ParameterType> parameterTypes) throws IOException {
+        if (parameterTypes == null || parameterTypes.isEmpty()) {
+            throw new IllegalArgumentException("Parameter Types cannot be empty");
+        }
+
+        long start = System.nanoTime();
+        List<Path> files = listFiles(paths);
+        CharacterAnalyzer[] analyzers = engine.analyzers(parameterTypes);
+        log.info("Analyzing {} files with {} threads", files.size(), threads);
+
+        List<BulkFileResult> results = new ArrayList<>(files.size());
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<ForkJoinTask<BulkFileResult>> tasks = files.stream()
+                    .map(file -> pool.submit(new FileTask(file, analyzers)))
+                    .toList();
+            tasks.forEach(task -> results.add(task.join()));
+        } finally {
+            pool.shutdown();
+        }
+
+        Map<ParameterType, Map<Character, Long>> totals = new EnumMap<>(ParameterType.class);
+        long bytes = 0;
+        long characters = 0;
+        int failed = 0;
+        for (BulkFileResult result : results) {
+            if (result.getError() != null) {
+                failed++;
+                continue;
+            }
+            bytes += result.getByteCount();
+            characters += result.getCharacterCount();
+            result.getAnalyses().forEach((parameterType, counts) -> counts.forEach((c, count) ->
+                    totals.computeIfAbsent(parameterType, type -> new TreeMap<>()).merge(c, count, Long::sum)));
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        double megabytesPerSecond = elapsedNanos == 0 ? 0 : bytes / (1024.0 * 1024.0) / (elapsedNanos / 1e9);
+        return new BulkAnalysisReport(results, failed, bytes, characters, totals,
+                elapsedNanos / 1_000_000, megabytesPerSecond, Instant.now());
+    }
+
+    private static void addCounts(Map<ParameterType, Map<Character, Long>> totals,
+                                  Map<ParameterType, Map<Character, Integer>> counts) {
+        counts.forEach((parameterType, typeCounts) -> {
+            Map<Character, Long> typeTotals = totals.computeIfAbsent(parameterType, type -> new TreeMap<>());
+            typeCounts.forEach((c, count) -> typeTotals.merge(c, count.longValue(), Long::sum));
+        });
+    }
+
+    /**
+     * Expands directories into the regular files below them, in path order.
+     */
+    static List<Path> listFiles(List<Path> paths) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path path : paths) {
+            if (!Files.exists(path)) {
+                throw new IllegalArgumentException("Path does not exist: " + path);
+            }
+            if (!Files.isDirectory(path)) {
+                files.add(path);
+                continue;
+            }
+            try (Stream<Path> tree = Files.walk(path)) {
+                tree.filter(Files::isRegularFile).sorted().forEach(files::add);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Moves {@code position} past UTF-8 continuation bytes, at most three, so that
+     * it lands on the first byte of a sequence.
+     */
+    static long alignToSequenceStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(3);
+        channel.read(probe, position);
+        int skip = 0;
+        while (skip < probe.position() && (probe.get(skip) & 0xC0) == 0x80) {
+            skip++;
+        }
+        return Math.min(position + skip, size);
+    }
+
+    private final class FileTask extends RecursiveTask<BulkFileResult> {
+
+        private final Path file;
+        private final CharacterAnalyzer[] analyzers;
+
+        private FileTask(Path file, CharacterAnalyzer[] analyzers) {
+            this.file = file;
+            this.analyzers = analyzers;
+        }
+
+        @Override
+        protected BulkFileResult compute() {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                List<SegmentTask> segments = new ArrayList<>();
+                long from = 0;
+                while (from < size) {
+                    long to = from + segmentSize < size
+                            ? alignToSequenceStart(channel, from + segmentSize, size)
+                            : size;
+                    segments.add(new SegmentTask(channel.map(FileChannel.MapMode.READ_ONLY, from, to - from),
+                            analyzers));
+                    from = to;
+                }
+                invokeAll(segments);
+
+                // Seeded from empty histograms so that always-present letters show up in empty files too
+                Map<ParameterType, Map<Character, Long>> analyses = new EnumMap<>(ParameterType.class);
+                addCounts(analyses, engine.toCounts(analyzers,
+                        HistogramLetterCountingEngine.newHistograms(analyzers.length)));
+                long characters = 0;
+                for (SegmentTask segment : segments) {
+                    SegmentCounts counts = segment.join();
+                    characters += counts.characters();
+                    addCounts(analyses, engine.toCounts(analyzers, counts.histograms()));
+                }
+                return new BulkFileResult(file.toString(), size, characters, analyses, null);
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("Could not analyze {}: {}", file, e.getMessage());
+                return new BulkFileResult(file.toString(), 0, 0, null, e.getMessage());
+            }
+        }
+    }
+
+    private final class SegmentTask extends RecursiveTask<SegmentCounts> {
+
+        private final MappedByteBuffer segment;
+        private final CharacterAnalyzer[] analyzers;
+
+        private SegmentTask(MappedByteBuffer segment, CharacterAnalyzer[] analyzers) {
+            this.segment = segment;
+            this.analyzers = analyzers;
+        }
+
+        @Override
+        protected SegmentCounts compute() {
+            LetterHistogram[] histograms = HistogramLetterCountingEngine.newHistograms(analyzers.length);
+            char[] chars = new char[CHAR_BUFFER_SIZE];
+            long characters = 0;
+            while (segment.hasRemaining()) {
+                int decoded = Utf8Decoder.decode(segment, chars);
+                engine.accumulateAll(chars, 0, decoded, analyzers, histograms);
+                characters += decoded;
+            }
+            return new SegmentCounts(characters, histograms);
+        }
+    }
+
+    private record SegmentCounts(long characters, LetterHistogram[] histograms) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.textanalyzerspring.bulk;
+
+import java.nio.ByteBuffer;
+
+/**
+ * UTF-8 decoder working directly on a (memory-mapped) byte buffer. Runs of ASCII
+ * are checked eight bytes at a time and widened without any table lookup; other
+ * sequences are decoded by hand. Malformed input becomes U+FFFD exactly as with
+ * the JDK decoder and {@code REPLACE}: one per maximal invalid subpart, except that
+ * an encoded surrogate is replaced by a single U+FFFD.
+ */
+final class Utf8Decoder {
+
+    static final char REPLACEMENT = '\uFFFD';
+
+    private static final long NON_ASCII = 0x8080808080808080L;
+
+    private Utf8Decoder() {
+    }
+
+    /**
+     * Decodes from the position of {@code source} into {@code target}, starting at
+     * index 0, until the source is exhausted or the target has no room for another
+     * surrogate pair. The source position is left on a sequence boundary; a sequence
+     * cut short by the source limit is replaced.
+     *
+     * @return the number of chars written
+     */
+    static int decode(ByteBuffer source, char[] target) {
+        int position = source.position();
+        int limit = source.limit();
+        int count = 0;
+        int last = target.length - 1;
+
+        while (position < limit && count < last) {
+            if (position + Long.BYTES <= limit && count + Long.BYTES <= target.length) {
+                long word = source.getLong(position);
+                if ((word & NON_ASCII) == 0) {
+                    widen(word, target, count);
+                    position += Long.BYTES;
+                    count += Long.BYTES;
+                    continue;
+                }
+            }
+
+            int lead = source.get(position) & 0xFF;
+            if (lead < 0x80) {
+                target[count++] = (char) lead;
+                position++;
+                continue;
+            }
+
+            int length;
+            int secondMin = 0x80;
+            int secondMax = 0xBF;
+            if (lead >= 0xC2 && lead <= 0xDF) {
+                length = 2;
+            } else if (lead >= 0xE0 && lead <= 0xEF) {
+                length = 3;
+                if (lead == 0xE0) {
+                    secondMin = 0xA0;
+                }
+            } else if (lead >= 0xF0 && lead <= 0xF4) {
+                length = 4;
+                if (lead == 0xF0) {
+                    secondMin = 0x90;
+                } else if (lead == 0xF4) {
+                    secondMax = 0x8F;
+                }
+            } else {
+                target[count++] = REPLACEMENT;
+                position++;
+                continue;
+            }
+
+            int codePoint = lead & (0x7F >> length);
+            int consumed = 1;
+            while (consumed < length && position + consumed < limit) {
+                int next = source.get(position + consumed) & 0xFF;
+                if (next < (consumed == 1 ? secondMin : 0x80) || next > (consumed == 1 ? secondMax : 0xBF)) {
+                    break;
+                }
+                codePoint = (codePoint << 6) | (next & 0x3F);
+                consumed++;
+            }
+            position += consumed;
+
+            if (consumed < length || (length == 3 && Character.isSurrogate((char) codePoint))) {
+                target[count++] = REPLACEMENT;
+            } else if (length == 4) {
+                target[count++] = Character.highSurrogate(codePoint);
+                target[count++] = Character.lowSurrogate(codePoint);
+            } else {
+                target[count++] = (char) codePoint;
+            }
+        }
+
+        source.position(position);
+        return count;
+    }
+
+    /**
+     * Copies eight ASCII bytes read in big-endian order into {@code target}.
+     */
+    private static void widen(long word, char[] target, int offset) {
+        target[offset] = (char) (word >>> 56);
+        target[offset + 1] = (char) ((word >>> 48) & 0x7F);
+        target[offset + 2] = (char) ((word >>> 40) & 0x7F);
+        target[offset + 3] = (char) ((word >>> 32) & 0x7F);
+        target[offset + 4] = (char) ((word >>> 24) & 0x7F);
+        target[offset + 5] = (char) ((word >>> 16) & 0x7F);
+        target[offset + 6] = (char) ((word >>> 8) & 0x7F);
+        target[offset + 7] = (char) (word & 0x7F);
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.textanalyzerspring.cache;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of letter counts keyed by the content of the analyzed text. Only the
+ * compact counts are stored, never the text, and the cache is bounded by an
+ * estimated weight in bytes rather than by entry count.
+ * <p>
+ * Keys combine the parameter type, the text length and the SHA-256 digest of the
+ * text, so a wrong hit needs a SHA-256 collision at equal length. Texts longer than
+ * {@code text-analyzer.cache.max-text-length} bypass the cache, since digesting them
+ * costs about as much as counting them.
+ */
+@Component
+public class AnalysisResultCache implements MeterBinder {
+
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    private final boolean enabled;
+    private final long maxWeightBytes;
+    private final int maxTextLength;
+    private final MessageDigest digestPrototype;
+
+    private final LinkedHashMap<CacheKey, CachedCounts> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long weightBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public AnalysisResultCache(TextAnalyzerProperties properties) {
+        this.enabled = properties.getCache().isEnabled();
+        this.maxWeightBytes = properties.getCache().getMaxWeight().toBytes();
+        this.maxTextLength = properties.getCache().getMaxTextLength();
+        try {
+            this.digestPrototype = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public Map<Character, Integer> get(ParameterType parameterType, String text,
+                                       Supplier<Map<Character, Integer>> loader) {
+        if (!enabled || text.length() > maxTextLength) {
+            return loader.get();
+        }
+
+        CacheKey key = key(parameterType, text);
+        CachedCounts cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached.toMap();
+        }
+
+        misses.increment();
+        Map<Character, Integer> counts = loader.get();
+        put(key, CachedCounts.of(counts));
+        return counts;
+    }
+
+    public CacheStats stats() {
+        synchronized (entries) {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), weightBytes);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("text.analyzer.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("text.analyzer.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("text.analyzer.cache.evictions", evictions, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("text.analyzer.cache.entries", this, cache -> cache.stats().entries())
+                .register(registry);
+        Gauge.builder("text.analyzer.cache.weight", this, cache -> cache.stats().weightBytes())
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weightBytes = 0;
+        }
+    }
+
+    CacheKey key(ParameterType parameterType, String text) {
+        MessageDigest digest = newDigest();
+        byte[] chunk = new byte[Math.min(2 * text.length(), 1024)];
+        for (int i = 0, length = text.length(); i < length; ) {
+            int n = 0;
+            for (; n < chunk.length && i < length; i++) {
+                char c = text.charAt(i);
+                chunk[n++] = (byte) (c >>> 8);
+                chunk[n++] = (byte) c;
+            }
+            digest.update(chunk, 0, n);
+        }
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+        return new CacheKey(parameterType, text.length(),
+                hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return (MessageDigest) digestPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digest cannot be cloned", e);
+        }
+    }
+
+    private void put(CacheKey key, CachedCounts counts) {
+        long weight = ENTRY_OVERHEAD_BYTES + counts.weight();
+        if (weight > maxWeightBytes) {
+            return;
+        }
+
+        synchronized (entries) {
+            CachedCounts previous = entries.put(key, counts);
+            if (previous != null) {
+                weightBytes -= ENTRY_OVERHEAD_BYTES + previous.weight();
+            }
+            weightBytes += weight;
+
+            Iterator<Map.Entry<CacheKey, CachedCounts>> eldest = entries.entrySet().iterator();
+            while (weightBytes > maxWeightBytes && eldest.hasNext()) {
+                weightBytes -= ENTRY_OVERHEAD_BYTES + eldest.next().getValue().weight();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    record CacheKey(ParameterType parameterType, int length, long hash1, long hash2, long hash3, long hash4) {
+    }
+
+    public record CacheStats(long hits, long misses, long evictions, int entries, long weightBytes) {
+    }
+
+    private record CachedCounts(char[] letters, int[] counts) {
+
+        static CachedCounts of(Map<Character, Integer> map) {
+            char[] letters = new char[map.size()];
+            int[] counts = new int[map.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> entry : map.entrySet()) {
+                letters[i] = entry.getKey();
+                counts[i++] = entry.getValue();
+            }
+            return new CachedCounts(letters, counts);
+        }
+
+        Map<Character, Integer> toMap() {
+            Map<Character, Integer> map = new LinkedHashMap<>();
+            for (int i = 0; i < letters.length; i++) {
+                map.put(letters[i], counts[i]);
+            }
+            return map;
+        }
+
+        long weight() {
+            return 2L * letters.length + 4L * counts.length;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.textanalyzerspring.cluster;
+
+import com.example.textanalyzerspring.config.JacksonConfiguration;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesShardResult;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Sends shards to the shard-count endpoint of a peer, authenticated by the shared
+ * cluster token. Responses are requested in Smile, which keeps the histograms
+ * small on the wire.
+ */
+@Component
+public class ShardPeerClient {
+
+    static final String SHARD_COUNT_PATH = "/api/text-analyzer/shards/count";
+
+    public static final String TOKEN_HEADER = "X-Cluster-Token";
+
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    private final RestClient restClient;
+    private final String token;
+
+    public ShardPeerClient(TextAnalyzerProperties properties) {
+        this.token = properties.getCluster().getToken();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getCluster().getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getCluster().getReadTimeout());
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    /**
+     * Counts {@code shard} on {@code peer}.
+     *
+     * @throws RestClientException when the peer cannot be reached or answers with an error
+     */
+    public TextAnalysesShardResult count(URI peer, String shard, Set<ParameterType> parameterTypes) {
+        URI uri = UriComponentsBuilder.fromUri(peer)
+                .path(SHARD_COUNT_PATH)
+                .queryParam("parameterTypes", parameterTypes.toArray())
+                .build()
+                .toUri();
+        return restClient.post()
+                .uri(uri)
+                .contentType(TEXT_PLAIN_UTF8)
+                .header(TOKEN_HEADER, token)
+                .accept(JacksonConfiguration.APPLICATION_SMILE, MediaType.APPLICATION_JSON)
+                .body(shard)
+                .retrieve()
+                .body(TextAnalysesShardResult.class);
+    }
+}
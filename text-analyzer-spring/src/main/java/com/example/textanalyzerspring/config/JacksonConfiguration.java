@@ -0,0 +1,63 @@
+package com.example.textanalyzerspring.config;
+
+import com.example.textanalyzerspring.pool.ScratchPools;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Jackson tuning shared by the JSON and Smile mappers. Blackbird replaces reflective
+ * property access with generated lambdas. The Smile mappers are built from the same
+ * builder as the JSON one so both formats carry the same settings; the servlet stack
+ * registers its Smile converter in {@code MetricsConfiguration}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JacksonConfiguration {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Jackson keeps its parser and generator buffers in thread locals, which a fresh
+     * virtual thread per request never finds again. With virtual threads they come
+     * from a shared pool bounded like the other scratch pools.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Jackson2ObjectMapperBuilderCustomizer boundedRecyclerPool(ScratchPools pools) {
+        RecyclerPool<BufferRecycler> recyclerPool = pools.maxIdle() > 0
+                ? JsonRecyclerPools.newBoundedPool(pools.maxIdle())
+                : JsonRecyclerPools.nonRecyclingPool();
+        // A factory per mapper, the factory keeps a reference to its mapper
+        return builder -> builder.factory(JsonFactory.builder().recyclerPool(recyclerPool).build());
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public CodecCustomizer smileCodecCustomizer(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper smileMapper = builder.factory(new SmileFactory()).build();
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, APPLICATION_SMILE));
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, APPLICATION_SMILE));
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.textanalyzerspring.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serves the reactive variant on Netty. Tomcat is on the classpath for the servlet
+ * stack and would otherwise be picked for the reactive server as well.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfiguration {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * WebFlux decoders buffer at most 256KB of a body by default. JSON and Smile
+     * bodies may be as large as the servlet stack admits, larger ones end in 413.
+     */
+    @Bean
+    public CodecCustomizer maxInMemorySizeCodecCustomizer(TextAnalyzerProperties properties) {
+        int maxInMemorySize = Math.toIntExact(properties.getAdmission().getMaxRequestSize().toBytes());
+        return configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize);
+    }
+}
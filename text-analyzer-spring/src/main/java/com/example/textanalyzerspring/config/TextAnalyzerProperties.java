@@ -0,0 +1,320 @@
+package com.example.textanalyzerspring.config;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "text-analyzer")
+public class TextAnalyzerProperties {
+
+    @Valid
+    private Stream stream = new Stream();
+
+    @Valid
+    private Parallel parallel = new Parallel();
+
+    @Valid
+    private Batch batch = new Batch();
+
+    @Valid
+    private Cache cache = new Cache();
+
+    @Valid
+    private Counting counting = new Counting();
+
+    @Valid
+    private Letters letters = new Letters();
+
+    @Valid
+    private Session session = new Session();
+
+    @Valid
+    private Bulk bulk = new Bulk();
+
+    @Valid
+    private Jobs jobs = new Jobs();
+
+    @Valid
+    private Progress progress = new Progress();
+
+    @Valid
+    private Cluster cluster = new Cluster();
+
+    @Valid
+    private Admission admission = new Admission();
+
+    @Valid
+    private Terms terms = new Terms();
+
+    @Valid
+    private ResultStore resultStore = new ResultStore();
+
+    @Valid
+    private Pool pool = new Pool();
+
+    @Data
+    public static class Stream {
+
+        @Min(64)
+        private int bufferSize = 8192;
+    }
+
+    @Data
+    public static class Parallel {
+
+        private boolean enabled = true;
+
+        @Min(0)
+        private int threshold = 1 << 20;
+
+        @Min(1024)
+        private int chunkSize = 1 << 18;
+
+        // 0 means one worker per available processor
+        @Min(0)
+        private int poolSize = 0;
+    }
+
+    @Data
+    public static class Batch {
+
+        @Min(1)
+        private int maxSize = 1000;
+    }
+
+    @Data
+    public static class Cache {
+
+        private boolean enabled = true;
+
+        private DataSize maxWeight = DataSize.ofMegabytes(16);
+
+        // Longer texts are counted without the cache, hashing them costs about as much as counting
+        @Min(0)
+        private int maxTextLength = 1 << 20;
+    }
+
+    @Data
+    public static class Counting {
+
+        // Run large counts on a bounded platform-thread pool instead of the request thread
+        private boolean offloadEnabled = false;
+
+        @Min(0)
+        private int offloadThreshold = 64 * 1024;
+
+        // 0 means one thread per available processor
+        @Min(0)
+        private int maxThreads = 0;
+
+        @Min(1)
+        private int queueCapacity = 1000;
+    }
+
+    @Data
+    public static class Letters {
+
+        // Locale used to upper-case letters before they are classified, e.g. "tr"
+        private Locale locale = Locale.ROOT;
+
+        // Accented letters count as a vowel when their base letter is listed here
+        @NotBlank
+        private String vowels = "AEIOU";
+    }
+
+    @Data
+    public static class Session {
+
+        // Least recently used sessions are dropped beyond this
+        @Min(1)
+        private int maxSessions = 1000;
+
+        // Memory stays below roughly max-sessions x max-length x 2 bytes
+        @Min(1)
+        private int maxLength = 1 << 18;
+
+        private Duration idleTimeout = Duration.ofMinutes(15);
+
+        private Duration evictionInterval = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Bulk {
+
+        // Analyze files at startup instead of serving requests, see the bulk profile
+        private boolean enabled = false;
+
+        // Files and directories to analyze, non-option command-line arguments are added
+        private List<Path> paths = new ArrayList<>();
+
+        @NotEmpty
+        private Set<ParameterType> parameterTypes = EnumSet.of(ParameterType.VOWELS, ParameterType.CONSONANTS);
+
+        // JSON report file, standard output when not set
+        private Path output;
+
+        // 0 means one thread per available processor
+        @Min(0)
+        private int threads = 0;
+
+        // Files are mapped and counted in segments of this size, between 1KB and 2GB
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+    }
+
+    @Data
+    public static class Jobs {
+
+        // Finished jobs and pending uploads are stored here and survive restarts
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "text-analyzer-jobs");
+
+        // 0 means one worker per available processor
+        @Min(0)
+        private int workers = 0;
+
+        // Jobs waiting for a worker, further submissions are rejected with 429
+        @Min(1)
+        private int queueCapacity = 100;
+
+        private Duration resultTtl = Duration.ofHours(24);
+
+        private Duration cleanupInterval = Duration.ofMinutes(1);
+
+        // Upper bound for the wait of a long-poll request
+        private Duration maxWait = Duration.ofSeconds(30);
+
+        // Suggested to clients in the Retry-After header when the queue is full
+        private Duration retryAfter = Duration.ofSeconds(5);
+
+        private DataSize maxUploadSize = DataSize.ofGigabytes(1);
+    }
+
+    @Data
+    public static class Progress {
+
+        // Minimum time between two progress events, checked after every chunk
+        private Duration interval = Duration.ofMillis(500);
+
+        @Min(1024)
+        private int chunkSize = 1 << 16;
+
+        // The event stream is closed when the count has not finished within this time
+        private Duration timeout = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Cluster {
+
+        // Base URLs of the peer instances shards are sent to, e.g. http://analyzer-2:8080
+        private List<URI> peers = new ArrayList<>();
+
+        // Characters per shard, a shard never ends between the two halves of a surrogate pair
+        @Min(1024)
+        private int shardSize = 1 << 20;
+
+        // Peers tried per shard before it is counted by the coordinator itself
+        @Min(1)
+        private int maxAttempts = 3;
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        private Duration readTimeout = Duration.ofSeconds(30);
+
+        // Shared secret peers send with every shard, /shards/count refuses all requests while it is empty
+        private String token = "";
+
+        // Shards in flight at once, 0 means two per peer
+        @Min(0)
+        private int parallelism = 0;
+    }
+
+    @Data
+    public static class Admission {
+
+        private boolean enabled = true;
+
+        // Request bodies held in memory at once, 0 means a quarter of the maximum heap
+        private DataSize budget = DataSize.ofBytes(0);
+
+        // Larger bodies are rejected with 413, bodies without a length reserve this much
+        private DataSize maxRequestSize = DataSize.ofMegabytes(32);
+
+        // Bodies up to this size are admitted without waiting, or rejected right away
+        private DataSize fastLaneSize = DataSize.ofKilobytes(64);
+
+        // Part of the budget that only the fast lane may use
+        private DataSize fastLaneReserve = DataSize.ofMegabytes(8);
+
+        // Longest time a larger body waits for budget before it is rejected with 429
+        private Duration maxWait = Duration.ofSeconds(2);
+
+        // Suggested to clients in the Retry-After header
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Terms {
+
+        // Most frequent words or n-grams reported per type
+        @Min(1)
+        private int topK = 20;
+
+        // Code points per n-gram
+        @Min(1)
+        private int ngramLength = 3;
+
+        // Inputs up to this many characters are counted exactly, larger ones approximately
+        @Min(0)
+        private int exactThreshold = 1 << 20;
+
+        // Terms monitored in approximate mode, about 48 bytes each; no count is more than
+        // total terms / counters too high
+        @Min(1)
+        private int counters = 10_000;
+    }
+
+    @Data
+    public static class ResultStore {
+
+        // Keeps the letter counts of every analysis in memory-mapped column files
+        private boolean enabled = false;
+
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "text-analyzer-results");
+
+        // Rows mapped per parameter type at first, doubled whenever they are used up
+        @Min(1)
+        private int initialCapacity = 1 << 16;
+    }
+
+    @Data
+    public static class Pool {
+
+        // Reuse histograms, decoders and decode buffers across requests
+        private boolean enabled = true;
+
+        // Idle objects kept per pool, 0 means two per available processor
+        @Min(0)
+        private int maxIdle = 0;
+
+        // One lease in this many remembers where it was taken and is reported if it is
+        // never returned; 0 disables the check
+        @Min(0)
+        private int leakDetectionInterval = 128;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.textanalyzerspring.config;
+
+import com.example.textanalyzerspring.exception.GlobalExceptionHandler;
+import com.example.textanalyzerspring.model.BulkAnalysisReport;
+import com.example.textanalyzerspring.model.BulkFileResult;
+import com.example.textanalyzerspring.model.JobPriority;
+import com.example.textanalyzerspring.model.JobStatus;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.ResultAggregate;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.model.TermCount;
+import com.example.textanalyzerspring.model.TermFrequencies;
+import com.example.textanalyzerspring.model.TextAnalysesBatchItem;
+import com.example.textanalyzerspring.model.TextAnalysesBatchRequest;
+import com.example.textanalyzerspring.model.TextAnalysesBatchResult;
+import com.example.textanalyzerspring.model.TextAnalysesJob;
+import com.example.textanalyzerspring.model.TextAnalysesProgress;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesSessionAppendRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionDeleteRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionResult;
+import com.example.textanalyzerspring.model.TextAnalysesSessionVerification;
+import com.example.textanalyzerspring.model.TextAnalysesShardResult;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reflection hints for the native image. Spring AOT only derives hints for the
+ * types it sees in controller signatures, which misses models nested in maps and
+ * lists, the job records read back from disk and the SSE payloads. Jackson binds the
+ * Lombok models through their generated constructors and accessors, so those are
+ * registered as a whole; the exception handler methods are invoked reflectively.
+ */
+public class TextAnalyzerRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> MODELS = List.of(
+            BulkAnalysisReport.class, BulkFileResult.class, JobPriority.class, JobStatus.class,
+            ParameterType.class, ResultAggregate.class, StreamAnalysesResult.class, TermCount.class,
+            TermFrequencies.class, TextAnalysesBatchItem.class, TextAnalysesBatchRequest.class,
+            TextAnalysesBatchResult.class, TextAnalysesJob.class, TextAnalysesProgress.class,
+            TextAnalysesRequest.class, TextAnalysesResult.class, TextAnalysesSessionAppendRequest.class,
+            TextAnalysesSessionDeleteRequest.class, TextAnalysesSessionRequest.class,
+            TextAnalysesSessionResult.class, TextAnalysesSessionVerification.class,
+            TextAnalysesShardResult.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> model : MODELS) {
+            hints.reflection().registerType(model,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+        hints.reflection().registerType(GlobalExceptionHandler.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+
+import java.util.Map;
+
+/**
+ * One pluggable metric of the counting engine. Every analyzer bean is registered
+ * with {@link HistogramLetterCountingEngine} under its {@link ParameterType}.
+ */
+public interface CharacterAnalyzer {
+
+    ParameterType parameterType();
+
+    void accumulate(String text, int from, int to, LetterHistogram histogram);
+
+    void accumulate(char[] chars, int from, int to, LetterHistogram histogram);
+
+    Map<Character, Integer> toCounts(LetterHistogram histogram);
+}
@@ -0,0 +1,12 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConsonantAnalyzer extends TableCharacterAnalyzer {
+
+    public ConsonantAnalyzer(LetterClassifier letters) {
+        super(ParameterType.CONSONANTS, "", letters::consonantsOf);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DigitAnalyzer extends TableCharacterAnalyzer {
+
+    public DigitAnalyzer() {
+        super(ParameterType.DIGITS, "", codePoint -> when(Character.isDigit(codePoint), codePoint));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.TermCount;
+import com.example.textanalyzerspring.model.TermFrequencies;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Exact term counts in an open-addressing table of primitive arrays, keyed by the
+ * term hash and its first occurrence in the text. Grows with the number of
+ * distinct terms, so it is only used for inputs of bounded size.
+ */
+final class ExactTermCounter implements TermCounter {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private final String text;
+    private long[] hashes = new long[INITIAL_CAPACITY];
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] ends = new int[INITIAL_CAPACITY];
+    // 0 marks an empty slot
+    private long[] counts = new long[INITIAL_CAPACITY];
+    private int size;
+    private long total;
+
+    ExactTermCounter(String text) {
+        this.text = text;
+    }
+
+    @Override
+    public void add(int start, int end) {
+        total++;
+        long hash = Terms.hash(text, start, end);
+        int mask = counts.length - 1;
+        for (int slot = Terms.slot(hash, mask); ; slot = (slot + 1) & mask) {
+            if (counts[slot] == 0) {
+                hashes[slot] = hash;
+                starts[slot] = start;
+                ends[slot] = end;
+                counts[slot] = 1;
+                if (++size * 2 > counts.length) {
+                    grow();
+                }
+                return;
+            }
+            if (hashes[slot] == hash && Terms.equal(text, starts[slot], ends[slot], start, end)) {
+                counts[slot]++;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public TermFrequencies result(int topK) {
+        List<TermCount> top = new ArrayList<>(Math.min(topK, size));
+        for (int slot : Terms.largest(counts, counts.length, topK)) {
+            top.add(new TermCount(Terms.toString(text, starts[slot], ends[slot]), counts[slot]));
+        }
+        top.sort(Comparator.comparingLong(TermCount::getCount).reversed().thenComparing(TermCount::getTerm));
+        return new TermFrequencies(true, total, size, null, top);
+    }
+
+    private void grow() {
+        long[] oldHashes = hashes;
+        int[] oldStarts = starts;
+        int[] oldEnds = ends;
+        long[] oldCounts = counts;
+        int capacity = oldCounts.length * 2;
+        hashes = new long[capacity];
+        starts = new int[capacity];
+        ends = new int[capacity];
+        counts = new long[capacity];
+        int mask = capacity - 1;
+        for (int old = 0; old < oldCounts.length; old++) {
+            if (oldCounts[old] == 0) {
+                continue;
+            }
+            int slot = Terms.slot(oldHashes[old], mask);
+            while (counts[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = oldHashes[old];
+            starts[slot] = oldStarts[old];
+            ends[slot] = oldEnds[old];
+            counts[slot] = oldCounts[old];
+        }
+    }
+}
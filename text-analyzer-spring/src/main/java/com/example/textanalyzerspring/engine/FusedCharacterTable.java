@@ -0,0 +1,84 @@
+package com.example.textanalyzerspring.engine;
+
+/**
+ * Merges the tables of several {@link TableCharacterAnalyzer}s into one, so a fused
+ * pass costs a single lookup per character. Characters counted by exactly one
+ * analyzer map straight to that analyzer's histogram; the rare characters claimed
+ * by several analyzers, expanding to several characters or starting a surrogate
+ * pair fall back to asking each analyzer in turn.
+ */
+final class FusedCharacterTable {
+
+    private final TableCharacterAnalyzer[] analyzers;
+    private final char[] targets = new char[Character.MAX_VALUE + 1];
+    private final byte[] owners = new byte[Character.MAX_VALUE + 1];
+
+    FusedCharacterTable(TableCharacterAnalyzer[] analyzers) {
+        if (analyzers.length > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many analyzers to fuse: " + analyzers.length);
+        }
+        this.analyzers = analyzers;
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            char target = TableCharacterAnalyzer.SKIP;
+            int owner = -1;
+            for (int i = 0; i < analyzers.length; i++) {
+                char candidate = analyzers[i].target((char) c);
+                if (candidate == TableCharacterAnalyzer.SKIP) {
+                    continue;
+                }
+                target = owner < 0 ? candidate : TableCharacterAnalyzer.EXPAND;
+                owner = i;
+            }
+            targets[c] = target;
+            owners[c] = (byte) owner;
+        }
+    }
+
+    void accumulate(String text, int from, int to, LetterHistogram[] histograms) {
+        char[] targets = this.targets;
+        byte[] owners = this.owners;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            char target = targets[c];
+            if (target == TableCharacterAnalyzer.SKIP) {
+                continue;
+            }
+            if (target != TableCharacterAnalyzer.EXPAND) {
+                histograms[owners[c]].increment(target);
+            } else if (!Character.isHighSurrogate(c)) {
+                for (int a = 0; a < analyzers.length; a++) {
+                    analyzers[a].accumulate(c, histograms[a]);
+                }
+            } else if (i + 1 < to && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                for (int a = 0; a < analyzers.length; a++) {
+                    analyzers[a].accumulateSupplementary(codePoint, histograms[a]);
+                }
+            }
+        }
+    }
+
+    void accumulate(char[] chars, int from, int to, LetterHistogram[] histograms) {
+        char[] targets = this.targets;
+        byte[] owners = this.owners;
+        for (int i = from; i < to; i++) {
+            char c = chars[i];
+            char target = targets[c];
+            if (target == TableCharacterAnalyzer.SKIP) {
+                continue;
+            }
+            if (target != TableCharacterAnalyzer.EXPAND) {
+                histograms[owners[c]].increment(target);
+            } else if (!Character.isHighSurrogate(c)) {
+                for (int a = 0; a < analyzers.length; a++) {
+                    analyzers[a].accumulate(c, histograms[a]);
+                }
+            } else if (i + 1 < to && Character.isLowSurrogate(chars[i + 1])) {
+                int codePoint = Character.toCodePoint(c, chars[++i]);
+                for (int a = 0; a < analyzers.length; a++) {
+                    analyzers[a].accumulateSupplementary(codePoint, histograms[a]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.pool.ScratchPool;
+import com.example.textanalyzerspring.pool.ScratchPools;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single pass, allocation free counting over a primitive {@link LetterHistogram}.
+ * The boxed result map is only built once counting is finished. When several
+ * table driven metrics are requested their tables are fused so every character is
+ * classified once; other analyzers consume the text block by block while it is
+ * still in cache. The histograms of {@link #count} and {@link #countAll} come from
+ * the scratch pools.
+ */
+@Component
+public class HistogramLetterCountingEngine implements LetterCountingEngine {
+
+    static final int BLOCK_SIZE = 4096;
+
+    private final Map<ParameterType, CharacterAnalyzer> analyzers = new EnumMap<>(ParameterType.class);
+    private final Map<List<CharacterAnalyzer>, FusedCharacterTable> fusedTables = new ConcurrentHashMap<>();
+    private final ScratchPools pools;
+
+    public HistogramLetterCountingEngine() {
+        this(defaultAnalyzers());
+    }
+
+    public HistogramLetterCountingEngine(List<CharacterAnalyzer> analyzers) {
+        this(analyzers, new ScratchPools(new TextAnalyzerProperties()));
+    }
+
+    @Autowired
+    public HistogramLetterCountingEngine(List<CharacterAnalyzer> analyzers, ScratchPools pools) {
+        this.pools = pools;
+        for (CharacterAnalyzer analyzer : analyzers) {
+            CharacterAnalyzer previous = this.analyzers.putIfAbsent(analyzer.parameterType(), analyzer);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate analyzer for " + analyzer.parameterType());
+            }
+        }
+    }
+
+    public static List<CharacterAnalyzer> defaultAnalyzers() {
+        LetterClassifier letters = LetterClassifier.defaults();
+        return List.of(new VowelAnalyzer(letters), new ConsonantAnalyzer(letters), new DigitAnalyzer(),
+                new WhitespaceAnalyzer(), new PunctuationAnalyzer());
+    }
+
+    public CharacterAnalyzer analyzer(ParameterType parameterType) {
+        CharacterAnalyzer analyzer = analyzers.get(parameterType);
+        if (analyzer == null) {
+            throw new IllegalArgumentException(parameterType.isTermType()
+                    ? parameterType + " is counted per term"
+                    : "No analyzer registered for " + parameterType);
+        }
+        return analyzer;
+    }
+
+    @Override
+    public Map<Character, Integer> count(String text, ParameterType parameterType) {
+        try (ScratchPool.Lease<LetterHistogram> histogram = pools.histogram()) {
+            accumulate(text, 0, text.length(), parameterType, histogram.get());
+            return toCounts(histogram.get(), parameterType);
+        }
+    }
+
+    @Override
+    public Map<ParameterType, Map<Character, Integer>> countAll(String text, Set<ParameterType> parameterTypes) {
+        CharacterAnalyzer[] selected = analyzers(parameterTypes);
+        List<ScratchPool.Lease<LetterHistogram>> leases = new ArrayList<>(selected.length);
+        try {
+            LetterHistogram[] histograms = new LetterHistogram[selected.length];
+            for (int i = 0; i < selected.length; i++) {
+                ScratchPool.Lease<LetterHistogram> lease = pools.histogram();
+                leases.add(lease);
+                histograms[i] = lease.get();
+            }
+            accumulateAll(text, 0, text.length(), selected, histograms);
+            return toCounts(selected, histograms);
+        } finally {
+            leases.forEach(ScratchPool.Lease::close);
+        }
+    }
+
+    public void accumulate(String text, int from, int to, ParameterType parameterType, LetterHistogram histogram) {
+        analyzer(parameterType).accumulate(text, from, to, histogram);
+    }
+
+    public void accumulate(char[] chars, int from, int to, ParameterType parameterType, LetterHistogram histogram) {
+        analyzer(parameterType).accumulate(chars, from, to, histogram);
+    }
+
+    public void accumulateAll(String text, int from, int to,
+                              CharacterAnalyzer[] selected, LetterHistogram[] histograms) {
+        if (selected.length == 1) {
+            selected[0].accumulate(text, from, to, histograms[0]);
+            return;
+        }
+        FusedCharacterTable fused = fusedTable(selected);
+        if (fused != null) {
+            fused.accumulate(text, from, to, histograms);
+            return;
+        }
+        int blockEnd;
+        for (int blockStart = from; blockStart < to; blockStart = blockEnd) {
+            blockEnd = Math.min(blockStart + BLOCK_SIZE, to);
+            if (blockEnd < to && Character.isHighSurrogate(text.charAt(blockEnd - 1))) {
+                blockEnd++;
+            }
+            for (int i = 0; i < selected.length; i++) {
+                selected[i].accumulate(text, blockStart, blockEnd, histograms[i]);
+            }
+        }
+    }
+
+    public void accumulateAll(char[] chars, int from, int to,
+                              CharacterAnalyzer[] selected, LetterHistogram[] histograms) {
+        if (selected.length == 1) {
+            selected[0].accumulate(chars, from, to, histograms[0]);
+            return;
+        }
+        FusedCharacterTable fused = fusedTable(selected);
+        if (fused != null) {
+            fused.accumulate(chars, from, to, histograms);
+            return;
+        }
+        int blockEnd;
+        for (int blockStart = from; blockStart < to; blockStart = blockEnd) {
+            blockEnd = Math.min(blockStart + BLOCK_SIZE, to);
+            if (blockEnd < to && Character.isHighSurrogate(chars[blockEnd - 1])) {
+                blockEnd++;
+            }
+            for (int i = 0; i < selected.length; i++) {
+                selected[i].accumulate(chars, blockStart, blockEnd, histograms[i]);
+            }
+        }
+    }
+
+    public Map<Character, Integer> toCounts(LetterHistogram histogram, ParameterType parameterType) {
+        return analyzer(parameterType).toCounts(histogram);
+    }
+
+    public Map<ParameterType, Map<Character, Integer>> toCounts(CharacterAnalyzer[] selected,
+                                                                LetterHistogram[] histograms) {
+        Map<ParameterType, Map<Character, Integer>> counts = new EnumMap<>(ParameterType.class);
+        for (int i = 0; i < selected.length; i++) {
+            counts.put(selected[i].parameterType(), selected[i].toCounts(histograms[i]));
+        }
+        return counts;
+    }
+
+    public CharacterAnalyzer[] analyzers(Set<ParameterType> parameterTypes) {
+        return parameterTypes.stream()
+                .distinct()
+                .map(this::analyzer)
+                .toArray(CharacterAnalyzer[]::new);
+    }
+
+    /**
+     * Returns the fused table for the given analyzers, or {@code null} when one of
+     * them is not table driven. Tables are built once per combination.
+     */
+    private FusedCharacterTable fusedTable(CharacterAnalyzer[] selected) {
+        for (CharacterAnalyzer analyzer : selected) {
+            if (!(analyzer instanceof TableCharacterAnalyzer)) {
+                return null;
+            }
+        }
+        return fusedTables.computeIfAbsent(List.of(selected), key -> new FusedCharacterTable(
+                key.toArray(TableCharacterAnalyzer[]::new)));
+    }
+
+    public static LetterHistogram[] newHistograms(int count) {
+        LetterHistogram[] histograms = new LetterHistogram[count];
+        for (int i = 0; i < count; i++) {
+            histograms[i] = new LetterHistogram();
+        }
+        return histograms;
+    }
+}
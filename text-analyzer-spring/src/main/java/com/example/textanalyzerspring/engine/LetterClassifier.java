@@ -0,0 +1,117 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Case folding and vowel/consonant rules shared by the letter analyzers. Letters
+ * are upper-cased with the configured locale, never the JVM default, and an
+ * accented letter counts as a vowel when it or its NFD base letter is one of the
+ * configured vowels, so 'é' counts as 'E' unless 'É' is listed itself. Only BMP
+ * letters are counted since results are keyed by {@code char}.
+ */
+@Component
+public class LetterClassifier {
+
+    public static final String DEFAULT_VOWELS = "AEIOU";
+
+    private final Locale locale;
+    private final String vowels;
+
+    @Autowired
+    public LetterClassifier(TextAnalyzerProperties properties) {
+        this(properties.getLetters().getLocale(), properties.getLetters().getVowels());
+    }
+
+    public LetterClassifier(Locale locale, String vowels) {
+        this.locale = locale;
+        this.vowels = vowels.toUpperCase(locale).codePoints()
+                .filter(Character::isBmpCodePoint)
+                .filter(Character::isLetter)
+                .sorted()
+                .distinct()
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString();
+        if (this.vowels.isEmpty()) {
+            throw new IllegalArgumentException("Vowels must contain at least one letter");
+        }
+    }
+
+    public static LetterClassifier defaults() {
+        return new LetterClassifier(Locale.ROOT, DEFAULT_VOWELS);
+    }
+
+    /**
+     * The configured vowels, upper-cased and sorted.
+     */
+    public String vowels() {
+        return vowels;
+    }
+
+    /**
+     * Returns the vowels counted for {@code codePoint}, usually zero or one.
+     */
+    public String vowelsOf(int codePoint) {
+        String letters = upperCasedLetters(codePoint);
+        StringBuilder counted = new StringBuilder(letters.length());
+        for (int i = 0; i < letters.length(); i++) {
+            char upper = letters.charAt(i);
+            if (vowels.indexOf(upper) >= 0) {
+                counted.append(upper);
+            } else {
+                int base = baseLetter(upper);
+                if (vowels.indexOf(base) >= 0) {
+                    counted.append((char) base);
+                }
+            }
+        }
+        return counted.toString();
+    }
+
+    /**
+     * Returns the consonants counted for {@code codePoint}, e.g. "SS" for 'ß'.
+     */
+    public String consonantsOf(int codePoint) {
+        String letters = upperCasedLetters(codePoint);
+        StringBuilder counted = new StringBuilder(letters.length());
+        for (int i = 0; i < letters.length(); i++) {
+            char upper = letters.charAt(i);
+            if (vowels.indexOf(upper) < 0 && vowels.indexOf(baseLetter(upper)) < 0) {
+                counted.append(upper);
+            }
+        }
+        return counted.toString();
+    }
+
+    /**
+     * Upper-cases one code point and keeps the BMP letters of the result.
+     */
+    private String upperCasedLetters(int codePoint) {
+        // Only letters have multi-character upper cases, so anything else upper-cases like Character does
+        if (!Character.isLetter(codePoint) && !Character.isLetter(Character.toUpperCase(codePoint))) {
+            return "";
+        }
+        String upper = Character.toString(codePoint).toUpperCase(locale);
+        StringBuilder letters = new StringBuilder(upper.length());
+        for (int i = 0; i < upper.length(); i++) {
+            char c = upper.charAt(i);
+            if (Character.isLetter(c)) {
+                letters.append(c);
+            }
+        }
+        return letters.toString();
+    }
+
+    private static int baseLetter(char letter) {
+        String single = String.valueOf(letter);
+        if (Normalizer.isNormalized(single, Normalizer.Form.NFD)) {
+            return letter;
+        }
+        int base = Normalizer.normalize(single, Normalizer.Form.NFD).charAt(0);
+        return Character.isLetter(base) ? base : letter;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+public interface LetterCountingEngine {
+
+    Map<Character, Integer> count(String text, ParameterType parameterType);
+
+    default Map<ParameterType, Map<Character, Integer>> countAll(String text, Set<ParameterType> parameterTypes) {
+        Map<ParameterType, Map<Character, Integer>> counts = new EnumMap<>(ParameterType.class);
+        for (ParameterType parameterType : parameterTypes) {
+            counts.put(parameterType, count(text, parameterType));
+        }
+        return counts;
+    }
+}
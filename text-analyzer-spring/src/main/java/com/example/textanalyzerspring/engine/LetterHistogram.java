@@ -0,0 +1,135 @@
+package com.example.textanalyzerspring.engine;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Primitive per-character counter covering the whole BMP. Counts are kept in
+ * 256-entry pages; the ASCII/Latin-1 page is always present and the others are
+ * only allocated once a character from their range is seen.
+ */
+public final class LetterHistogram {
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final int[][] pages = new int[PAGE_SIZE][];
+
+    public LetterHistogram() {
+        pages[0] = new int[PAGE_SIZE];
+    }
+
+    public void increment(char c) {
+        if (c < PAGE_SIZE) {
+            pages[0][c]++;
+        } else {
+            page(c)[c & PAGE_MASK]++;
+        }
+    }
+
+    public void add(char c, int count) {
+        page(c)[c & PAGE_MASK] += count;
+    }
+
+    public int get(char c) {
+        int[] page = pages[c >>> PAGE_BITS];
+        return page == null ? 0 : page[c & PAGE_MASK];
+    }
+
+    public void merge(LetterHistogram other) {
+        for (int p = 0; p < PAGE_SIZE; p++) {
+            int[] source = other.pages[p];
+            if (source == null) {
+                continue;
+            }
+            int[] target = pages[p];
+            if (target == null) {
+                pages[p] = source.clone();
+                continue;
+            }
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                target[i] += source[i];
+            }
+        }
+    }
+
+    public void subtract(LetterHistogram other) {
+        for (int p = 0; p < PAGE_SIZE; p++) {
+            int[] source = other.pages[p];
+            if (source == null) {
+                continue;
+            }
+            int[] target = pages[p];
+            if (target == null) {
+                target = new int[PAGE_SIZE];
+                pages[p] = target;
+            }
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                target[i] -= source[i];
+            }
+        }
+    }
+
+    public void clear() {
+        for (int[] page : pages) {
+            if (page != null) {
+                Arrays.fill(page, 0);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        for (int[] page : pages) {
+            if (page != null) {
+                for (int count : page) {
+                    if (count != 0) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the result map in ascending character order. Characters listed in
+     * {@code alwaysPresent} (sorted) are included even when their count is zero.
+     */
+    public Map<Character, Integer> toMap(char[] alwaysPresent) {
+        Map<Character, Integer> counts = new LinkedHashMap<>();
+        int seed = 0;
+        for (int p = 0; p < PAGE_SIZE; p++) {
+            int[] page = pages[p];
+            int base = p << PAGE_BITS;
+            while (seed < alwaysPresent.length && alwaysPresent[seed] < base + PAGE_SIZE && page == null) {
+                counts.put(alwaysPresent[seed++], 0);
+            }
+            if (page == null) {
+                continue;
+            }
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                char c = (char) (base + i);
+                boolean seeded = seed < alwaysPresent.length && alwaysPresent[seed] == c;
+                if (seeded) {
+                    seed++;
+                }
+                if (page[i] != 0 || seeded) {
+                    counts.put(c, page[i]);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private int[] page(char c) {
+        int index = c >>> PAGE_BITS;
+        int[] page = pages[index];
+        if (page == null) {
+            page = new int[PAGE_SIZE];
+            pages[index] = page;
+        }
+        return page;
+    }
+}
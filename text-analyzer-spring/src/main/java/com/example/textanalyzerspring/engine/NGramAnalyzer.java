@@ -0,0 +1,55 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts character n-grams: every run of {@code length} consecutive code points
+ * inside a word, as defined by {@link WordAnalyzer}. Words shorter than that
+ * contribute nothing.
+ */
+@Component
+public class NGramAnalyzer implements TermAnalyzer {
+
+    private final int length;
+
+    @Autowired
+    public NGramAnalyzer(TextAnalyzerProperties properties) {
+        this(properties.getTerms().getNgramLength());
+    }
+
+    public NGramAnalyzer(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("N-gram length must be positive");
+        }
+        this.length = length;
+    }
+
+    @Override
+    public ParameterType parameterType() {
+        return ParameterType.NGRAMS;
+    }
+
+    @Override
+    public void accumulate(String text, int from, int to, TermCounter counter) {
+        // Start offsets of the last code points of the current word, as a ring
+        int[] starts = new int[length];
+        int wordLength = 0;
+        for (int i = from; i < to; ) {
+            int codePoint = WordAnalyzer.codePointAt(text, i, to);
+            int next = i + Character.charCount(codePoint);
+            if (WordAnalyzer.isWordPart(codePoint, wordLength > 0)) {
+                starts[wordLength % length] = i;
+                wordLength++;
+                if (wordLength >= length) {
+                    counter.add(starts[wordLength % length], next);
+                }
+            } else {
+                wordLength = 0;
+            }
+            i = next;
+        }
+    }
+}
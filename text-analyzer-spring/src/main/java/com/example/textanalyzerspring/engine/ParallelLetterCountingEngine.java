@@ -0,0 +1,117 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Splits large inputs into chunks that are counted into local histograms on a
+ * dedicated {@link ForkJoinPool} and merged afterwards. Inputs below the configured
+ * threshold are counted sequentially. Several metrics requested together share
+ * the same split and are counted in one fused pass per chunk.
+ */
+@Slf4j
+@Primary
+@Component
+public class ParallelLetterCountingEngine implements LetterCountingEngine {
+
+    private final HistogramLetterCountingEngine delegate;
+    private final TextAnalyzerProperties.Parallel properties;
+    private final ForkJoinPool pool;
+
+    public ParallelLetterCountingEngine(HistogramLetterCountingEngine delegate, TextAnalyzerProperties properties) {
+        this.delegate = delegate;
+        this.properties = properties.getParallel();
+        int poolSize = this.properties.getPoolSize() > 0
+                ? this.properties.getPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(poolSize);
+        log.info("Parallel counting pool started with {} workers", poolSize);
+    }
+
+    @Override
+    public Map<Character, Integer> count(String text, ParameterType parameterType) {
+        if (!properties.isEnabled() || text.length() < properties.getThreshold()) {
+            return delegate.count(text, parameterType);
+        }
+
+        CharacterAnalyzer[] selected = {delegate.analyzer(parameterType)};
+        LetterHistogram[] histograms = pool.invoke(
+                new CountTask(text, 0, text.length(), selected, properties.getChunkSize()));
+        return selected[0].toCounts(histograms[0]);
+    }
+
+    @Override
+    public Map<ParameterType, Map<Character, Integer>> countAll(String text, Set<ParameterType> parameterTypes) {
+        if (!properties.isEnabled() || text.length() < properties.getThreshold()) {
+            return delegate.countAll(text, parameterTypes);
+        }
+
+        CharacterAnalyzer[] selected = delegate.analyzers(parameterTypes);
+        LetterHistogram[] histograms = pool.invoke(
+                new CountTask(text, 0, text.length(), selected, properties.getChunkSize()));
+        return delegate.toCounts(selected, histograms);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Returns a split index close to the middle of the range that never separates
+     * a surrogate pair.
+     */
+    static int splitPoint(CharSequence text, int from, int to) {
+        int mid = (from + to) >>> 1;
+        if (mid > from && Character.isHighSurrogate(text.charAt(mid - 1)) && Character.isLowSurrogate(text.charAt(mid))) {
+            mid++;
+        }
+        return mid;
+    }
+
+    private final class CountTask extends RecursiveTask<LetterHistogram[]> {
+
+        private final String text;
+        private final int from;
+        private final int to;
+        private final CharacterAnalyzer[] analyzers;
+        private final int chunkSize;
+
+        private CountTask(String text, int from, int to, CharacterAnalyzer[] analyzers, int chunkSize) {
+            this.text = text;
+            this.from = from;
+            this.to = to;
+            this.analyzers = analyzers;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected LetterHistogram[] compute() {
+            if (to - from <= chunkSize) {
+                LetterHistogram[] histograms = HistogramLetterCountingEngine.newHistograms(analyzers.length);
+                delegate.accumulateAll(text, from, to, analyzers, histograms);
+                return histograms;
+            }
+
+            int mid = splitPoint(text, from, to);
+            CountTask left = new CountTask(text, from, mid, analyzers, chunkSize);
+            CountTask right = new CountTask(text, mid, to, analyzers, chunkSize);
+            left.fork();
+            LetterHistogram[] histograms = right.compute();
+            LetterHistogram[] leftHistograms = left.join();
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i].merge(leftHistograms[i]);
+            }
+            return histograms;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PunctuationAnalyzer extends TableCharacterAnalyzer {
+
+    public PunctuationAnalyzer() {
+        super(ParameterType.PUNCTUATION, "", codePoint -> when(isPunctuation(codePoint), codePoint));
+    }
+
+    static boolean isPunctuation(int codePoint) {
+        return switch (Character.getType(codePoint)) {
+            case Character.CONNECTOR_PUNCTUATION,
+                 Character.DASH_PUNCTUATION,
+                 Character.START_PUNCTUATION,
+                 Character.END_PUNCTUATION,
+                 Character.INITIAL_QUOTE_PUNCTUATION,
+                 Character.FINAL_QUOTE_PUNCTUATION,
+                 Character.OTHER_PUNCTUATION -> true;
+            default -> false;
+        };
+    }
+}
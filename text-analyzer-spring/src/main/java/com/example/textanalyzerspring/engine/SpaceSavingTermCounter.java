@@ -0,0 +1,184 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.TermCount;
+import com.example.textanalyzerspring.model.TermFrequencies;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Approximate top-K term counts in fixed memory with the Space-Saving algorithm
+ * (Metwally et al.). At most {@code capacity} terms are monitored in a min-heap by
+ * count; an unmonitored term replaces the least frequent one and inherits its
+ * count as error. Counts are never too low and at most total / capacity too high,
+ * so every term more frequent than that is guaranteed to be monitored.
+ * <p>
+ * Terms are found through an open-addressing index from term hash to heap
+ * position, kept in step as entries move in the heap.
+ */
+final class SpaceSavingTermCounter implements TermCounter {
+
+    private final String text;
+    private final int capacity;
+
+    // Heap entries
+    private final long[] counts;
+    private final long[] errors;
+    private final long[] hashes;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] indexSlots;
+
+    // Heap position + 1 of the term in each slot, 0 marks an empty slot
+    private final int[] index;
+    private final int mask;
+
+    private int size;
+    private long total;
+    private boolean evicted;
+
+    SpaceSavingTermCounter(String text, int capacity) {
+        this.text = text;
+        this.capacity = capacity;
+        counts = new long[capacity];
+        errors = new long[capacity];
+        hashes = new long[capacity];
+        starts = new int[capacity];
+        ends = new int[capacity];
+        indexSlots = new int[capacity];
+        index = new int[Integer.highestOneBit(Math.max(capacity, 2) - 1) << 2];
+        mask = index.length - 1;
+    }
+
+    @Override
+    public void add(int start, int end) {
+        total++;
+        long hash = Terms.hash(text, start, end);
+        int slot = Terms.slot(hash, mask);
+        while (index[slot] != 0) {
+            int position = index[slot] - 1;
+            if (hashes[position] == hash && Terms.equal(text, starts[position], ends[position], start, end)) {
+                counts[position]++;
+                siftDown(position);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size < capacity) {
+            int position = size++;
+            set(position, hash, start, end, 1, 0);
+            link(slot, position);
+            siftUp(position);
+            return;
+        }
+
+        long minimum = counts[0];
+        evicted = true;
+        unlink(indexSlots[0]);
+        slot = Terms.slot(hash, mask);
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        set(0, hash, start, end, minimum + 1, minimum);
+        link(slot, 0);
+        siftDown(0);
+    }
+
+    @Override
+    public TermFrequencies result(int topK) {
+        List<TermCount> top = new ArrayList<>(Math.min(topK, size));
+        for (int position : Terms.largest(counts, size, topK)) {
+            top.add(new TermCount(Terms.toString(text, starts[position], ends[position]), counts[position],
+                    evicted ? errors[position] : null));
+        }
+        top.sort(Comparator.comparingLong(TermCount::getCount).reversed().thenComparing(TermCount::getTerm));
+        if (!evicted) {
+            // Every term still fit, the counts are exact
+            return new TermFrequencies(true, total, size, null, top);
+        }
+        return new TermFrequencies(false, total, null, counts[0], top);
+    }
+
+    private void set(int position, long hash, int start, int end, long count, long error) {
+        hashes[position] = hash;
+        starts[position] = start;
+        ends[position] = end;
+        counts[position] = count;
+        errors[position] = error;
+    }
+
+    private void link(int slot, int position) {
+        index[slot] = position + 1;
+        indexSlots[position] = slot;
+    }
+
+    /**
+     * Empties an index slot and shifts later entries of the probe run back, so
+     * lookups never stop early at the hole.
+     */
+    private void unlink(int slot) {
+        index[slot] = 0;
+        int hole = slot;
+        for (int next = (slot + 1) & mask; index[next] != 0; next = (next + 1) & mask) {
+            int position = index[next] - 1;
+            int home = Terms.slot(hashes[position], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                link(hole, position);
+                index[next] = 0;
+                hole = next;
+            }
+        }
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (counts[parent] <= counts[position]) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && counts[child + 1] < counts[child]) {
+                child++;
+            }
+            if (counts[position] <= counts[child]) {
+                return;
+            }
+            swap(position, child);
+            position = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        long count = counts[i];
+        counts[i] = counts[j];
+        counts[j] = count;
+        long error = errors[i];
+        errors[i] = errors[j];
+        errors[j] = error;
+        long hash = hashes[i];
+        hashes[i] = hashes[j];
+        hashes[j] = hash;
+        int start = starts[i];
+        starts[i] = starts[j];
+        starts[j] = start;
+        int end = ends[i];
+        ends[i] = ends[j];
+        ends[j] = end;
+        int slotI = indexSlots[i];
+        int slotJ = indexSlots[j];
+        link(slotJ, i);
+        link(slotI, j);
+    }
+}
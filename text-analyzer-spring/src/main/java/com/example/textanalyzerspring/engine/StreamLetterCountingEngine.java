@@ -0,0 +1,102 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Straightforward stream based implementation, kept as the reference the
+ * optimized engines are checked against.
+ */
+public class StreamLetterCountingEngine implements LetterCountingEngine {
+
+    private final Locale locale;
+    private final Set<Character> vowels;
+
+    public StreamLetterCountingEngine() {
+        this(Locale.ROOT, LetterClassifier.DEFAULT_VOWELS);
+    }
+
+    public StreamLetterCountingEngine(Locale locale, String vowels) {
+        this.locale = locale;
+        this.vowels = vowels.toUpperCase(locale).chars()
+                .filter(Character::isLetter)
+                .mapToObj(c -> (char) c)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<Character, Integer> count(String text, ParameterType parameterType) {
+        return switch (parameterType) {
+            case VOWELS -> countVowels(text);
+            case CONSONANTS -> countConsonants(text);
+            case DIGITS -> countMatching(text.codePoints(), Character::isDigit);
+            case WHITESPACE -> countMatching(text.codePoints(), Character::isWhitespace);
+            case PUNCTUATION -> countMatching(text.codePoints(), PunctuationAnalyzer::isPunctuation);
+            case WORDS, NGRAMS -> throw new IllegalArgumentException(parameterType + " is counted per term");
+        };
+    }
+
+    private Map<Character, Integer> countVowels(String text) {
+        Map<Character, Integer> counts = new LinkedHashMap<>();
+
+        vowels.stream()
+                .sorted()
+                .forEach(vowel -> counts.put(vowel, 0));
+
+        upperCaseLetters(text)
+                .map(letter -> vowels.contains((char) letter) ? letter : baseLetter(letter))
+                .filter(letter -> vowels.contains((char) letter))
+                .forEach(vowel -> counts.merge((char) vowel, 1, Integer::sum));
+
+        return counts;
+    }
+
+    private Map<Character, Integer> countConsonants(String text) {
+        return countMatching(upperCaseLetters(text),
+                letter -> !vowels.contains((char) letter) && !vowels.contains((char) baseLetter(letter)));
+    }
+
+    /**
+     * Upper-cases the text one code point at a time and keeps the BMP letters.
+     */
+    private IntStream upperCaseLetters(String text) {
+        return text.codePoints()
+                .mapToObj(codePoint -> Character.toString(codePoint).toUpperCase(locale))
+                .flatMapToInt(String::codePoints)
+                .filter(Character::isBmpCodePoint)
+                .filter(Character::isLetter);
+    }
+
+    private Map<Character, Integer> countMatching(IntStream codePoints, IntPredicate filter) {
+        Map<Character, Integer> counts = codePoints
+                .filter(Character::isBmpCodePoint)
+                .filter(filter)
+                .mapToObj(c -> (char) c)
+                .collect(Collectors.groupingBy(
+                        c -> c,
+                        Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
+                ));
+
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        Map.Entry::getValue,
+                        (existing, replacement) -> existing,
+                        LinkedHashMap::new
+                ));
+    }
+
+    private static int baseLetter(int letter) {
+        int base = Normalizer.normalize(Character.toString(letter), Normalizer.Form.NFD).codePointAt(0);
+        return Character.isLetter(base) ? base : letter;
+    }
+}
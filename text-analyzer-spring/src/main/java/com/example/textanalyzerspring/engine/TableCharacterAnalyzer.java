@@ -0,0 +1,182 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Analyzer backed by a precomputed classification of every character. Each BMP
+ * entry holds the character to count, {@link #SKIP} when nothing is counted, or
+ * {@link #EXPAND} when the character needs the slow path: it counts as several
+ * characters (e.g. 'ß' upper-cases to "SS"), kept in {@code expansions}, or it
+ * starts a surrogate pair. Supplementary code points are classified lazily in
+ * pages of 256, most text never leaves a handful of pages.
+ */
+public abstract class TableCharacterAnalyzer implements CharacterAnalyzer {
+
+    static final char SKIP = '\u0000';
+    static final char EXPAND = '\uFFFF';
+
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+    private final ParameterType parameterType;
+    private final char[] alwaysPresent;
+    private final char[] targets = new char[Character.MAX_VALUE + 1];
+    private final char[][] expansions = new char[Character.MAX_VALUE + 1][];
+    private final CodePointClassifier classifier;
+    private final AtomicReferenceArray<char[][]> supplementaryPages =
+            new AtomicReferenceArray<>((Character.MAX_CODE_POINT + 1) >> PAGE_SHIFT);
+
+    @FunctionalInterface
+    protected interface CodePointClassifier {
+
+        /**
+         * Returns the characters counted for {@code codePoint}, or an empty string.
+         */
+        String classify(int codePoint);
+    }
+
+    protected TableCharacterAnalyzer(ParameterType parameterType, String alwaysPresent, CodePointClassifier classifier) {
+        this.parameterType = parameterType;
+        this.classifier = classifier;
+        this.alwaysPresent = alwaysPresent.chars().sorted().distinct()
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString().toCharArray();
+
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            if (Character.isHighSurrogate((char) c)) {
+                targets[c] = EXPAND;
+                continue;
+            }
+            String counted = Character.isSurrogate((char) c) ? "" : countable(classifier.classify(c));
+            if (counted.isEmpty()) {
+                targets[c] = SKIP;
+            } else if (counted.length() == 1) {
+                targets[c] = counted.charAt(0);
+            } else {
+                targets[c] = EXPAND;
+                expansions[c] = counted.toCharArray();
+            }
+        }
+    }
+
+    @Override
+    public ParameterType parameterType() {
+        return parameterType;
+    }
+
+    @Override
+    public void accumulate(String text, int from, int to, LetterHistogram histogram) {
+        char[] targets = this.targets;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            char target = targets[c];
+            if (target == SKIP) {
+                continue;
+            }
+            if (target != EXPAND) {
+                histogram.increment(target);
+            } else if (!Character.isHighSurrogate(c)) {
+                expand(c, histogram);
+            } else if (i + 1 < to && Character.isLowSurrogate(text.charAt(i + 1))) {
+                accumulateSupplementary(Character.toCodePoint(c, text.charAt(++i)), histogram);
+            }
+        }
+    }
+
+    @Override
+    public void accumulate(char[] chars, int from, int to, LetterHistogram histogram) {
+        char[] targets = this.targets;
+        for (int i = from; i < to; i++) {
+            char c = chars[i];
+            char target = targets[c];
+            if (target == SKIP) {
+                continue;
+            }
+            if (target != EXPAND) {
+                histogram.increment(target);
+            } else if (!Character.isHighSurrogate(c)) {
+                expand(c, histogram);
+            } else if (i + 1 < to && Character.isLowSurrogate(chars[i + 1])) {
+                accumulateSupplementary(Character.toCodePoint(c, chars[++i]), histogram);
+            }
+        }
+    }
+
+    char target(char c) {
+        return targets[c];
+    }
+
+    /**
+     * Counts a single BMP character that is not part of a surrogate pair.
+     */
+    void accumulate(char c, LetterHistogram histogram) {
+        char target = targets[c];
+        if (target == EXPAND) {
+            expand(c, histogram);
+        } else if (target != SKIP) {
+            histogram.increment(target);
+        }
+    }
+
+    void accumulateSupplementary(int codePoint, LetterHistogram histogram) {
+        char[] counted = supplementaryPage(codePoint >> PAGE_SHIFT)[codePoint & PAGE_MASK];
+        if (counted != null) {
+            for (char c : counted) {
+                histogram.increment(c);
+            }
+        }
+    }
+
+    /**
+     * Classifies supplementary code points a page at a time, the first time a page
+     * is seen. Two threads may build the same page, the result is identical.
+     */
+    private char[][] supplementaryPage(int pageIndex) {
+        char[][] page = supplementaryPages.get(pageIndex);
+        if (page == null) {
+            page = new char[PAGE_MASK + 1][];
+            for (int offset = 0; offset <= PAGE_MASK; offset++) {
+                String counted = countable(classifier.classify((pageIndex << PAGE_SHIFT) | offset));
+                page[offset] = counted.isEmpty() ? null : counted.toCharArray();
+            }
+            supplementaryPages.set(pageIndex, page);
+        }
+        return page;
+    }
+
+    private void expand(char c, LetterHistogram histogram) {
+        char[] expanded = expansions[c];
+        if (expanded != null) {
+            for (char counted : expanded) {
+                histogram.increment(counted);
+            }
+        }
+    }
+
+    @Override
+    public Map<Character, Integer> toCounts(LetterHistogram histogram) {
+        return histogram.toMap(alwaysPresent);
+    }
+
+    protected static String when(boolean condition, int codePoint) {
+        return condition ? Character.toString(codePoint) : "";
+    }
+
+    /**
+     * Drops surrogates from a classification, results are keyed by BMP characters.
+     */
+    private static String countable(String counted) {
+        for (int i = 0; i < counted.length(); i++) {
+            if (Character.isSurrogate(counted.charAt(i))) {
+                return counted.codePoints()
+                        .filter(Character::isBmpCodePoint)
+                        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                        .toString();
+            }
+        }
+        return counted;
+    }
+}
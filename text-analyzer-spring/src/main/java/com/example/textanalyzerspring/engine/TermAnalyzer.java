@@ -0,0 +1,18 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+
+/**
+ * One pluggable term metric, the counterpart of {@link CharacterAnalyzer} for
+ * metrics keyed by a sequence of characters. Every analyzer bean is registered
+ * with {@link TermFrequencyEngine} under its {@link ParameterType}.
+ */
+public interface TermAnalyzer {
+
+    ParameterType parameterType();
+
+    /**
+     * Splits {@code text[from, to)} into terms and adds each one to {@code counter}.
+     */
+    void accumulate(String text, int from, int to, TermCounter counter);
+}
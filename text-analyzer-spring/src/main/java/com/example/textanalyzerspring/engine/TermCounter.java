@@ -0,0 +1,13 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.TermFrequencies;
+
+/**
+ * Counts the terms of one text, each given as a range of that text.
+ */
+public interface TermCounter {
+
+    void add(int start, int end);
+
+    TermFrequencies result(int topK);
+}
@@ -0,0 +1,79 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TermFrequencies;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Word and n-gram frequencies without a {@code String} per term. Inputs up to the
+ * exact threshold are counted exactly, larger ones by a Space-Saving summary of a
+ * fixed number of counters; either way only the top terms become strings.
+ */
+@Component
+public class TermFrequencyEngine {
+
+    private final Map<ParameterType, TermAnalyzer> analyzers = new EnumMap<>(ParameterType.class);
+    private final int topK;
+    private final int exactThreshold;
+    private final int counters;
+
+    public TermFrequencyEngine() {
+        this(defaultAnalyzers(), new TextAnalyzerProperties());
+    }
+
+    @Autowired
+    public TermFrequencyEngine(List<TermAnalyzer> analyzers, TextAnalyzerProperties properties) {
+        for (TermAnalyzer analyzer : analyzers) {
+            TermAnalyzer previous = this.analyzers.putIfAbsent(analyzer.parameterType(), analyzer);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate analyzer for " + analyzer.parameterType());
+            }
+        }
+        TextAnalyzerProperties.Terms terms = properties.getTerms();
+        this.topK = terms.getTopK();
+        this.exactThreshold = terms.getExactThreshold();
+        this.counters = terms.getCounters();
+        if (counters < topK) {
+            throw new IllegalArgumentException("Term counters must be at least top-k (" + topK + ")");
+        }
+    }
+
+    public static List<TermAnalyzer> defaultAnalyzers() {
+        return List.of(new WordAnalyzer(), new NGramAnalyzer(new TextAnalyzerProperties()));
+    }
+
+    public TermAnalyzer analyzer(ParameterType parameterType) {
+        TermAnalyzer analyzer = analyzers.get(parameterType);
+        if (analyzer == null) {
+            throw new IllegalArgumentException("No term analyzer registered for " + parameterType);
+        }
+        return analyzer;
+    }
+
+    public TermFrequencies count(String text, ParameterType parameterType) {
+        TermCounter counter = newCounter(text);
+        analyzer(parameterType).accumulate(text, 0, text.length(), counter);
+        return counter.result(topK);
+    }
+
+    public Map<ParameterType, TermFrequencies> countAll(String text, Set<ParameterType> parameterTypes) {
+        Map<ParameterType, TermFrequencies> frequencies = new EnumMap<>(ParameterType.class);
+        for (ParameterType parameterType : parameterTypes) {
+            frequencies.put(parameterType, count(text, parameterType));
+        }
+        return frequencies;
+    }
+
+    TermCounter newCounter(String text) {
+        return text.length() <= exactThreshold
+                ? new ExactTermCounter(text)
+                : new SpaceSavingTermCounter(text, counters);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.textanalyzerspring.engine;
+
+import java.util.Arrays;
+
+/**
+ * Hashing, comparison and selection helpers for term counters. Terms are never
+ * copied while counting: a term is a range of the analyzed text, compared and
+ * hashed code point by code point after lower-casing, so "The" and "the" are the
+ * same term. Lower-casing is per code point and independent of the locale.
+ */
+final class Terms {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Terms() {
+    }
+
+    static long hash(String text, int start, int end) {
+        long hash = FNV_OFFSET;
+        for (int i = start; i < end; ) {
+            int codePoint = text.codePointAt(i);
+            hash = (hash ^ Character.toLowerCase(codePoint)) * FNV_PRIME;
+            i += Character.charCount(codePoint);
+        }
+        return hash;
+    }
+
+    /**
+     * Spreads the bits of a term hash over the slots of a power-of-two table.
+     */
+    static int slot(long hash, int mask) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    static boolean equal(String text, int start, int end, int otherStart, int otherEnd) {
+        int i = start;
+        int j = otherStart;
+        while (i < end && j < otherEnd) {
+            int codePoint = text.codePointAt(i);
+            int other = text.codePointAt(j);
+            if (codePoint != other && Character.toLowerCase(codePoint) != Character.toLowerCase(other)) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+            j += Character.charCount(other);
+        }
+        return i == end && j == otherEnd;
+    }
+
+    static String toString(String text, int start, int end) {
+        StringBuilder term = new StringBuilder(end - start);
+        for (int i = start; i < end; ) {
+            int codePoint = text.codePointAt(i);
+            term.appendCodePoint(Character.toLowerCase(codePoint));
+            i += Character.charCount(codePoint);
+        }
+        return term.toString();
+    }
+
+    /**
+     * Returns the indexes of the (at most) {@code k} largest non-zero entries of
+     * {@code counts[0, length)}, largest first.
+     */
+    static int[] largest(long[] counts, int length, int k) {
+        int[] heap = new int[Math.min(k, length)];
+        int size = 0;
+        for (int index = 0; index < length; index++) {
+            long count = counts[index];
+            if (count == 0) {
+                continue;
+            }
+            if (size < heap.length) {
+                heap[size] = index;
+                siftUp(heap, size++, counts);
+            } else if (count > counts[heap[0]]) {
+                heap[0] = index;
+                siftDown(heap, 0, size, counts);
+            }
+        }
+        // Taking the minimum off repeatedly leaves the heap array sorted largest first
+        for (int last = size - 1; last > 0; last--) {
+            int smallest = heap[0];
+            heap[0] = heap[last];
+            heap[last] = smallest;
+            siftDown(heap, 0, last, counts);
+        }
+        return Arrays.copyOf(heap, size);
+    }
+
+    private static void siftUp(int[] heap, int position, long[] counts) {
+        int index = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (counts[heap[parent]] <= counts[index]) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = index;
+    }
+
+    private static void siftDown(int[] heap, int position, int size, long[] counts) {
+        int index = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]]) {
+                child++;
+            }
+            if (counts[index] <= counts[heap[child]]) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = index;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VowelAnalyzer extends TableCharacterAnalyzer {
+
+    public VowelAnalyzer(LetterClassifier letters) {
+        super(ParameterType.VOWELS, letters.vowels(), letters::vowelsOf);
+    }
+}
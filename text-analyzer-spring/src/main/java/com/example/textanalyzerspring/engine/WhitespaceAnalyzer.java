@@ -0,0 +1,12 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WhitespaceAnalyzer extends TableCharacterAnalyzer {
+
+    public WhitespaceAnalyzer() {
+        super(ParameterType.WHITESPACE, "", codePoint -> when(Character.isWhitespace(codePoint), codePoint));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts words: maximal runs of letters and digits, including the combining marks
+ * that follow them.
+ */
+@Component
+public class WordAnalyzer implements TermAnalyzer {
+
+    @Override
+    public ParameterType parameterType() {
+        return ParameterType.WORDS;
+    }
+
+    @Override
+    public void accumulate(String text, int from, int to, TermCounter counter) {
+        int start = -1;
+        for (int i = from; i < to; ) {
+            int codePoint = codePointAt(text, i, to);
+            if (isWordPart(codePoint, start >= 0)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                counter.add(start, i);
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            counter.add(start, to);
+        }
+    }
+
+    static boolean isWordPart(int codePoint, boolean inWord) {
+        if (Character.isLetterOrDigit(codePoint)) {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return inWord && (type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK);
+    }
+
+    /**
+     * Code point at {@code i}, a surrogate pair cut by {@code to} reads as its high surrogate.
+     */
+    static int codePointAt(String text, int i, int to) {
+        char c = text.charAt(i);
+        if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(text.charAt(i + 1))) {
+            return Character.toCodePoint(c, text.charAt(i + 1));
+        }
+        return c;
+    }
+}
@@ -1,35 +1,48 @@
 package com.example.textanalyzerspring.exception;
 
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics.ValidationFailure;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final AnalysisMetrics metrics;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
 
         log.warn("Validation error occurred: {}", ex.getMessage());
+        return validationErrors(ex.getBindingResult());
+    }
 
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach(error -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, String>> handleReactiveValidationExceptions(WebExchangeBindException ex) {
 
-        log.warn("Validation failed: {}", errors);
-        return ResponseEntity.badRequest().body(errors);
+        log.warn("Validation error occurred: {}", ex.getMessage());
+        return validationErrors(ex.getBindingResult());
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -37,6 +50,7 @@ public class GlobalExceptionHandler {
             IllegalArgumentException ex) {
 
         log.warn("Business validation error: {}", ex.getMessage());
+        metrics.recordValidationFailure(ValidationFailure.BUSINESS);
 
         Map<String, String> error = new HashMap<>();
         error.put("error", "Invalid input");
@@ -45,6 +59,117 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class,
+            ServerWebInputException.class})
+    public ResponseEntity<Map<String, String>> handleRequestParameterException(Exception ex) {
+
+        log.warn("Request parameter error: {}", ex.getMessage());
+        metrics.recordValidationFailure(ValidationFailure.PARAMETER);
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Invalid request parameter");
+        error.put("message", ex.getMessage());
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler({SessionNotFoundException.class, JobNotFoundException.class})
+    public ResponseEntity<Map<String, String>> handleNotFoundException(RuntimeException ex) {
+        log.debug("Unknown resource: {}", ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Not found");
+        error.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(ShardAccessDeniedException.class)
+    public ResponseEntity<Map<String, String>> handleShardAccessDeniedException(ShardAccessDeniedException ex) {
+        log.warn("Shard request refused: {}", ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Forbidden");
+        error.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+    }
+
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<Map<String, String>> handleJobQueueFullException(JobQueueFullException ex) {
+        log.warn("Job rejected: {}", ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Too many requests");
+        error.put("message", "Job queue is full, please retry later");
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(error);
+    }
+
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<Map<String, String>> handleServerBusyException(ServerBusyException ex) {
+        log.warn("Request rejected: {}", ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Too many requests");
+        error.put("message", "Server is busy with other large requests, please retry later");
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(error);
+    }
+
+    @ExceptionHandler(RequestTooLargeException.class)
+    public ResponseEntity<Map<String, String>> handleRequestTooLargeException(RequestTooLargeException ex) {
+        log.warn("Request rejected: {}", ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Payload too large");
+        error.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(error);
+    }
+
+    @ExceptionHandler(DataBufferLimitException.class)
+    public ResponseEntity<Map<String, String>> handleDataBufferLimitException(DataBufferLimitException ex) {
+        log.warn("Request rejected: {}", ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Payload too large");
+        error.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(error);
+    }
+
+    /**
+     * WebFlux reports request errors such as {@code PayloadTooLargeException} or
+     * {@code UnsupportedMediaTypeStatusException} with their status attached.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Map<String, String>> handleResponseStatusException(ResponseStatusException ex) {
+        log.warn("Request failed: {}", ex.getMessage());
+
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", status != null ? status.getReasonPhrase() : ex.getStatusCode().toString());
+        error.put("message", ex.getReason());
+
+        return ResponseEntity.status(ex.getStatusCode()).headers(ex.getHeaders()).body(error);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, String>> handleRejectedExecutionException(RejectedExecutionException ex) {
+        log.warn("Counting capacity exhausted: {}", ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Service unavailable");
+        error.put("message", "Server is busy, please retry later");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception ex) {
         log.error("Unexpected error occurred", ex);
@@ -55,4 +180,18 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
+
+    private ResponseEntity<Map<String, String>> validationErrors(BindingResult bindingResult) {
+        metrics.recordValidationFailure(ValidationFailure.FIELD);
+
+        Map<String, String> errors = new HashMap<>();
+        bindingResult.getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+
+        log.warn("Validation failed: {}", errors);
+        return ResponseEntity.badRequest().body(errors);
+    }
 }
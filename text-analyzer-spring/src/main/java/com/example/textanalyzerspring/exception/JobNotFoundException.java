@@ -0,0 +1,8 @@
+package com.example.textanalyzerspring.exception;
+
+public class JobNotFoundException extends RuntimeException {
+
+    public JobNotFoundException(String jobId) {
+        super("Job not found: " + jobId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.textanalyzerspring.exception;
+
+import java.time.Duration;
+
+public class JobQueueFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public JobQueueFullException(int capacity, Duration retryAfter) {
+        super("Job queue is full (" + capacity + " jobs waiting)");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.textanalyzerspring.exception;
+
+public class RequestTooLargeException extends RuntimeException {
+
+    public RequestTooLargeException(long limit) {
+        super("Request body exceeds the limit of " + limit + " bytes");
+    }
+}
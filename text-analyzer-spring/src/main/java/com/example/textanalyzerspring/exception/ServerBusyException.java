@@ -0,0 +1,17 @@
+package com.example.textanalyzerspring.exception;
+
+import java.time.Duration;
+
+public class ServerBusyException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServerBusyException(long size, Duration retryAfter) {
+        super("No memory budget for a request body of " + size + " bytes");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
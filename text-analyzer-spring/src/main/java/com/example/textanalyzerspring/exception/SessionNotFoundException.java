@@ -0,0 +1,8 @@
+package com.example.textanalyzerspring.exception;
+
+public class SessionNotFoundException extends RuntimeException {
+
+    public SessionNotFoundException(String sessionId) {
+        super("Session not found: " + sessionId);
+    }
+}
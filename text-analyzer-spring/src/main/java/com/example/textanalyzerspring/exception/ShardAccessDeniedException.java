@@ -0,0 +1,8 @@
+package com.example.textanalyzerspring.exception;
+
+public class ShardAccessDeniedException extends RuntimeException {
+
+    public ShardAccessDeniedException() {
+        super("Shards are only counted for peers presenting the cluster token");
+    }
+}
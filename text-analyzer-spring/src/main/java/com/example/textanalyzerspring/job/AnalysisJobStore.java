@@ -0,0 +1,145 @@
+package com.example.textanalyzerspring.job;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.TextAnalysesJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * File-backed store of analysis jobs: one JSON record per job, replaced atomically
+ * on every state change, next to the spooled body of uploaded jobs. Records older
+ * than the result TTL are removed by {@link #deleteOlderThan(Instant, Set)}.
+ */
+@Slf4j
+@Component
+public class AnalysisJobStore {
+
+    private static final String RECORD_SUFFIX = ".json";
+    private static final String UPLOAD_SUFFIX = ".upload";
+
+    // Job ids come from request paths, anything but a UUID never reaches the file system
+    private static final Pattern JOB_ID = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public AnalysisJobStore(TextAnalyzerProperties properties, ObjectMapper objectMapper) throws IOException {
+        this.directory = properties.getJobs().getDirectory();
+        this.objectMapper = objectMapper;
+        Files.createDirectories(directory);
+    }
+
+    public void save(TextAnalysesJob job) {
+        Path record = record(job.getJobId());
+        try {
+            Path temporary = Files.createTempFile(directory, job.getJobId(), ".tmp");
+            objectMapper.writeValue(temporary.toFile(), job);
+            Files.move(temporary, record, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store job " + job.getJobId(), e);
+        }
+    }
+
+    public Optional<TextAnalysesJob> load(String jobId) {
+        if (!isJobId(jobId)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(Files.readAllBytes(record(jobId)), TextAnalysesJob.class));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read job " + jobId, e);
+        }
+    }
+
+    public List<TextAnalysesJob> loadAll() throws IOException {
+        List<TextAnalysesJob> jobs = new ArrayList<>();
+        for (Path record : list(RECORD_SUFFIX)) {
+            try {
+                jobs.add(objectMapper.readValue(Files.readAllBytes(record), TextAnalysesJob.class));
+            } catch (IOException e) {
+                log.warn("Skipping unreadable job record {}: {}", record, e.getMessage());
+            }
+        }
+        return jobs;
+    }
+
+    public boolean delete(String jobId) {
+        if (!isJobId(jobId)) {
+            return false;
+        }
+        try {
+            Files.deleteIfExists(upload(jobId));
+            return Files.deleteIfExists(record(jobId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete job " + jobId, e);
+        }
+    }
+
+    /**
+     * Location where the body of an uploaded job is kept until a worker counts it.
+     */
+    public Path upload(String jobId) {
+        return directory.resolve(jobId + UPLOAD_SUFFIX);
+    }
+
+    /**
+     * Removes the files last written before {@code cutoff}, except those of the
+     * jobs in {@code retained}.
+     *
+     * @return the ids of the jobs whose record was removed
+     */
+    public List<String> deleteOlderThan(Instant cutoff, Set<String> retained) throws IOException {
+        List<String> deleted = new ArrayList<>();
+        for (Path file : list("")) {
+            String name = file.getFileName().toString();
+            int dot = name.indexOf('.');
+            String jobId = dot < 0 ? name : name.substring(0, dot);
+            if (retained.contains(jobId) || !Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                continue;
+            }
+            if (Files.deleteIfExists(file) && name.endsWith(RECORD_SUFFIX)) {
+                deleted.add(jobId);
+            }
+        }
+        return deleted;
+    }
+
+    public void deleteUploads() throws IOException {
+        for (Path upload : list(UPLOAD_SUFFIX)) {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    static boolean isJobId(String jobId) {
+        return jobId != null && JOB_ID.matcher(jobId).matches();
+    }
+
+    private Path record(String jobId) {
+        return directory.resolve(jobId + RECORD_SUFFIX);
+    }
+
+    private List<Path> list(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(suffix))
+                    .filter(Files::isRegularFile)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.textanalyzerspring.metrics;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for the analysis hot path. All meters are registered up front so recording
+ * a sample never has to look a meter up or build tags.
+ */
+@Component
+public class AnalysisMetrics {
+
+    private static final String UNKNOWN_TYPE = "none";
+
+    private final Map<AnalysisPhase, Timer> untypedTimers = new EnumMap<>(AnalysisPhase.class);
+    private final Map<AnalysisPhase, Map<ParameterType, Timer>> timers = new EnumMap<>(AnalysisPhase.class);
+    private final Map<ParameterType, DistributionSummary> inputSizes = new EnumMap<>(ParameterType.class);
+    private final Map<ValidationFailure, Counter> validationFailures = new EnumMap<>(ValidationFailure.class);
+
+    public enum ValidationFailure {
+        FIELD,
+        BUSINESS,
+        PARAMETER
+    }
+
+    public AnalysisMetrics(MeterRegistry registry) {
+        for (AnalysisPhase phase : AnalysisPhase.values()) {
+            untypedTimers.put(phase, phaseTimer(registry, phase, UNKNOWN_TYPE));
+            Map<ParameterType, Timer> byType = new EnumMap<>(ParameterType.class);
+            for (ParameterType parameterType : ParameterType.values()) {
+                byType.put(parameterType, phaseTimer(registry, phase, parameterType.name()));
+            }
+            timers.put(phase, byType);
+        }
+
+        for (ParameterType parameterType : ParameterType.values()) {
+            inputSizes.put(parameterType, DistributionSummary.builder("text.analyzer.input.size")
+                    .description("Size of analyzed inputs")
+                    .baseUnit("characters")
+                    .tag("parameterType", parameterType.name())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+
+        for (ValidationFailure failure : ValidationFailure.values()) {
+            validationFailures.put(failure, Counter.builder("text.analyzer.validation.failures")
+                    .description("Requests rejected by validation")
+                    .tag("type", failure.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+    }
+
+    public void recordPhase(AnalysisPhase phase, ParameterType parameterType, long nanos) {
+        Timer timer = parameterType == null ? untypedTimers.get(phase) : timers.get(phase).get(parameterType);
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordInputSize(ParameterType parameterType, long characters) {
+        inputSizes.get(parameterType).record(characters);
+    }
+
+    public void recordValidationFailure(ValidationFailure failure) {
+        validationFailures.get(failure).increment();
+    }
+
+    private static Timer phaseTimer(MeterRegistry registry, AnalysisPhase phase, String parameterType) {
+        return Timer.builder("text.analyzer.phase")
+                .description("Time spent per analysis phase")
+                .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                .tag("parameterType", parameterType)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
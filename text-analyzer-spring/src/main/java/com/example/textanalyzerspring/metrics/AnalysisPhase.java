@@ -0,0 +1,8 @@
+package com.example.textanalyzerspring.metrics;
+
+public enum AnalysisPhase {
+    PARSE,
+    VALIDATE,
+    COUNT,
+    SERIALIZE
+}
@@ -0,0 +1,44 @@
+package com.example.textanalyzerspring.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MetricsConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<AnalysisMetrics> metrics;
+    private final ObjectProvider<LocalValidatorFactoryBean> validator;
+
+    public MetricsConfiguration(ObjectProvider<AnalysisMetrics> metrics,
+                                ObjectProvider<LocalValidatorFactoryBean> validator) {
+        this.metrics = metrics;
+        this.validator = validator;
+    }
+
+    @Bean
+    public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper,
+                                                                             AnalysisMetrics analysisMetrics) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, analysisMetrics);
+    }
+
+    @Bean
+    public TimedSmileHttpMessageConverter timedSmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder,
+                                                                         AnalysisMetrics analysisMetrics) {
+        return new TimedSmileHttpMessageConverter(builder.factory(new SmileFactory()).build(), analysisMetrics);
+    }
+
+    @Override
+    public Validator getValidator() {
+        LocalValidatorFactoryBean delegate = validator.getObject();
+        return new TimedValidator(delegate, metrics.getObject());
+    }
+}
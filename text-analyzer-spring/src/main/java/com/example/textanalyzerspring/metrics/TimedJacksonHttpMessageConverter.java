@@ -0,0 +1,58 @@
+package com.example.textanalyzerspring.metrics;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that records request parsing and response serialization times.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final AnalysisMetrics metrics;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, AnalysisMetrics metrics) {
+        super(objectMapper);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        long start = System.nanoTime();
+        Object value = super.read(type, contextClass, inputMessage);
+        metrics.recordPhase(AnalysisPhase.PARSE, parameterTypeOf(value), System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        super.writeInternal(object, type, outputMessage);
+        metrics.recordPhase(AnalysisPhase.SERIALIZE, parameterTypeOf(object), System.nanoTime() - start);
+    }
+
+    static ParameterType parameterTypeOf(Object value) {
+        if (value instanceof TextAnalysesRequest request) {
+            return request.getParameterType();
+        }
+        if (value instanceof TextAnalysesResult result) {
+            return result.getParameterType();
+        }
+        if (value instanceof StreamAnalysesResult result) {
+            return result.getParameterType();
+        }
+        return null;
+    }
+}
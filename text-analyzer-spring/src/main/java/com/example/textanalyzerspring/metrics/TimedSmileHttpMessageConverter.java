@@ -0,0 +1,44 @@
+package com.example.textanalyzerspring.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Smile counterpart of {@link TimedJacksonHttpMessageConverter}, used when a client
+ * sends or accepts the binary {@code application/x-jackson-smile} format.
+ */
+public class TimedSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    private final AnalysisMetrics metrics;
+
+    public TimedSmileHttpMessageConverter(ObjectMapper smileMapper, AnalysisMetrics metrics) {
+        super(smileMapper);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        long start = System.nanoTime();
+        Object value = super.read(type, contextClass, inputMessage);
+        metrics.recordPhase(AnalysisPhase.PARSE, TimedJacksonHttpMessageConverter.parameterTypeOf(value),
+                System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        super.writeInternal(object, type, outputMessage);
+        metrics.recordPhase(AnalysisPhase.SERIALIZE, TimedJacksonHttpMessageConverter.parameterTypeOf(object),
+                System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.textanalyzerspring.metrics;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Records the time bean validation of request bodies takes.
+ */
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final AnalysisMetrics metrics;
+
+    public TimedValidator(SmartValidator delegate, AnalysisMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        long start = System.nanoTime();
+        delegate.validate(target, errors);
+        metrics.recordPhase(AnalysisPhase.VALIDATE,
+                TimedJacksonHttpMessageConverter.parameterTypeOf(target), System.nanoTime() - start);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long start = System.nanoTime();
+        delegate.validate(target, errors, validationHints);
+        metrics.recordPhase(AnalysisPhase.VALIDATE,
+                TimedJacksonHttpMessageConverter.parameterTypeOf(target), System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.textanalyzerspring.model;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAnalysisReport {
+
+    private List<BulkFileResult> files;
+    private int failedCount;
+    private long byteCount;
+    private long characterCount;
+
+    // Counts summed over every file that was read
+    private Map<ParameterType, Map<Character, Long>> analyses;
+    private long elapsedMillis;
+    private double megabytesPerSecond;
+    private Instant timestamp;
+}
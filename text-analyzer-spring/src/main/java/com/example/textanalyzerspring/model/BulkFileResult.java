@@ -0,0 +1,21 @@
+package com.example.textanalyzerspring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkFileResult {
+
+    private String path;
+    private long byteCount;
+    private long characterCount;
+    private Map<ParameterType, Map<Character, Long>> analyses;
+
+    // Set instead of the counts when the file could not be read
+    private String error;
+}
@@ -0,0 +1,7 @@
+package com.example.textanalyzerspring.model;
+
+public enum JobPriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
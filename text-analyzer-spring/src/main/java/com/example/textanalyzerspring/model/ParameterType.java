@@ -1,6 +1,26 @@
 package com.example.textanalyzerspring.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum ParameterType {
     VOWELS,
-    CONSONANTS
+    CONSONANTS,
+    DIGITS,
+    WHITESPACE,
+    PUNCTUATION,
+    // Counted per word or character n-gram instead of per character
+    WORDS,
+    NGRAMS;
+
+    public boolean isTermType() {
+        return this == WORDS || this == NGRAMS;
+    }
+
+    /**
+     * The types counted per character, i.e. everything but the term types.
+     */
+    public static Set<ParameterType> characterTypes() {
+        return EnumSet.range(VOWELS, PUNCTUATION);
+    }
 }
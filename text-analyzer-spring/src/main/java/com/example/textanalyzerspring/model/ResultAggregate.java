@@ -0,0 +1,25 @@
+package com.example.textanalyzerspring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultAggregate {
+
+    private ParameterType parameterType;
+
+    // Results stored at or after from and before to, an open bound is left out
+    private Instant from;
+    private Instant to;
+    private long resultCount;
+
+    // Summed counts per character, and those divided by the result count
+    private Map<Character, Long> totals;
+    private Map<Character, Double> averages;
+}
@@ -0,0 +1,21 @@
+package com.example.textanalyzerspring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StreamAnalysesResult {
+
+    private ParameterType parameterType;
+    private Map<Character, Integer> letterCounts;
+    private long characterCount;
+    private long byteCount;
+    private String sha256;
+    private Instant timestamp;
+}
@@ -0,0 +1,22 @@
+package com.example.textanalyzerspring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TermCount {
+
+    private String term;
+    private long count;
+
+    // Approximate counts only: the true count lies between count - error and count
+    private Long error;
+
+    public TermCount(String term, long count) {
+        this.term = term;
+        this.count = count;
+    }
+}
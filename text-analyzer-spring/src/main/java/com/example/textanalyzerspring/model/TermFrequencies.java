@@ -0,0 +1,26 @@
+package com.example.textanalyzerspring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TermFrequencies {
+
+    // False when the counts come from the bounded-memory Space-Saving summary
+    private boolean exact;
+    private long totalTerms;
+
+    // Exact counts only
+    private Integer distinctTerms;
+
+    // Approximate counts only: no reported count is more than this too high
+    private Long maxError;
+
+    // Most frequent terms first, ties in term order
+    private List<TermCount> topTerms;
+}
@@ -0,0 +1,17 @@
+package com.example.textanalyzerspring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TextAnalysesBatchItem {
+
+    private int index;
+    private TextAnalysesResult result;
+    private Map<String, String> errors;
+}
@@ -0,0 +1,15 @@
+package com.example.textanalyzerspring.model;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextAnalysesBatchRequest {
+
+    @NotNull(message = "Items are required")
+    private List<TextAnalysesRequest> items;
+}
@@ -0,0 +1,15 @@
+package com.example.textanalyzerspring.model;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextAnalysesBatchResult {
+
+    private List<TextAnalysesBatchItem> items;
+    private int succeeded;
+    private int failed;
+}
@@ -0,0 +1,28 @@
+package com.example.textanalyzerspring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * State of an asynchronous analysis. Exactly one of {@code result} (submitted as
+ * JSON) or {@code streamResult} (uploaded body) is set once the job succeeded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TextAnalysesJob {
+
+    private String jobId;
+    private JobStatus status;
+    private JobPriority priority;
+    private ParameterType parameterType;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant completedAt;
+    private TextAnalysesResult result;
+    private StreamAnalysesResult streamResult;
+    private String error;
+}
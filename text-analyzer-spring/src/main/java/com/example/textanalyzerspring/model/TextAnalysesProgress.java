@@ -0,0 +1,26 @@
+package com.example.textanalyzerspring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Partial counts of a running analysis, sent as a {@code progress} event. The
+ * counts cover the first {@code processedCharacters} characters of the input.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TextAnalysesProgress {
+
+    private ParameterType parameterType;
+    private long processedCharacters;
+    private long totalCharacters;
+    private double percent;
+    private Map<Character, Integer> letterCounts;
+    private Map<ParameterType, Map<Character, Integer>> analyses;
+    private Instant timestamp;
+}
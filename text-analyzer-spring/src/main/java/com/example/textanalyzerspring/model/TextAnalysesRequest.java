@@ -1,9 +1,12 @@
 package com.example.textanalyzerspring.model;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
+import java.util.Set;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,4 +17,23 @@ public class TextAnalysesRequest {
 
     @NotBlank(message = "Text is required")
     private String inputText;
+
+    /**
+     * Further metrics counted in the same pass over the text, returned in
+     * {@link TextAnalysesResult#getAnalyses()}.
+     */
+    private Set<ParameterType> additionalParameterTypes;
+
+    /**
+     * Maximum number of characters of the input echoed back in
+     * {@link TextAnalysesResult#getOriginalText()}, 0 leaves it out. When set the
+     * result also carries the full length and SHA-256 of the input.
+     */
+    @Min(value = 0, message = "Original text limit cannot be negative")
+    private Integer originalTextLimit;
+
+    public TextAnalysesRequest(ParameterType parameterType, String inputText) {
+        this.parameterType = parameterType;
+        this.inputText = inputText;
+    }
 }
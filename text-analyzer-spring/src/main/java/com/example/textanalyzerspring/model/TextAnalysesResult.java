@@ -1,5 +1,6 @@
 package com.example.textanalyzerspring.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.time.Instant;
@@ -8,17 +9,31 @@ import java.util.Map;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TextAnalysesResult {
 
     private ParameterType parameterType;
     private String originalText;
     private Map<Character, Integer> letterCounts;
     private Instant timestamp;
+    private Map<ParameterType, Map<Character, Integer>> analyses;
+
+    // Word and n-gram frequencies, the term types have no letter counts
+    private Map<ParameterType, TermFrequencies> terms;
+
+    // Only set when the request limits the echoed original text
+    private Integer originalTextLength;
+    private String originalTextSha256;
 
     public TextAnalysesResult(ParameterType parameterType, String originalText, Map<Character, Integer> letterCounts) {
+        this(parameterType, originalText, letterCounts, Instant.now());
+    }
+
+    public TextAnalysesResult(ParameterType parameterType, String originalText, Map<Character, Integer> letterCounts,
+                              Instant timestamp) {
         this.parameterType = parameterType;
         this.originalText = originalText;
         this.letterCounts = letterCounts;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
     }
 }
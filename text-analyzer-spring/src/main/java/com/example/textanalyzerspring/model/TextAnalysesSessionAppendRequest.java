@@ -0,0 +1,13 @@
+package com.example.textanalyzerspring.model;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextAnalysesSessionAppendRequest {
+
+    @NotNull(message = "Text is required")
+    private String text;
+}
@@ -0,0 +1,22 @@
+package com.example.textanalyzerspring.model;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * Range of the session text to remove, as UTF-16 offsets with an exclusive end.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextAnalysesSessionDeleteRequest {
+
+    @NotNull(message = "Start is required")
+    @Min(value = 0, message = "Start cannot be negative")
+    private Integer start;
+
+    @NotNull(message = "End is required")
+    @Min(value = 0, message = "End cannot be negative")
+    private Integer end;
+}
@@ -0,0 +1,24 @@
+package com.example.textanalyzerspring.model;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextAnalysesSessionRequest {
+
+    @NotNull
+    private ParameterType parameterType;
+
+    /**
+     * Further metrics kept up to date in the same session, returned in
+     * {@link TextAnalysesSessionResult#getAnalyses()}.
+     */
+    private Set<ParameterType> additionalParameterTypes;
+
+    // Initial text of the session, empty when not set
+    private String inputText;
+}
@@ -0,0 +1,21 @@
+package com.example.textanalyzerspring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TextAnalysesSessionResult {
+
+    private String sessionId;
+    private ParameterType parameterType;
+    private int length;
+    private Map<Character, Integer> letterCounts;
+    private Map<ParameterType, Map<Character, Integer>> analyses;
+    private Instant lastModified;
+}
@@ -0,0 +1,18 @@
+package com.example.textanalyzerspring.model;
+
+import lombok.*;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextAnalysesSessionVerification {
+
+    private String sessionId;
+    private int length;
+    private boolean consistent;
+
+    // Types whose running counts differ from a full recount
+    private Set<ParameterType> mismatchedTypes;
+}
@@ -0,0 +1,18 @@
+package com.example.textanalyzerspring.model;
+
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * Counts of one shard as returned by a peer. Only characters that occur in the
+ * shard are listed, the coordinator adds the always-present letters after merging.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextAnalysesShardResult {
+
+    private int characterCount;
+    private Map<ParameterType, Map<Character, Integer>> counts;
+}
@@ -0,0 +1,163 @@
+package com.example.textanalyzerspring.pool;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of reusable scratch objects. The idle objects sit in one shared
+ * queue instead of thread locals, which would keep one copy per virtual thread and
+ * miss whenever a reactive request moves between event loops. An object returned
+ * while the pool is full is left to the garbage collector.
+ * <p>
+ * A sampled share of the leases records where it was taken; if such a lease becomes
+ * unreachable without being closed, the leak is counted and logged with that trace.
+ */
+@Slf4j
+public final class ScratchPool<T> {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final ArrayBlockingQueue<T> idle;
+    private final int leakDetectionInterval;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder leaked = new LongAdder();
+
+    /**
+     * @param maxIdle objects kept for reuse, 0 disables pooling
+     * @param reset   brings a returned object back to its initial state
+     */
+    public ScratchPool(String name, int maxIdle, int leakDetectionInterval, Supplier<T> factory, Consumer<T> reset) {
+        if (maxIdle < 0 || leakDetectionInterval < 0) {
+            throw new IllegalArgumentException("Pool sizes cannot be negative");
+        }
+        this.name = name;
+        this.factory = factory;
+        this.reset = reset;
+        this.idle = maxIdle > 0 ? new ArrayBlockingQueue<>(maxIdle) : null;
+        this.leakDetectionInterval = leakDetectionInterval;
+    }
+
+    public Lease<T> acquire() {
+        T value = idle == null ? null : idle.poll();
+        if (value == null) {
+            value = factory.get();
+            created.increment();
+        } else {
+            reused.increment();
+        }
+        Lease<T> lease = new Lease<>(this, value);
+        if (leakDetectionInterval > 0 && ThreadLocalRandom.current().nextInt(leakDetectionInterval) == 0) {
+            LeakCheck check = new LeakCheck(name, leaked, new Throwable("Lease acquired here"));
+            lease.leakCheck = check;
+            lease.cleanable = CLEANER.register(lease, check);
+        }
+        return lease;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int idle() {
+        return idle == null ? 0 : idle.size();
+    }
+
+    public long created() {
+        return created.sum();
+    }
+
+    public long reused() {
+        return reused.sum();
+    }
+
+    public long discarded() {
+        return discarded.sum();
+    }
+
+    public long leaked() {
+        return leaked.sum();
+    }
+
+    private void release(T value) {
+        if (idle == null) {
+            return;
+        }
+        reset.accept(value);
+        if (!idle.offer(value)) {
+            discarded.increment();
+        }
+    }
+
+    /**
+     * Use of one pooled object, closing it hands the object back. The object must
+     * not be used, nor kept anywhere, once the lease is closed.
+     */
+    public static final class Lease<T> implements AutoCloseable {
+
+        private final ScratchPool<T> pool;
+        private T value;
+        private LeakCheck leakCheck;
+        private Cleaner.Cleanable cleanable;
+
+        private Lease(ScratchPool<T> pool, T value) {
+            this.pool = pool;
+            this.value = value;
+        }
+
+        public T get() {
+            if (value == null) {
+                throw new IllegalStateException("Lease on " + pool.name + " is already closed");
+            }
+            return value;
+        }
+
+        @Override
+        public void close() {
+            T released = value;
+            if (released == null) {
+                return;
+            }
+            value = null;
+            if (cleanable != null) {
+                leakCheck.closed = true;
+                cleanable.clean();
+            }
+            pool.release(released);
+        }
+    }
+
+    // Must not reference the lease, or it would never become unreachable
+    private static final class LeakCheck implements Runnable {
+
+        private final String pool;
+        private final LongAdder leaked;
+        private final Throwable acquired;
+        private volatile boolean closed;
+
+        private LeakCheck(String pool, LongAdder leaked, Throwable acquired) {
+            this.pool = pool;
+            this.leaked = leaked;
+            this.acquired = acquired;
+        }
+
+        @Override
+        public void run() {
+            if (!closed) {
+                leaked.increment();
+                log.warn("A {} lease was never closed, its object was not returned to the pool", pool, acquired);
+            }
+        }
+    }
+}
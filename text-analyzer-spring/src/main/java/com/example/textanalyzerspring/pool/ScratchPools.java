@@ -0,0 +1,118 @@
+package com.example.textanalyzerspring.pool;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.LetterHistogram;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * The scratch objects of the request path: histograms for the counting engine,
+ * and the byte and char buffers and charset decoders of streamed bodies.
+ */
+@Component
+public class ScratchPools implements MeterBinder {
+
+    static final String HISTOGRAMS = "histogram";
+    static final String BYTE_BUFFERS = "byte_buffer";
+    static final String CHAR_BUFFERS = "char_buffer";
+    static final String DECODERS = "decoder";
+
+    private final int maxIdle;
+    private final int leakDetectionInterval;
+    private final ScratchPool<LetterHistogram> histograms;
+    private final ScratchPool<byte[]> byteBuffers;
+    private final ScratchPool<CharBuffer> charBuffers;
+    private final Map<Charset, ScratchPool<CharsetDecoder>> decoders = new ConcurrentHashMap<>();
+
+    public ScratchPools(TextAnalyzerProperties properties) {
+        TextAnalyzerProperties.Pool settings = properties.getPool();
+        this.maxIdle = !settings.isEnabled() ? 0
+                : settings.getMaxIdle() > 0 ? settings.getMaxIdle()
+                : 2 * Runtime.getRuntime().availableProcessors();
+        this.leakDetectionInterval = settings.getLeakDetectionInterval();
+        int bufferSize = properties.getStream().getBufferSize();
+        this.histograms = new ScratchPool<>(HISTOGRAMS, maxIdle, leakDetectionInterval,
+                LetterHistogram::new, LetterHistogram::clear);
+        this.byteBuffers = new ScratchPool<>(BYTE_BUFFERS, maxIdle, leakDetectionInterval,
+                () -> new byte[bufferSize], bytes -> { });
+        this.charBuffers = new ScratchPool<>(CHAR_BUFFERS, maxIdle, leakDetectionInterval,
+                () -> CharBuffer.allocate(bufferSize), CharBuffer::clear);
+    }
+
+    /**
+     * Idle objects kept per pool, 0 when pooling is disabled.
+     */
+    public int maxIdle() {
+        return maxIdle;
+    }
+
+    public ScratchPool.Lease<LetterHistogram> histogram() {
+        return histograms.acquire();
+    }
+
+    public ScratchPool.Lease<byte[]> byteBuffer() {
+        return byteBuffers.acquire();
+    }
+
+    public ScratchPool.Lease<CharBuffer> charBuffer() {
+        return charBuffers.acquire();
+    }
+
+    /**
+     * A decoder for {@code charset} that replaces malformed and unmappable input.
+     */
+    public ScratchPool.Lease<CharsetDecoder> decoder(Charset charset) {
+        return decoders.computeIfAbsent(charset, key -> new ScratchPool<>(DECODERS, maxIdle, leakDetectionInterval,
+                () -> key.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE),
+                CharsetDecoder::reset)).acquire();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, HISTOGRAMS, statistic -> statistic.applyAsLong(histograms));
+        bind(registry, BYTE_BUFFERS, statistic -> statistic.applyAsLong(byteBuffers));
+        bind(registry, CHAR_BUFFERS, statistic -> statistic.applyAsLong(charBuffers));
+        // One set of meters for the decoders of all charsets
+        bind(registry, DECODERS, statistic -> decoders.values().stream().mapToLong(statistic).sum());
+    }
+
+    /**
+     * @param total reads one statistic of the named pool, summed over its charsets for the decoders
+     */
+    private void bind(MeterRegistry registry, String pool, ToLongFunction<ToLongFunction<ScratchPool<?>>> total) {
+        counter(registry, "created", "Pooled objects allocated because none was idle", pool,
+                () -> total.applyAsLong(ScratchPool::created));
+        counter(registry, "reused", "Leases served with an idle object", pool,
+                () -> total.applyAsLong(ScratchPool::reused));
+        counter(registry, "discarded", "Objects dropped because the pool was full", pool,
+                () -> total.applyAsLong(ScratchPool::discarded));
+        counter(registry, "leaked", "Sampled leases never closed", pool,
+                () -> total.applyAsLong(ScratchPool::leaked));
+        Gauge.builder("text.analyzer.pool.idle", () -> total.applyAsLong(ScratchPool::idle))
+                .description("Pooled objects waiting for reuse")
+                .tag("pool", pool)
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String statistic, String description, String pool,
+                         LongSupplier value) {
+        FunctionCounter.builder("text.analyzer.pool." + statistic, this, pools -> value.getAsLong())
+                .description(description)
+                .tag("pool", pool)
+                .register(registry);
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.textanalyzerspring.rest;
+
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.ResultAggregate;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesBatchRequest;
+import com.example.textanalyzerspring.model.TextAnalysesBatchResult;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesSessionAppendRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionDeleteRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionResult;
+import com.example.textanalyzerspring.model.TextAnalysesSessionVerification;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import com.example.textanalyzerspring.service.BatchTextAnalyzerService;
+import com.example.textanalyzerspring.service.ProgressTextAnalyzerService;
+import com.example.textanalyzerspring.service.SessionTextAnalyzerService;
+import com.example.textanalyzerspring.service.StreamingTextAnalyzerService;
+import com.example.textanalyzerspring.service.StreamingTextAnalyzerService.StreamCounter;
+import com.example.textanalyzerspring.service.TextAnalyzerService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+
+/**
+ * WebFlux variant of {@link TextAnalyzerRestService}, active with the {@code reactive}
+ * profile. It shares the services with the servlet stack, so both return the same
+ * results. Stream bodies are counted buffer by buffer straight from the network
+ * buffers, and large inputs are counted off the event loop.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/text-analyzer")
+@CrossOrigin(origins = "http://localhost:4200")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTextAnalyzerRestService {
+
+    // Network buffers requested ahead of counting, Netty stops reading when they are not consumed
+    private static final int PREFETCH = 4;
+
+    private final TextAnalyzerService textAnalyzerService;
+    private final StreamingTextAnalyzerService streamingTextAnalyzerService;
+    private final BatchTextAnalyzerService batchTextAnalyzerService;
+    private final SessionTextAnalyzerService sessionTextAnalyzerService;
+    private final ProgressTextAnalyzerService progressTextAnalyzerService;
+    private final AnalysisResultCache resultCache;
+    private final ResultColumnStore resultStore;
+    private final TextAnalyzerProperties properties;
+
+    @PostMapping("/analyze")
+    public Mono<ResponseEntity<TextAnalysesResult>> analyzeText(@Valid @RequestBody TextAnalysesRequest request) {
+        log.debug("Received analysis for: {}", request.getParameterType());
+
+        Mono<TextAnalysesResult> result = Mono.fromCallable(() -> textAnalyzerService.analyzeText(request));
+        if (request.getInputText().length() >= properties.getCounting().getOffloadThreshold()) {
+            result = result.subscribeOn(Schedulers.boundedElastic());
+        }
+        return result.map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/analyze/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> analyzeWithProgress(@Valid @RequestBody TextAnalysesRequest request) {
+        log.debug("Received progress analysis for: {}", request.getParameterType());
+
+        progressTextAnalyzerService.validateRequest(request);
+        return Flux.<ServerSentEvent<Object>>create(sink -> {
+                    TextAnalysesResult result = progressTextAnalyzerService.analyze(request, progress -> {
+                        // Stops counting for a client that has gone away
+                        if (sink.isCancelled()) {
+                            throw new CancellationException("Progress stream cancelled");
+                        }
+                        sink.next(ServerSentEvent.builder((Object) progress).event("progress").build());
+                    });
+                    sink.next(ServerSentEvent.builder((Object) result).event("result").build());
+                    sink.complete();
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PostMapping("/analyze/batch")
+    public Mono<ResponseEntity<TextAnalysesBatchResult>> analyzeBatch(
+            @Valid @RequestBody TextAnalysesBatchRequest request) {
+        log.debug("Received batch analysis for {} items", request.getItems().size());
+
+        return Mono.fromCallable(() -> batchTextAnalyzerService.analyzeBatch(request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/analyze/stream",
+            consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public Mono<ResponseEntity<StreamAnalysesResult>> analyzeStream(
+            @RequestParam ParameterType parameterType,
+            @RequestParam(defaultValue = "false") boolean digest,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType,
+            @RequestBody(required = false) Flux<DataBuffer> body) {
+        log.debug("Received stream analysis for: {}", parameterType);
+
+        Charset charset = contentType != null && contentType.getCharset() != null
+                ? contentType.getCharset()
+                : StandardCharsets.UTF_8;
+
+        // The counter is also closed when the body fails or the client goes away
+        return Mono.using(() -> streamingTextAnalyzerService.open(charset, parameterType, digest),
+                        counter -> body.limitRate(PREFETCH)
+                                .doOnNext(buffer -> feed(counter, buffer))
+                                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                                .then(Mono.fromCallable(counter::finish)),
+                        StreamCounter::close)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/sessions")
+    public Mono<ResponseEntity<TextAnalysesSessionResult>> createSession(
+            @Valid @RequestBody TextAnalysesSessionRequest request) {
+        log.debug("Opening analysis session for: {}", request.getParameterType());
+
+        Mono<TextAnalysesSessionResult> result = Mono.fromCallable(
+                () -> sessionTextAnalyzerService.createSession(request));
+        if (request.getInputText() != null
+                && request.getInputText().length() >= properties.getCounting().getOffloadThreshold()) {
+            result = result.subscribeOn(Schedulers.boundedElastic());
+        }
+        return result.map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @GetMapping("/sessions/{sessionId}")
+    public Mono<ResponseEntity<TextAnalysesSessionResult>> getSession(@PathVariable String sessionId) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(sessionTextAnalyzerService.getSession(sessionId)));
+    }
+
+    // Edits only recount the changed range and stay on the event loop
+    @PostMapping("/sessions/{sessionId}/append")
+    public Mono<ResponseEntity<TextAnalysesSessionResult>> appendToSession(
+            @PathVariable String sessionId, @Valid @RequestBody TextAnalysesSessionAppendRequest request) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(sessionTextAnalyzerService.append(sessionId, request)));
+    }
+
+    @PostMapping("/sessions/{sessionId}/delete-range")
+    public Mono<ResponseEntity<TextAnalysesSessionResult>> deleteSessionRange(
+            @PathVariable String sessionId, @Valid @RequestBody TextAnalysesSessionDeleteRequest request) {
+        return Mono.fromCallable(
+                () -> ResponseEntity.ok(sessionTextAnalyzerService.deleteRange(sessionId, request)));
+    }
+
+    @GetMapping("/sessions/{sessionId}/verify")
+    public Mono<ResponseEntity<TextAnalysesSessionVerification>> verifySession(@PathVariable String sessionId) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(sessionTextAnalyzerService.verify(sessionId)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public Mono<ResponseEntity<Void>> deleteSession(@PathVariable String sessionId) {
+        return Mono.fromCallable(() -> {
+            sessionTextAnalyzerService.deleteSession(sessionId);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    @GetMapping("/cache/stats")
+    public Mono<ResponseEntity<AnalysisResultCache.CacheStats>> cacheStats() {
+        return Mono.fromSupplier(() -> ResponseEntity.ok(resultCache.stats()));
+    }
+
+    /**
+     * Sums the stored letter counts of one type over {@code [from, to)}, by default
+     * over everything stored so far.
+     */
+    @GetMapping("/results/aggregate")
+    public Mono<ResponseEntity<ResultAggregate>> aggregateResults(
+            @RequestParam ParameterType parameterType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(resultStore.aggregate(parameterType, from, to)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/health")
+    public Mono<ResponseEntity<String>> health() {
+        return Mono.just(ResponseEntity.ok("API is running"));
+    }
+
+    private static void feed(StreamCounter counter, DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator byteBuffers = buffer.readableByteBuffers()) {
+            byteBuffers.forEachRemaining(counter::feed);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -1,33 +1,269 @@
 package com.example.textanalyzerspring.rest;
 
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.cluster.ShardPeerClient;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.JobPriority;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.ResultAggregate;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesBatchRequest;
+import com.example.textanalyzerspring.model.TextAnalysesBatchResult;
+import com.example.textanalyzerspring.model.TextAnalysesJob;
 import com.example.textanalyzerspring.model.TextAnalysesRequest;
 import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesSessionAppendRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionDeleteRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionResult;
+import com.example.textanalyzerspring.model.TextAnalysesSessionVerification;
+import com.example.textanalyzerspring.model.TextAnalysesShardResult;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import com.example.textanalyzerspring.service.AnalysisJobService;
+import com.example.textanalyzerspring.service.BatchTextAnalyzerService;
+import com.example.textanalyzerspring.service.ProgressTextAnalyzerService;
+import com.example.textanalyzerspring.service.SessionTextAnalyzerService;
+import com.example.textanalyzerspring.service.ShardedTextAnalyzerService;
+import com.example.textanalyzerspring.service.StreamingTextAnalyzerService;
 import com.example.textanalyzerspring.service.TextAnalyzerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/text-analyzer")
 @CrossOrigin(origins = "http://localhost:4200")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TextAnalyzerRestService {
 
     private final TextAnalyzerService textAnalyzerService;
+    private final StreamingTextAnalyzerService streamingTextAnalyzerService;
+    private final BatchTextAnalyzerService batchTextAnalyzerService;
+    private final SessionTextAnalyzerService sessionTextAnalyzerService;
+    private final AnalysisJobService analysisJobService;
+    private final ProgressTextAnalyzerService progressTextAnalyzerService;
+    private final ShardedTextAnalyzerService shardedTextAnalyzerService;
+    private final AnalysisResultCache resultCache;
+    private final ResultColumnStore resultStore;
+    private final TextAnalyzerProperties properties;
 
     @PostMapping("/analyze")
     public ResponseEntity<TextAnalysesResult> analyzeText(@Valid @RequestBody TextAnalysesRequest request) {
-        log.info("Received analysis for: {}", request.getParameterType());
+        log.debug("Received analysis for: {}", request.getParameterType());
 
         TextAnalysesResult result = textAnalyzerService.analyzeText(request);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Streams {@code progress} events with the partial counts while the text is
+     * counted, then a {@code result} event carrying the same body as {@code /analyze}.
+     */
+    @PostMapping(value = "/analyze/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter analyzeWithProgress(@Valid @RequestBody TextAnalysesRequest request) {
+        log.debug("Received progress analysis for: {}", request.getParameterType());
+
+        SseEmitter emitter = new SseEmitter(properties.getProgress().getTimeout().toMillis());
+        progressTextAnalyzerService.analyzeAsync(request, progress -> send(emitter, "progress", progress))
+                .whenComplete((result, failure) -> {
+                    try {
+                        if (failure == null) {
+                            emitter.send(SseEmitter.event().name("result").data(result));
+                        } else {
+                            log.warn("Progress analysis failed: {}", failure.getMessage());
+                            emitter.send(SseEmitter.event().name("error").data(Map.of(
+                                    "error", "Internal server error",
+                                    "message", "Unexpected error occurred")));
+                        }
+                        emitter.complete();
+                    } catch (IOException e) {
+                        emitter.completeWithError(e);
+                    }
+                });
+        return emitter;
+    }
+
+    /**
+     * Splits the text into shards counted by the configured peers and merges their counts.
+     */
+    @PostMapping("/analyze/sharded")
+    public ResponseEntity<TextAnalysesResult> analyzeSharded(@Valid @RequestBody TextAnalysesRequest request) {
+        log.debug("Received sharded analysis for: {}", request.getParameterType());
+
+        return ResponseEntity.ok(shardedTextAnalyzerService.analyzeSharded(request));
+    }
+
+    /**
+     * Internal endpoint for the coordinator of a sharded analysis, refused without the cluster token.
+     */
+    @PostMapping(value = "/shards/count", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<TextAnalysesShardResult> countShard(
+            @RequestHeader(value = ShardPeerClient.TOKEN_HEADER, required = false) String token,
+            @RequestParam Set<ParameterType> parameterTypes,
+            @RequestBody(required = false) String shard) {
+        shardedTextAnalyzerService.checkPeerToken(token);
+        return ResponseEntity.ok(shardedTextAnalyzerService.countShard(shard, parameterTypes));
+    }
+
+    @PostMapping("/analyze/batch")
+    public ResponseEntity<TextAnalysesBatchResult> analyzeBatch(@Valid @RequestBody TextAnalysesBatchRequest request) {
+        log.debug("Received batch analysis for {} items", request.getItems().size());
+
+        TextAnalysesBatchResult result = batchTextAnalyzerService.analyzeBatch(request);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping(value = "/analyze/stream",
+            consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<StreamAnalysesResult> analyzeStream(
+            @RequestParam ParameterType parameterType,
+            @RequestParam(defaultValue = "false") boolean digest,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType,
+            InputStream body) throws IOException {
+        log.debug("Received stream analysis for: {}", parameterType);
+
+        Charset charset = contentType != null && contentType.getCharset() != null
+                ? contentType.getCharset()
+                : StandardCharsets.UTF_8;
+
+        StreamAnalysesResult result = streamingTextAnalyzerService.analyzeStream(body, charset, parameterType, digest);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/sessions")
+    public ResponseEntity<TextAnalysesSessionResult> createSession(
+            @Valid @RequestBody TextAnalysesSessionRequest request) {
+        log.debug("Opening analysis session for: {}", request.getParameterType());
+
+        TextAnalysesSessionResult result = sessionTextAnalyzerService.createSession(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+    @GetMapping("/sessions/{sessionId}")
+    public ResponseEntity<TextAnalysesSessionResult> getSession(@PathVariable String sessionId) {
+        return ResponseEntity.ok(sessionTextAnalyzerService.getSession(sessionId));
+    }
+
+    @PostMapping("/sessions/{sessionId}/append")
+    public ResponseEntity<TextAnalysesSessionResult> appendToSession(
+            @PathVariable String sessionId, @Valid @RequestBody TextAnalysesSessionAppendRequest request) {
+        return ResponseEntity.ok(sessionTextAnalyzerService.append(sessionId, request));
+    }
+
+    @PostMapping("/sessions/{sessionId}/delete-range")
+    public ResponseEntity<TextAnalysesSessionResult> deleteSessionRange(
+            @PathVariable String sessionId, @Valid @RequestBody TextAnalysesSessionDeleteRequest request) {
+        return ResponseEntity.ok(sessionTextAnalyzerService.deleteRange(sessionId, request));
+    }
+
+    @GetMapping("/sessions/{sessionId}/verify")
+    public ResponseEntity<TextAnalysesSessionVerification> verifySession(@PathVariable String sessionId) {
+        return ResponseEntity.ok(sessionTextAnalyzerService.verify(sessionId));
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> deleteSession(@PathVariable String sessionId) {
+        sessionTextAnalyzerService.deleteSession(sessionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/jobs")
+    public ResponseEntity<TextAnalysesJob> submitJob(@Valid @RequestBody TextAnalysesRequest request,
+                                                     @RequestParam(defaultValue = "NORMAL") JobPriority priority)
+            throws IOException {
+        log.debug("Queueing analysis job for: {}", request.getParameterType());
+
+        return accepted(analysisJobService.submit(request, priority));
+    }
+
+    @PostMapping(value = "/jobs/upload",
+            consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<TextAnalysesJob> submitUploadJob(
+            @RequestParam ParameterType parameterType,
+            @RequestParam(defaultValue = "false") boolean digest,
+            @RequestParam(defaultValue = "NORMAL") JobPriority priority,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType,
+            InputStream body) throws IOException {
+        log.debug("Queueing upload analysis job for: {}", parameterType);
+
+        Charset charset = contentType != null && contentType.getCharset() != null
+                ? contentType.getCharset()
+                : StandardCharsets.UTF_8;
+
+        return accepted(analysisJobService.submitUpload(body, charset, parameterType, digest, priority));
+    }
+
+    /**
+     * Returns the job state; with {@code waitSeconds} the response is held back
+     * until the job has finished or the wait is over.
+     */
+    @GetMapping("/jobs/{jobId}")
+    public CompletableFuture<ResponseEntity<TextAnalysesJob>> getJob(
+            @PathVariable String jobId, @RequestParam(defaultValue = "0") long waitSeconds) {
+        return analysisJobService.await(jobId, waitSeconds).thenApply(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<Void> deleteJob(@PathVariable String jobId) {
+        analysisJobService.delete(jobId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<AnalysisResultCache.CacheStats> cacheStats() {
+        return ResponseEntity.ok(resultCache.stats());
+    }
+
+    /**
+     * Sums the stored letter counts of one type over {@code [from, to)}, by default
+     * over everything stored so far.
+     */
+    @GetMapping("/results/aggregate")
+    public ResponseEntity<ResultAggregate> aggregateResults(
+            @RequestParam ParameterType parameterType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        return ResponseEntity.ok(resultStore.aggregate(parameterType, from, to));
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("API is running");
     }
+
+    // A failed send means the client is gone, the exception stops the count
+    private static void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ResponseEntity<TextAnalysesJob> accepted(TextAnalysesJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/text-analyzer/jobs/" + job.getJobId()))
+                .body(job);
+    }
 }
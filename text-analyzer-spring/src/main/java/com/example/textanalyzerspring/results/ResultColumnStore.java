@@ -0,0 +1,165 @@
+package com.example.textanalyzerspring.results;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.ResultAggregate;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Append-only history of the letter counts of analysed texts, kept off the heap in
+ * memory-mapped column files, one directory per parameter type. Aggregates over a
+ * time range only touch the timestamp column and the count columns, never a
+ * deserialized result. Disabled by default; {@link #append} is then a no-op.
+ * <p>
+ * Every one-shot analysis is stored: single requests, batch items, streams and
+ * uploads, jobs, progress and sharded analyses. Sessions are not, each edit would
+ * store another snapshot of the same text.
+ */
+@Slf4j
+@Component
+public class ResultColumnStore implements MeterBinder {
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int initialCapacity;
+    private final Map<ParameterType, ResultPartition> partitions = new EnumMap<>(ParameterType.class);
+
+    public ResultColumnStore(TextAnalyzerProperties properties) throws IOException {
+        TextAnalyzerProperties.ResultStore settings = properties.getResultStore();
+        this.enabled = settings.isEnabled();
+        this.directory = settings.getDirectory();
+        this.initialCapacity = settings.getInitialCapacity();
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        for (ParameterType parameterType : ParameterType.characterTypes()) {
+            Path partition = directory.resolve(parameterType.name());
+            if (Files.isDirectory(partition)) {
+                partitions.put(parameterType, ResultPartition.open(partition, initialCapacity));
+            }
+        }
+        log.info("Result store at {} holds {} results", directory, rows());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Stores one row per letter-count type of {@code result}; term frequencies are not
+     * kept. A failing write is logged, the analysis itself has already succeeded and
+     * never fails because of the store.
+     */
+    public void append(TextAnalysesResult result) {
+        if (!enabled) {
+            return;
+        }
+        long timestamp = (result.getTimestamp() != null ? result.getTimestamp() : Instant.now()).toEpochMilli();
+        Map<ParameterType, Map<Character, Integer>> analyses = result.getAnalyses();
+        if (analyses == null && result.getLetterCounts() != null) {
+            analyses = Map.of(result.getParameterType(), result.getLetterCounts());
+        }
+        if (analyses == null) {
+            return;
+        }
+        for (Map.Entry<ParameterType, Map<Character, Integer>> analysis : analyses.entrySet()) {
+            append(timestamp, analysis.getKey(), analysis.getValue());
+        }
+    }
+
+    public void append(StreamAnalysesResult result) {
+        if (!enabled) {
+            return;
+        }
+        long timestamp = (result.getTimestamp() != null ? result.getTimestamp() : Instant.now()).toEpochMilli();
+        append(timestamp, result.getParameterType(), result.getLetterCounts());
+    }
+
+    /**
+     * Sums the stored counts of {@code parameterType} over the results stored at or
+     * after {@code from} and before {@code to}; a missing bound leaves that side open.
+     */
+    public ResultAggregate aggregate(ParameterType parameterType, Instant from, Instant to) {
+        if (!enabled) {
+            throw new IllegalArgumentException("The result store is not enabled");
+        }
+        if (parameterType == null) {
+            throw new IllegalArgumentException("Parameter Type cannot be null");
+        }
+        if (parameterType.isTermType()) {
+            throw new IllegalArgumentException(parameterType + " results are not stored");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("From must be before to");
+        }
+        ResultPartition partition;
+        synchronized (partitions) {
+            partition = partitions.get(parameterType);
+        }
+        Map<Character, Long> totals = new TreeMap<>();
+        int count = partition == null ? 0 : partition.aggregate(
+                from == null ? Long.MIN_VALUE : from.toEpochMilli(), to == null ? Long.MAX_VALUE : to.toEpochMilli(),
+                totals);
+        Map<Character, Double> averages = new TreeMap<>();
+        totals.forEach((c, total) -> averages.put(c, (double) total / count));
+        return new ResultAggregate(parameterType, from, to, count, totals, averages);
+    }
+
+    public long rows() {
+        synchronized (partitions) {
+            return partitions.values().stream().mapToLong(ResultPartition::rows).sum();
+        }
+    }
+
+    @PreDestroy
+    public void force() {
+        synchronized (partitions) {
+            partitions.values().forEach(ResultPartition::force);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("text.analyzer.results.stored", this, ResultColumnStore::rows)
+                .description("Results kept in the result store")
+                .register(registry);
+    }
+
+    private void append(long timestamp, ParameterType parameterType, Map<Character, Integer> letterCounts) {
+        if (parameterType.isTermType() || letterCounts == null) {
+            return;
+        }
+        try {
+            partition(parameterType).append(timestamp, letterCounts);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not store {} result: {}", parameterType, e.toString());
+        }
+    }
+
+    private ResultPartition partition(ParameterType parameterType) throws IOException {
+        synchronized (partitions) {
+            ResultPartition partition = partitions.get(parameterType);
+            if (partition == null) {
+                partition = ResultPartition.open(directory.resolve(parameterType.name()), initialCapacity);
+                partitions.put(parameterType, partition);
+            }
+            return partition;
+        }
+    }
+}
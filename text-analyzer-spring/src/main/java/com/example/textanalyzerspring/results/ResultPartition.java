@@ -0,0 +1,198 @@
+package com.example.textanalyzerspring.results;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The stored results of one parameter type, one memory-mapped file per column:
+ * the timestamps as epoch milliseconds, and an int count column per character
+ * named after its code in hex. A column created after the first rows reads 0 for
+ * them, so a row only writes the characters it has seen. The row count lives in
+ * its own file and is written last, a row cut short by a crash is never visible.
+ */
+final class ResultPartition {
+
+    private static final String ROWS = "rows";
+    private static final String TIMESTAMPS = "timestamp.col";
+    private static final Pattern COUNT_COLUMN = Pattern.compile("([0-9a-f]{4})\\.col");
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+    private final Path directory;
+    private final MappedByteBuffer header;
+    private final Map<Character, MappedByteBuffer> counts = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private MappedByteBuffer timestamps;
+    private int capacity;
+    private volatile int rows;
+
+    private ResultPartition(Path directory, int initialCapacity) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        header = map(directory.resolve(ROWS), Long.BYTES);
+        rows = (int) header.getLong(0);
+        capacity = initialCapacity;
+        while (capacity < rows + 1) {
+            capacity *= 2;
+        }
+        timestamps = map(directory.resolve(TIMESTAMPS), (long) capacity * Long.BYTES);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Matcher matcher = COUNT_COLUMN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    MappedByteBuffer column = map(file, (long) capacity * Integer.BYTES);
+                    // Clears what an interrupted append may have left in the next row
+                    column.putInt(rows * Integer.BYTES, 0);
+                    counts.put((char) Integer.parseInt(matcher.group(1), 16), column);
+                }
+            }
+        }
+    }
+
+    static ResultPartition open(Path directory, int initialCapacity) throws IOException {
+        return new ResultPartition(directory, initialCapacity);
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    void append(long timestamp, Map<Character, Integer> letterCounts) throws IOException {
+        lock.writeLock().lock();
+        try {
+            int row = rows;
+            if (row == capacity) {
+                grow();
+            }
+            // Every column exists before the first value is written, a failed append leaves no partial row
+            for (Map.Entry<Character, Integer> entry : letterCounts.entrySet()) {
+                if (entry.getValue() != 0) {
+                    column(entry.getKey());
+                }
+            }
+            // Rows stay in timestamp order so a time range is found by binary search
+            long last = row > 0 ? timestamps.getLong((row - 1) * Long.BYTES) : Long.MIN_VALUE;
+            timestamps.putLong(row * Long.BYTES, Math.max(timestamp, last));
+            for (Map.Entry<Character, Integer> entry : letterCounts.entrySet()) {
+                if (entry.getValue() != 0) {
+                    counts.get(entry.getKey()).putInt(row * Integer.BYTES, entry.getValue());
+                }
+            }
+            header.putLong(0, row + 1);
+            rows = row + 1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sums every count column over the rows with a timestamp in {@code [from, to)}.
+     *
+     * @return the number of rows in the range
+     */
+    int aggregate(long from, long to, Map<Character, Long> totals) {
+        lock.readLock().lock();
+        try {
+            int first = firstRowAtOrAfter(from);
+            int end = firstRowAtOrAfter(to);
+            if (first >= end) {
+                return 0;
+            }
+            for (Map.Entry<Character, MappedByteBuffer> column : counts.entrySet()) {
+                MappedByteBuffer values = column.getValue();
+                long total = 0;
+                for (int row = first; row < end; row++) {
+                    total += values.getInt(row * Integer.BYTES);
+                }
+                if (total != 0) {
+                    totals.put(column.getKey(), total);
+                }
+            }
+            return end - first;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void force() {
+        lock.writeLock().lock();
+        try {
+            timestamps.force();
+            counts.values().forEach(MappedByteBuffer::force);
+            header.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int firstRowAtOrAfter(long timestamp) {
+        int low = 0;
+        int high = rows;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timestamps.getLong(middle * Long.BYTES) < timestamp) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private MappedByteBuffer column(char c) throws IOException {
+        MappedByteBuffer column = counts.get(c);
+        if (column == null) {
+            column = map(columnFile(c), (long) capacity * Integer.BYTES);
+            counts.put(c, column);
+        }
+        return column;
+    }
+
+    /**
+     * Doubles the mapped size of every column; the files grow sparsely, unused rows
+     * take no disk space. The new mappings replace the old ones only once all of
+     * them exist, so a failed mapping leaves the partition at its old capacity.
+     */
+    private void grow() throws IOException {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IOException("Result partition " + directory + " is full");
+        }
+        int grown = Math.min(capacity * 2, MAX_CAPACITY);
+        MappedByteBuffer grownTimestamps = map(directory.resolve(TIMESTAMPS), (long) grown * Long.BYTES);
+        Map<Character, MappedByteBuffer> grownCounts = new TreeMap<>();
+        for (Character c : counts.keySet()) {
+            grownCounts.put(c, map(columnFile(c), (long) grown * Integer.BYTES));
+        }
+        capacity = grown;
+        timestamps = grownTimestamps;
+        counts.putAll(grownCounts);
+    }
+
+    private Path columnFile(char c) {
+        return directory.resolve(String.format("%04x.col", (int) c));
+    }
+
+    /**
+     * Maps a column file; the mapping stays valid once the channel is closed, so no
+     * file handle is held per column.
+     */
+    private static MappedByteBuffer map(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+}
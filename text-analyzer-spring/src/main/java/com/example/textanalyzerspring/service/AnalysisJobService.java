@@ -0,0 +1,403 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.exception.JobNotFoundException;
+import com.example.textanalyzerspring.exception.JobQueueFullException;
+import com.example.textanalyzerspring.job.AnalysisJobStore;
+import com.example.textanalyzerspring.model.JobPriority;
+import com.example.textanalyzerspring.model.JobStatus;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesJob;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs analyses in the background so that large inputs do not hold a request
+ * thread for the whole count. Jobs wait in a bounded queue ordered by priority,
+ * then submission order; once the queue is full further submissions are refused
+ * with {@link JobQueueFullException}. Every state change is written to the
+ * {@link AnalysisJobStore}, so results survive restarts and can be fetched until
+ * the result TTL has passed.
+ */
+@Slf4j
+@Service
+public class AnalysisJobService implements MeterBinder {
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final TextAnalyzerService textAnalyzerService;
+    private final StreamingTextAnalyzerService streamingTextAnalyzerService;
+    private final AnalysisJobStore store;
+    private final TextAnalyzerProperties.Jobs properties;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, ActiveJob> activeJobs = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+
+    public AnalysisJobService(TextAnalyzerService textAnalyzerService,
+                              StreamingTextAnalyzerService streamingTextAnalyzerService,
+                              AnalysisJobStore store, TextAnalyzerProperties properties) throws IOException {
+        this.textAnalyzerService = textAnalyzerService;
+        this.streamingTextAnalyzerService = streamingTextAnalyzerService;
+        this.store = store;
+        this.properties = properties.getJobs();
+        int workers = this.properties.getWorkers() > 0
+                ? this.properties.getWorkers()
+                : Runtime.getRuntime().availableProcessors();
+        // The queue itself is unbounded, admission is limited by the queued counter instead
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), new JobThreadFactory());
+        recoverInterruptedJobs();
+    }
+
+    /**
+     * Spools the text of {@code request} to the store before queueing the job, so a
+     * full queue does not keep every waiting text on the heap. Unless the request
+     * sets an {@code originalTextLimit} the stored result carries no original text,
+     * only its length and SHA-256.
+     */
+    public TextAnalysesJob submit(TextAnalysesRequest request, JobPriority priority) throws IOException {
+        textAnalyzerService.validateRequest(request);
+
+        reserveQueueSlot();
+        String jobId = UUID.randomUUID().toString();
+        Path upload = store.upload(jobId);
+        try (Writer writer = Files.newBufferedWriter(upload, StandardCharsets.UTF_8)) {
+            writer.write(request.getInputText());
+        } catch (IOException | RuntimeException e) {
+            releaseUpload(upload);
+            throw e;
+        }
+
+        ParameterType parameterType = request.getParameterType();
+        Set<ParameterType> additionalParameterTypes = request.getAdditionalParameterTypes();
+        Integer originalTextLimit = request.getOriginalTextLimit();
+        return enqueue(jobId, parameterType, priority, () -> {
+            try {
+                TextAnalysesResult result = textAnalyzerService.analyzeText(new TextAnalysesRequest(parameterType,
+                        Files.readString(upload), additionalParameterTypes, originalTextLimit));
+                return originalTextLimit == null ? OriginalTexts.limit(result, 0) : result;
+            } finally {
+                Files.deleteIfExists(upload);
+            }
+        });
+    }
+
+    /**
+     * Spools {@code body} to the store before queueing the job, so the upload
+     * completes at network speed and the request thread is released right away.
+     */
+    public TextAnalysesJob submitUpload(InputStream body, Charset charset, ParameterType parameterType,
+                                        boolean digest, JobPriority priority) throws IOException {
+        if (parameterType == null) {
+            throw new IllegalArgumentException("Parameter Type cannot be null");
+        }
+        if (parameterType.isTermType()) {
+            throw new IllegalArgumentException(parameterType + " is counted per term and cannot be uploaded");
+        }
+
+        reserveQueueSlot();
+        String jobId = UUID.randomUUID().toString();
+        Path upload = store.upload(jobId);
+        try {
+            spool(body, upload, properties.getMaxUploadSize().toBytes());
+        } catch (IOException | RuntimeException e) {
+            releaseUpload(upload);
+            throw e;
+        }
+
+        return enqueue(jobId, parameterType, priority, () -> {
+            try (InputStream input = Files.newInputStream(upload)) {
+                return streamingTextAnalyzerService.analyzeStream(input, charset, parameterType, digest);
+            } finally {
+                Files.deleteIfExists(upload);
+            }
+        });
+    }
+
+    public TextAnalysesJob get(String jobId) {
+        ActiveJob job = activeJobs.get(jobId);
+        if (job != null) {
+            return job.snapshot();
+        }
+        return store.load(jobId).orElseThrow(() -> new JobNotFoundException(jobId));
+    }
+
+    /**
+     * Completes with the state of the job once it has finished, or after
+     * {@code waitSeconds} (capped at the configured maximum) with its current state.
+     */
+    public CompletableFuture<TextAnalysesJob> await(String jobId, long waitSeconds) {
+        if (waitSeconds < 0) {
+            throw new IllegalArgumentException("Wait seconds cannot be negative");
+        }
+
+        ActiveJob job = activeJobs.get(jobId);
+        if (job == null || waitSeconds == 0) {
+            return CompletableFuture.completedFuture(get(jobId));
+        }
+
+        long waitMillis = Math.min(Duration.ofSeconds(waitSeconds).toMillis(), properties.getMaxWait().toMillis());
+        return job.completion.copy()
+                .completeOnTimeout(null, waitMillis, TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> get(jobId));
+    }
+
+    /**
+     * Forgets a job. A queued job is taken off the queue; a running count cannot be
+     * interrupted, its result is discarded when it completes.
+     */
+    public void delete(String jobId) {
+        ActiveJob job = activeJobs.remove(jobId);
+        if (job != null) {
+            synchronized (job) {
+                job.deleted = true;
+            }
+            if (executor.remove(job)) {
+                queued.decrementAndGet();
+            }
+            job.completion.complete(null);
+        }
+        if (!store.delete(jobId) && job == null) {
+            throw new JobNotFoundException(jobId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${text-analyzer.jobs.cleanup-interval:1m}")
+    public void removeExpiredJobs() throws IOException {
+        List<String> removed = store.deleteOlderThan(Instant.now().minus(properties.getResultTtl()),
+                activeJobs.keySet());
+        if (!removed.isEmpty()) {
+            log.debug("Removed {} expired jobs", removed.size());
+        }
+    }
+
+    public int queuedJobs() {
+        return queued.get();
+    }
+
+    /**
+     * Drops the queued jobs and gives the running ones a moment to record their
+     * outcome; whatever is left unfinished is marked as failed on the next start.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("text.analyzer.jobs.queued", this, AnalysisJobService::queuedJobs)
+                .register(registry);
+        Gauge.builder("text.analyzer.jobs.active", activeJobs, Map::size)
+                .register(registry);
+        FunctionCounter.builder("text.analyzer.jobs.rejected", rejected, LongAdder::sum)
+                .register(registry);
+    }
+
+    private void reserveQueueSlot() {
+        if (queued.incrementAndGet() > properties.getQueueCapacity()) {
+            queued.decrementAndGet();
+            rejected.increment();
+            throw new JobQueueFullException(properties.getQueueCapacity(), properties.getRetryAfter());
+        }
+    }
+
+    private void releaseUpload(Path upload) throws IOException {
+        queued.decrementAndGet();
+        Files.deleteIfExists(upload);
+    }
+
+    private TextAnalysesJob enqueue(String jobId, ParameterType parameterType, JobPriority priority,
+                                    Callable<?> task) {
+        TextAnalysesJob state = new TextAnalysesJob();
+        state.setJobId(jobId);
+        state.setStatus(JobStatus.QUEUED);
+        state.setPriority(priority);
+        state.setParameterType(parameterType);
+        state.setSubmittedAt(Instant.now());
+
+        ActiveJob job = new ActiveJob(state, priority, sequence.incrementAndGet(), task);
+        TextAnalysesJob snapshot = job.snapshot();
+        activeJobs.put(jobId, job);
+        try {
+            store.save(snapshot);
+            executor.execute(job);
+        } catch (RuntimeException e) {
+            activeJobs.remove(jobId);
+            queued.decrementAndGet();
+            store.delete(jobId);
+            throw e;
+        }
+
+        log.debug("Queued job {} for {} with priority {}", jobId, parameterType, priority);
+        return snapshot;
+    }
+
+    private static void spool(InputStream body, Path upload, long maxBytes) throws IOException {
+        try (OutputStream output = Files.newOutputStream(upload)) {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long total = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new IllegalArgumentException("Upload cannot exceed " + maxBytes + " bytes");
+                }
+                output.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * Jobs that were queued or running when the application stopped cannot be
+     * resumed: their request bodies are gone, so they are marked as failed.
+     */
+    private void recoverInterruptedJobs() throws IOException {
+        for (TextAnalysesJob job : store.loadAll()) {
+            if (!job.getStatus().isFinished()) {
+                job.setStatus(JobStatus.FAILED);
+                job.setCompletedAt(Instant.now());
+                job.setError("Interrupted by a restart");
+                store.save(job);
+                log.info("Marked job {} interrupted by the restart as failed", job.getJobId());
+            }
+        }
+        store.deleteUploads();
+    }
+
+    private final class ActiveJob implements Runnable, Comparable<ActiveJob> {
+
+        private final TextAnalysesJob state;
+        private final JobPriority priority;
+        private final long sequence;
+        private final Callable<?> task;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private boolean deleted;
+
+        private ActiveJob(TextAnalysesJob state, JobPriority priority, long sequence, Callable<?> task) {
+            this.state = state;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            queued.decrementAndGet();
+            if (!transition(JobStatus.RUNNING, null, null)) {
+                return;
+            }
+
+            try {
+                Object outcome = task.call();
+                synchronized (this) {
+                    if (outcome instanceof StreamAnalysesResult streamResult) {
+                        state.setStreamResult(streamResult);
+                    } else {
+                        state.setResult((TextAnalysesResult) outcome);
+                    }
+                }
+                transition(JobStatus.SUCCEEDED, null, Instant.now());
+            } catch (IllegalArgumentException e) {
+                transition(JobStatus.FAILED, e.getMessage(), Instant.now());
+            } catch (Exception e) {
+                log.warn("Job {} failed", state.getJobId(), e);
+                transition(JobStatus.FAILED, "Analysis failed", Instant.now());
+            } finally {
+                activeJobs.remove(state.getJobId(), this);
+                completion.complete(null);
+            }
+        }
+
+        /**
+         * Moves the job to {@code status} and persists it, unless it was deleted meanwhile.
+         */
+        private synchronized boolean transition(JobStatus status, String error, Instant completedAt) {
+            if (deleted) {
+                return false;
+            }
+            state.setStatus(status);
+            if (status == JobStatus.RUNNING) {
+                state.setStartedAt(Instant.now());
+            }
+            state.setError(error);
+            state.setCompletedAt(completedAt);
+            try {
+                store.save(snapshot());
+            } catch (UncheckedIOException e) {
+                // The state is still served from memory while the job is active
+                log.warn("Could not persist job {}: {}", state.getJobId(), e.getMessage());
+            }
+            return true;
+        }
+
+        private synchronized TextAnalysesJob snapshot() {
+            return new TextAnalysesJob(state.getJobId(), state.getStatus(), state.getPriority(),
+                    state.getParameterType(), state.getSubmittedAt(), state.getStartedAt(), state.getCompletedAt(),
+                    state.getResult(), state.getStreamResult(), state.getError());
+        }
+
+        @Override
+        public int compareTo(ActiveJob other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private static final class JobThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "analysis-job-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
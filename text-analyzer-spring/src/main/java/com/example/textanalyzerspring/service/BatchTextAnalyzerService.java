@@ -0,0 +1,142 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.LetterHistogram;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesBatchItem;
+import com.example.textanalyzerspring.model.TextAnalysesBatchRequest;
+import com.example.textanalyzerspring.model.TextAnalysesBatchResult;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Analyzes a list of requests in one go. Items are validated and counted one by one
+ * so a bad item only fails itself, and a single scratch histogram is reused for the whole batch.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchTextAnalyzerService {
+
+    private final TextAnalyzerService textAnalyzerService;
+    private final HistogramLetterCountingEngine letterCountingEngine;
+    private final CountingExecutor countingExecutor;
+    private final ResultColumnStore resultStore;
+    private final Validator validator;
+    private final TextAnalyzerProperties properties;
+
+    public TextAnalysesBatchResult analyzeBatch(TextAnalysesBatchRequest request) {
+        validateBatch(request);
+
+        List<TextAnalysesRequest> items = request.getItems();
+        log.debug("Analyzing batch of {} items", items.size());
+
+        List<TextAnalysesBatchItem> results = new ArrayList<>(items.size());
+        LetterHistogram scratch = new LetterHistogram();
+        int failed = 0;
+
+        for (int index = 0; index < items.size(); index++) {
+            TextAnalysesRequest item = items.get(index);
+            Map<String, String> errors = validateItem(item);
+            if (!errors.isEmpty()) {
+                results.add(new TextAnalysesBatchItem(index, null, errors));
+                failed++;
+                continue;
+            }
+
+            try {
+                TextAnalysesResult result = analyzeItem(item, scratch);
+                resultStore.append(result);
+                results.add(new TextAnalysesBatchItem(index, result, null));
+            } catch (IllegalArgumentException ex) {
+                results.add(new TextAnalysesBatchItem(index, null, invalidInput(ex.getMessage())));
+                failed++;
+            }
+        }
+
+        return new TextAnalysesBatchResult(results, items.size() - failed, failed);
+    }
+
+    private TextAnalysesResult analyzeItem(TextAnalysesRequest item, LetterHistogram scratch) {
+        String text = item.getInputText();
+        if (TextAnalyzerService.hasTermTypes(item)) {
+            // Word and n-gram counts need the term engine, the scratch histogram does not apply
+            return textAnalyzerService.analyze(item);
+        }
+        if (TextAnalyzerService.hasAdditionalTypes(item)) {
+            Map<ParameterType, Map<Character, Integer>> analyses = countingExecutor.execute(text.length(),
+                    () -> letterCountingEngine.countAll(text, TextAnalyzerService.parameterTypes(item)));
+            TextAnalysesResult result = new TextAnalysesResult(item.getParameterType(), text,
+                    analyses.get(item.getParameterType()));
+            result.setAnalyses(analyses);
+            return OriginalTexts.limit(result, item.getOriginalTextLimit());
+        }
+
+        // Items run one after another, so an offloaded count still has the scratch histogram to itself
+        Map<Character, Integer> letterCounts;
+        try {
+            letterCounts = countingExecutor.execute(text.length(), () -> {
+                letterCountingEngine.accumulate(text, 0, text.length(), item.getParameterType(), scratch);
+                return letterCountingEngine.toCounts(scratch, item.getParameterType());
+            });
+        } finally {
+            scratch.clear();
+        }
+        return OriginalTexts.limit(new TextAnalysesResult(item.getParameterType(), text, letterCounts),
+                item.getOriginalTextLimit());
+    }
+
+    private void validateBatch(TextAnalysesBatchRequest request) {
+        if (request == null || request.getItems() == null) {
+            throw new IllegalArgumentException("Batch items cannot be null");
+        }
+        if (request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("Batch cannot be empty");
+        }
+        int maxSize = properties.getBatch().getMaxSize();
+        if (request.getItems().size() > maxSize) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + maxSize + " items");
+        }
+    }
+
+    private Map<String, String> validateItem(TextAnalysesRequest item) {
+        if (item == null) {
+            return invalidInput("Request cannot be null");
+        }
+
+        Map<String, String> errors = new HashMap<>();
+        Set<ConstraintViolation<TextAnalysesRequest>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            violations.forEach(violation ->
+                    errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            return errors;
+        }
+
+        try {
+            textAnalyzerService.validateRequest(item);
+        } catch (IllegalArgumentException ex) {
+            return invalidInput(ex.getMessage());
+        }
+        return errors;
+    }
+
+    private static Map<String, String> invalidInput(String message) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", "Invalid input");
+        errors.put("message", message);
+        return errors;
+    }
+}
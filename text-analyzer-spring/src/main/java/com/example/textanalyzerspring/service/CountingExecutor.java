@@ -0,0 +1,83 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of platform threads for CPU-heavy counting. When requests are served
+ * on virtual threads, large counts are handed over to this pool so they cannot
+ * occupy every carrier thread; the virtual request thread just parks while waiting.
+ */
+@Slf4j
+@Component
+public class CountingExecutor {
+
+    private final TextAnalyzerProperties.Counting properties;
+    private final ThreadPoolExecutor executor;
+
+    public CountingExecutor(TextAnalyzerProperties properties) {
+        this.properties = properties.getCounting();
+        int threads = this.properties.getMaxThreads() > 0
+                ? this.properties.getMaxThreads()
+                : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.properties.getQueueCapacity()), new CountingThreadFactory());
+    }
+
+    public <T> T execute(int inputLength, Supplier<T> task) {
+        if (!properties.isOffloadEnabled() || inputLength < properties.getOffloadThreshold()) {
+            return task.get();
+        }
+
+        Future<T> future = executor.submit(task::get);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for counting", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Counting failed", e.getCause());
+        }
+    }
+
+    /**
+     * Runs {@code task} on the pool without waiting for it, whatever its size.
+     * Throws {@code RejectedExecutionException} when the queue is full.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class CountingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "counting-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
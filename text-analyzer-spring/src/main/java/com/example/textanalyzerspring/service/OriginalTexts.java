@@ -0,0 +1,77 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Applies the {@code originalTextLimit} request option to a result.
+ */
+public final class OriginalTexts {
+
+    private static final int ENCODE_BUFFER_SIZE = 8192;
+
+    private OriginalTexts() {
+    }
+
+    /**
+     * Truncates or drops the echoed original text and records the length and
+     * SHA-256 of the full text instead. A {@code null} limit keeps the full echo.
+     */
+    public static TextAnalysesResult limit(TextAnalysesResult result, Integer limit) {
+        String text = result.getOriginalText();
+        if (limit == null || text == null) {
+            return result;
+        }
+
+        result.setOriginalTextLength(text.length());
+        result.setOriginalTextSha256(sha256Hex(text));
+        if (limit == 0) {
+            result.setOriginalText(null);
+        } else if (text.length() > limit) {
+            int end = Character.isHighSurrogate(text.charAt(limit - 1)) ? limit - 1 : limit;
+            result.setOriginalText(text.substring(0, end));
+        }
+        return result;
+    }
+
+    /**
+     * SHA-256 of the UTF-8 encoding of {@code text}, hex encoded. The text is encoded
+     * through a small buffer rather than copied into a byte array.
+     */
+    public static String sha256Hex(CharSequence text) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chars = CharBuffer.wrap(text);
+        ByteBuffer bytes = ByteBuffer.allocate(ENCODE_BUFFER_SIZE);
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, bytes, true);
+            digest.update(bytes.flip());
+            bytes.clear();
+        } while (result.isOverflow());
+        while (encoder.flush(bytes).isOverflow()) {
+            digest.update(bytes.flip());
+            bytes.clear();
+        }
+        digest.update(bytes.flip());
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
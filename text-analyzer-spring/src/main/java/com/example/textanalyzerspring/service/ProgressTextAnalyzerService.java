@@ -0,0 +1,109 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.CharacterAnalyzer;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.LetterHistogram;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.metrics.AnalysisPhase;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesProgress;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Counts a text chunk by chunk and reports the partial counts while it runs, so
+ * that clients of very large inputs see the analysis advance. The clock is read
+ * once per chunk and the histograms are only converted when an event is due, the
+ * counting loop itself is the same as for a plain analysis.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProgressTextAnalyzerService {
+
+    private final HistogramLetterCountingEngine engine;
+    private final TextAnalyzerService textAnalyzerService;
+    private final CountingExecutor countingExecutor;
+    private final TextAnalyzerProperties properties;
+    private final AnalysisMetrics metrics;
+    private final ResultColumnStore resultStore;
+
+    /**
+     * Validates the request on the calling thread, so that invalid input is refused
+     * before an event stream is opened, then counts it on the counting pool.
+     * Exceptions thrown by {@code listener} abort the count, e.g. once the client
+     * has gone away.
+     */
+    public CompletableFuture<TextAnalysesResult> analyzeAsync(TextAnalysesRequest request,
+                                                              Consumer<TextAnalysesProgress> listener) {
+        validateRequest(request);
+        return countingExecutor.submit(() -> analyze(request, listener));
+    }
+
+    public TextAnalysesResult analyze(TextAnalysesRequest request, Consumer<TextAnalysesProgress> listener) {
+        validateRequest(request);
+
+        String text = request.getInputText();
+        ParameterType primary = request.getParameterType();
+        Set<ParameterType> parameterTypes = TextAnalyzerService.hasAdditionalTypes(request)
+                ? TextAnalyzerService.parameterTypes(request)
+                : EnumSet.of(primary);
+        metrics.recordInputSize(primary, text.length());
+
+        long start = System.nanoTime();
+        CharacterAnalyzer[] analyzers = engine.analyzers(parameterTypes);
+        LetterHistogram[] histograms = HistogramLetterCountingEngine.newHistograms(analyzers.length);
+        int chunkSize = properties.getProgress().getChunkSize();
+        long intervalNanos = properties.getProgress().getInterval().toNanos();
+        long nextEvent = start + intervalNanos;
+
+        int chunkEnd;
+        for (int chunkStart = 0; chunkStart < text.length(); chunkStart = chunkEnd) {
+            chunkEnd = Math.min(chunkStart + chunkSize, text.length());
+            if (chunkEnd < text.length() && Character.isHighSurrogate(text.charAt(chunkEnd - 1))) {
+                chunkEnd++;
+            }
+            engine.accumulateAll(text, chunkStart, chunkEnd, analyzers, histograms);
+
+            long now = System.nanoTime();
+            if (now >= nextEvent && chunkEnd < text.length()) {
+                listener.accept(progress(primary, chunkEnd, text.length(), analyzers, histograms));
+                nextEvent = now + intervalNanos;
+            }
+        }
+
+        metrics.recordPhase(AnalysisPhase.COUNT, primary, System.nanoTime() - start);
+
+        Map<ParameterType, Map<Character, Integer>> analyses = engine.toCounts(analyzers, histograms);
+        TextAnalysesResult result = new TextAnalysesResult(primary, text, analyses.get(primary));
+        if (analyses.size() > 1) {
+            result.setAnalyses(analyses);
+        }
+        resultStore.append(result);
+        return OriginalTexts.limit(result, request.getOriginalTextLimit());
+    }
+
+    public void validateRequest(TextAnalysesRequest request) {
+        textAnalyzerService.validateRequest(request);
+    }
+
+    private TextAnalysesProgress progress(ParameterType primary, int processed, int total,
+                                          CharacterAnalyzer[] analyzers, LetterHistogram[] histograms) {
+        Map<ParameterType, Map<Character, Integer>> analyses = engine.toCounts(analyzers, histograms);
+        double percent = Math.floor(processed * 1000.0 / total) / 10;
+        return new TextAnalysesProgress(primary, processed, total, percent, analyses.get(primary),
+                analyses.size() > 1 ? analyses : null, Instant.now());
+    }
+}
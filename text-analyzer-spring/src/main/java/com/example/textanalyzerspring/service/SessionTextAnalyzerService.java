@@ -0,0 +1,140 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.exception.SessionNotFoundException;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesSessionAppendRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionDeleteRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionResult;
+import com.example.textanalyzerspring.model.TextAnalysesSessionVerification;
+import com.example.textanalyzerspring.session.AnalysisSession;
+import com.example.textanalyzerspring.session.AnalysisSessionStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps letter counts of a growing document up to date from the edits sent by the
+ * client, instead of recounting the whole document on every change.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionTextAnalyzerService {
+
+    private final HistogramLetterCountingEngine engine;
+    private final AnalysisSessionStore sessionStore;
+    private final TextAnalyzerProperties properties;
+
+    public TextAnalysesSessionResult createSession(TextAnalysesSessionRequest request) {
+        validateRequest(request);
+
+        String text = request.getInputText() == null ? "" : request.getInputText();
+        int maxLength = properties.getSession().getMaxLength();
+        if (text.length() > maxLength) {
+            throw new IllegalArgumentException("Session text cannot exceed " + maxLength + " characters");
+        }
+
+        AnalysisSession session = new AnalysisSession(UUID.randomUUID().toString(), request.getParameterType(),
+                parameterTypes(request), text, engine);
+        sessionStore.put(session);
+
+        log.debug("Opened session {} for {} with {} characters", session.id(), session.parameterTypes(),
+                text.length());
+        return toResult(session, session.snapshot());
+    }
+
+    public TextAnalysesSessionResult append(String sessionId, TextAnalysesSessionAppendRequest request) {
+        if (request == null || request.getText() == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+
+        AnalysisSession session = session(sessionId);
+        return toResult(session, session.append(request.getText(), properties.getSession().getMaxLength()));
+    }
+
+    public TextAnalysesSessionResult deleteRange(String sessionId, TextAnalysesSessionDeleteRequest request) {
+        if (request == null || request.getStart() == null || request.getEnd() == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+
+        AnalysisSession session = session(sessionId);
+        return toResult(session, session.delete(request.getStart(), request.getEnd()));
+    }
+
+    public TextAnalysesSessionResult getSession(String sessionId) {
+        AnalysisSession session = session(sessionId);
+        return toResult(session, session.snapshot());
+    }
+
+    /**
+     * Compares the running counts of a session with a full recount of its text.
+     */
+    public TextAnalysesSessionVerification verify(String sessionId) {
+        AnalysisSession session = session(sessionId);
+        AnalysisSession.Snapshot snapshot;
+        Map<ParameterType, Map<Character, Integer>> recounted;
+        synchronized (session) {
+            snapshot = session.snapshot();
+            recounted = session.recount();
+        }
+
+        Set<ParameterType> mismatched = EnumSet.noneOf(ParameterType.class);
+        recounted.forEach((parameterType, counts) -> {
+            if (!counts.equals(snapshot.analyses().get(parameterType))) {
+                mismatched.add(parameterType);
+            }
+        });
+        if (!mismatched.isEmpty()) {
+            log.warn("Session {} counts differ from a full recount for {}", sessionId, mismatched);
+        }
+
+        return new TextAnalysesSessionVerification(sessionId, snapshot.length(), mismatched.isEmpty(), mismatched);
+    }
+
+    public void deleteSession(String sessionId) {
+        if (!sessionStore.remove(sessionId)) {
+            throw new SessionNotFoundException(sessionId);
+        }
+    }
+
+    private AnalysisSession session(String sessionId) {
+        return sessionStore.get(sessionId).orElseThrow(() -> new SessionNotFoundException(sessionId));
+    }
+
+    private static TextAnalysesSessionResult toResult(AnalysisSession session, AnalysisSession.Snapshot snapshot) {
+        Map<ParameterType, Map<Character, Integer>> analyses = snapshot.analyses();
+        return new TextAnalysesSessionResult(session.id(), session.parameterType(), snapshot.length(),
+                analyses.get(session.parameterType()), analyses.size() > 1 ? analyses : null,
+                snapshot.lastModified());
+    }
+
+    private static Set<ParameterType> parameterTypes(TextAnalysesSessionRequest request) {
+        Set<ParameterType> parameterTypes = EnumSet.of(request.getParameterType());
+        if (request.getAdditionalParameterTypes() != null) {
+            parameterTypes.addAll(request.getAdditionalParameterTypes());
+        }
+        return parameterTypes;
+    }
+
+    void validateRequest(TextAnalysesSessionRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Request cannot be null");
+        }
+        if (request.getParameterType() == null) {
+            throw new IllegalArgumentException("Parameter Type cannot be null");
+        }
+        if (request.getAdditionalParameterTypes() != null
+                && request.getAdditionalParameterTypes().stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Additional Parameter Types cannot contain null");
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.cluster.ShardPeerClient;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.CharacterAnalyzer;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.LetterHistogram;
+import com.example.textanalyzerspring.exception.ShardAccessDeniedException;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.metrics.AnalysisPhase;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesShardResult;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coordinator side of a sharded analysis. The text is cut into shards that are
+ * counted by the configured peers in parallel; their histograms are added up into
+ * one result. A shard whose peer fails is sent to the next peer, and the failed
+ * peer is skipped for the rest of the analysis. After {@code max-attempts} peers,
+ * or without any peer configured, the coordinator counts the shard itself.
+ */
+@Slf4j
+@Service
+public class ShardedTextAnalyzerService implements MeterBinder {
+
+    private static final char[] NO_CHARACTERS = new char[0];
+
+    private final HistogramLetterCountingEngine engine;
+    private final TextAnalyzerService textAnalyzerService;
+    private final ShardPeerClient peerClient;
+    private final AnalysisMetrics metrics;
+    private final ResultColumnStore resultStore;
+    private final List<URI> peers;
+    private final int shardSize;
+    private final int maxAttempts;
+    private final byte[] token;
+    private final ExecutorService executor;
+
+    private final Map<URI, LongAdder> peerSuccesses = new LinkedHashMap<>();
+    private final Map<URI, LongAdder> peerFailures = new LinkedHashMap<>();
+    private final LongAdder localShards = new LongAdder();
+
+    public ShardedTextAnalyzerService(HistogramLetterCountingEngine engine, TextAnalyzerService textAnalyzerService,
+                                      ShardPeerClient peerClient, TextAnalyzerProperties properties,
+                                      AnalysisMetrics metrics, ResultColumnStore resultStore) {
+        this.engine = engine;
+        this.textAnalyzerService = textAnalyzerService;
+        this.peerClient = peerClient;
+        this.metrics = metrics;
+        this.resultStore = resultStore;
+        TextAnalyzerProperties.Cluster cluster = properties.getCluster();
+        this.peers = List.copyOf(cluster.getPeers());
+        this.shardSize = cluster.getShardSize();
+        this.maxAttempts = cluster.getMaxAttempts();
+        this.token = cluster.getToken().getBytes(StandardCharsets.UTF_8);
+        int parallelism = cluster.getParallelism() > 0 ? cluster.getParallelism() : Math.max(2, 2 * peers.size());
+        this.executor = Executors.newFixedThreadPool(parallelism, new ShardThreadFactory());
+        for (URI peer : peers) {
+            peerSuccesses.put(peer, new LongAdder());
+            peerFailures.put(peer, new LongAdder());
+        }
+    }
+
+    public TextAnalysesResult analyzeSharded(TextAnalysesRequest request) {
+        textAnalyzerService.validateRequest(request);
+        // Shards end at character offsets that may cut a word, and peers only count characters
+        if (TextAnalyzerService.hasTermTypes(request)) {
+            throw new IllegalArgumentException("Word and n-gram frequencies cannot be sharded");
+        }
+
+        String text = request.getInputText();
+        ParameterType primary = request.getParameterType();
+        Set<ParameterType> parameterTypes = TextAnalyzerService.hasAdditionalTypes(request)
+                ? TextAnalyzerService.parameterTypes(request)
+                : EnumSet.of(primary);
+        metrics.recordInputSize(primary, text.length());
+
+        long start = System.nanoTime();
+        List<int[]> shards = shardBounds(text, shardSize);
+        Set<URI> failedPeers = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<TextAnalysesShardResult>> results = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            int index = i;
+            int[] bounds = shards.get(i);
+            results.add(CompletableFuture.supplyAsync(() -> countShard(index,
+                    text.substring(bounds[0], bounds[1]), parameterTypes, failedPeers), executor));
+        }
+
+        CharacterAnalyzer[] analyzers = engine.analyzers(parameterTypes);
+        LetterHistogram[] histograms = HistogramLetterCountingEngine.newHistograms(analyzers.length);
+        for (CompletableFuture<TextAnalysesShardResult> result : results) {
+            merge(result.join(), analyzers, histograms);
+        }
+        metrics.recordPhase(AnalysisPhase.COUNT, primary, System.nanoTime() - start);
+        log.debug("Counted {} shards, failed peers: {}", shards.size(), failedPeers);
+
+        Map<ParameterType, Map<Character, Integer>> analyses = engine.toCounts(analyzers, histograms);
+        TextAnalysesResult result = new TextAnalysesResult(primary, text, analyses.get(primary));
+        if (analyses.size() > 1) {
+            result.setAnalyses(analyses);
+        }
+        resultStore.append(result);
+        return OriginalTexts.limit(result, request.getOriginalTextLimit());
+    }
+
+    /**
+     * Peer side: lets a shard request through only when it carries the configured
+     * cluster token. Without a token configured no request is let through.
+     */
+    public void checkPeerToken(String peerToken) {
+        if (token.length == 0 || peerToken == null
+                || !MessageDigest.isEqual(token, peerToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new ShardAccessDeniedException();
+        }
+    }
+
+    /**
+     * Peer side: counts one shard and lists the characters that occur in it.
+     */
+    public TextAnalysesShardResult countShard(String shard, Set<ParameterType> parameterTypes) {
+        if (parameterTypes == null || parameterTypes.isEmpty()) {
+            throw new IllegalArgumentException("Parameter Types cannot be empty");
+        }
+
+        String text = shard == null ? "" : shard;
+        CharacterAnalyzer[] analyzers = engine.analyzers(parameterTypes);
+        LetterHistogram[] histograms = HistogramLetterCountingEngine.newHistograms(analyzers.length);
+        engine.accumulateAll(text, 0, text.length(), analyzers, histograms);
+
+        Map<ParameterType, Map<Character, Integer>> counts = new EnumMap<>(ParameterType.class);
+        for (int i = 0; i < analyzers.length; i++) {
+            counts.put(analyzers[i].parameterType(), histograms[i].toMap(NO_CHARACTERS));
+        }
+        return new TextAnalysesShardResult(text.length(), counts);
+    }
+
+    /**
+     * Cuts {@code text} into {@code [start, end)} ranges of {@code shardSize} chars,
+     * moving an end past the low surrogate when it would split a pair.
+     */
+    static List<int[]> shardBounds(String text, int shardSize) {
+        List<int[]> shards = new ArrayList<>();
+        int end;
+        for (int start = 0; start < text.length(); start = end) {
+            end = Math.min(start + shardSize, text.length());
+            if (end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) {
+                end++;
+            }
+            shards.add(new int[]{start, end});
+        }
+        return shards;
+    }
+
+    private TextAnalysesShardResult countShard(int index, String shard, Set<ParameterType> parameterTypes,
+                                               Set<URI> failedPeers) {
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            URI peer = nextPeer(index + attempt, failedPeers);
+            if (peer == null) {
+                break;
+            }
+            try {
+                TextAnalysesShardResult result = peerClient.count(peer, shard, parameterTypes);
+                checkShardResult(result, shard, parameterTypes);
+                peerSuccesses.get(peer).increment();
+                return result;
+            } catch (RestClientException | IllegalStateException e) {
+                log.warn("Shard {} failed on {}: {}", index, peer, e.getMessage());
+                peerFailures.get(peer).increment();
+                failedPeers.add(peer);
+            }
+        }
+
+        if (!peers.isEmpty()) {
+            log.warn("Counting shard {} on the coordinator, no peer could count it", index);
+        }
+        localShards.increment();
+        return countShard(shard, parameterTypes);
+    }
+
+    /**
+     * Picks the peers round-robin by shard, so that shards are spread evenly and a
+     * retry goes to a different peer than the attempt before.
+     */
+    private URI nextPeer(int position, Set<URI> failedPeers) {
+        for (int i = 0; i < peers.size(); i++) {
+            URI peer = peers.get((position + i) % peers.size());
+            if (!failedPeers.contains(peer)) {
+                return peer;
+            }
+        }
+        return null;
+    }
+
+    private static void checkShardResult(TextAnalysesShardResult result, String shard,
+                                         Set<ParameterType> parameterTypes) {
+        if (result == null || result.getCounts() == null || result.getCharacterCount() != shard.length()
+                || !result.getCounts().keySet().containsAll(parameterTypes)) {
+            throw new IllegalStateException("Incomplete shard result");
+        }
+    }
+
+    private static void merge(TextAnalysesShardResult result, CharacterAnalyzer[] analyzers,
+                              LetterHistogram[] histograms) {
+        for (int i = 0; i < analyzers.length; i++) {
+            LetterHistogram histogram = histograms[i];
+            result.getCounts().get(analyzers[i].parameterType()).forEach(histogram::add);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (URI peer : peers) {
+            FunctionCounter.builder("text.analyzer.shards", peerSuccesses.get(peer), LongAdder::sum)
+                    .tag("peer", peer.toString())
+                    .tag("outcome", "success")
+                    .register(registry);
+            FunctionCounter.builder("text.analyzer.shards", peerFailures.get(peer), LongAdder::sum)
+                    .tag("peer", peer.toString())
+                    .tag("outcome", "failure")
+                    .register(registry);
+        }
+        FunctionCounter.builder("text.analyzer.shards", localShards, LongAdder::sum)
+                .tag("peer", "local")
+                .tag("outcome", "success")
+                .register(registry);
+    }
+
+    private static final class ShardThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "shard-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
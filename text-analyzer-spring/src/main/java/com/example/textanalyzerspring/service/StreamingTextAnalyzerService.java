@@ -0,0 +1,203 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.LetterHistogram;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.metrics.AnalysisPhase;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.pool.ScratchPool;
+import com.example.textanalyzerspring.pool.ScratchPools;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Counts letters straight from a request body. The body is decoded chunk by chunk
+ * into a fixed-size char buffer, so memory use depends on the buffer size only.
+ * Blocking callers pass an {@link InputStream}; non-blocking callers open a
+ * {@link StreamCounter} and feed it the network buffers as they arrive. Buffers,
+ * decoder and histogram are pooled and handed back when the counter is closed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamingTextAnalyzerService {
+
+    // Enough for the longest incomplete byte sequence of any supported charset
+    private static final int CARRY_SIZE = 16;
+
+    private final HistogramLetterCountingEngine letterCountingEngine;
+    private final TextAnalyzerProperties properties;
+    private final AnalysisMetrics metrics;
+    private final ScratchPools pools;
+    private final ResultColumnStore resultStore;
+
+    public StreamAnalysesResult analyzeStream(InputStream body, Charset charset,
+                                              ParameterType parameterType, boolean digest) throws IOException {
+        try (StreamCounter counter = open(charset, parameterType, digest);
+             ScratchPool.Lease<byte[]> buffer = pools.byteBuffer()) {
+            int read;
+            while ((read = body.read(buffer.get())) != -1) {
+                counter.feed(ByteBuffer.wrap(buffer.get(), 0, read));
+            }
+            return counter.finish();
+        }
+    }
+
+    public StreamCounter open(Charset charset, ParameterType parameterType, boolean digest) {
+        if (parameterType == null) {
+            throw new IllegalArgumentException("Parameter Type cannot be null");
+        }
+        return new StreamCounter(charset, parameterType, digest);
+    }
+
+    /**
+     * Incremental count of one body. Not thread safe, buffers must be fed in order.
+     * {@link #finish()} closes the counter; one that is abandoned must be closed to
+     * return its pooled buffers.
+     */
+    public final class StreamCounter implements AutoCloseable {
+
+        // Read through the leases on every use, a closed counter must not touch them again
+        private final ScratchPool.Lease<CharsetDecoder> decoder;
+        private final ScratchPool.Lease<CharBuffer> chars;
+        private final ScratchPool.Lease<LetterHistogram> histogram;
+        private final ParameterType parameterType;
+        private final MessageDigest digest;
+        private final ByteBuffer carry = ByteBuffer.allocate(CARRY_SIZE);
+        private final long start = System.nanoTime();
+
+        private long byteCount;
+        private long characterCount;
+        private boolean sawNonBlank;
+
+        private StreamCounter(Charset charset, ParameterType parameterType, boolean digest) {
+            this.parameterType = parameterType;
+            this.digest = digest ? sha256() : null;
+            this.decoder = pools.decoder(charset);
+            this.chars = pools.charBuffer();
+            this.histogram = pools.histogram();
+        }
+
+        /**
+         * Decodes and counts the remaining bytes of {@code input}, which is read in
+         * place. A byte sequence cut off at the end is kept until the next call.
+         */
+        public void feed(ByteBuffer input) {
+            if (digest != null) {
+                digest.update(input.duplicate());
+            }
+            byteCount += input.remaining();
+
+            while (carry.position() > 0 && input.hasRemaining()) {
+                carry.put(input.get());
+                carry.flip();
+                decode(carry, false);
+                carry.compact();
+            }
+            if (input.hasRemaining()) {
+                decode(input, false);
+                carry.put(input);
+            }
+        }
+
+        public StreamAnalysesResult finish() {
+            try {
+                carry.flip();
+                decode(carry, true);
+                while (decoder.get().flush(chars.get()).isOverflow()) {
+                    drain(false);
+                }
+                drain(true);
+
+                metrics.recordPhase(AnalysisPhase.COUNT, parameterType, System.nanoTime() - start);
+                metrics.recordInputSize(parameterType, characterCount);
+
+                if (!sawNonBlank) {
+                    throw new IllegalArgumentException("Text cannot be empty or whitespace only");
+                }
+
+                log.debug("Analyzed stream of {} bytes for {}", byteCount, parameterType);
+
+                StreamAnalysesResult result = new StreamAnalysesResult(
+                        parameterType,
+                        letterCountingEngine.toCounts(histogram.get(), parameterType),
+                        characterCount,
+                        byteCount,
+                        digest == null ? null : HexFormat.of().formatHex(digest.digest()),
+                        Instant.now());
+                resultStore.append(result);
+                return result;
+            } finally {
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            decoder.close();
+            chars.close();
+            histogram.close();
+        }
+
+        private void decode(ByteBuffer input, boolean endOfInput) {
+            CharsetDecoder decoder = this.decoder.get();
+            CharBuffer chars = this.chars.get();
+            CoderResult result;
+            do {
+                result = decoder.decode(input, chars, endOfInput);
+                drain(false);
+            } while (result.isOverflow());
+        }
+
+        /**
+         * Counts the decoded chars. A trailing high surrogate is carried over to the
+         * next round so a surrogate pair is never split between two buffers.
+         */
+        private void drain(boolean endOfInput) {
+            CharBuffer chars = this.chars.get();
+            char[] array = chars.array();
+            int length = chars.position();
+            if (!sawNonBlank) {
+                for (int i = 0; i < length; i++) {
+                    if (array[i] > ' ') {
+                        sawNonBlank = true;
+                        break;
+                    }
+                }
+            }
+            int counted = !endOfInput && length > 0 && Character.isHighSurrogate(array[length - 1])
+                    ? length - 1
+                    : length;
+            letterCountingEngine.accumulate(array, 0, counted, parameterType, histogram.get());
+            characterCount += counted;
+            chars.clear();
+            if (counted < length) {
+                chars.put(array[counted]);
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
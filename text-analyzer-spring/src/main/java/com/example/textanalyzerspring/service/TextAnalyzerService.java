@@ -1,37 +1,137 @@
 package com.example.textanalyzerspring.service;
 
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.engine.LetterCountingEngine;
+import com.example.textanalyzerspring.engine.TermFrequencyEngine;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.metrics.AnalysisPhase;
 import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TermFrequencies;
 import com.example.textanalyzerspring.model.TextAnalysesRequest;
 import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.LinkedHashMap;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class TextAnalyzerService {
 
-    private static final Set<Character> VOWELS = Set.of('A', 'E', 'I', 'O', 'U');
+    private final LetterCountingEngine letterCountingEngine;
+    private final TermFrequencyEngine termFrequencyEngine;
+    private final AnalysisResultCache resultCache;
+    private final CountingExecutor countingExecutor;
+    private final AnalysisMetrics metrics;
+    private final ResultColumnStore resultStore;
 
     public TextAnalysesResult analyzeText(TextAnalysesRequest request) {
         // Validate request (will throw exception if invalid, caught by GlobalExceptionHandler)
         validateRequest(request);
 
-        log.info("Analyzing text of length {} for {}",
+        TextAnalysesResult result = analyze(request);
+        resultStore.append(result);
+        return result;
+    }
+
+    /**
+     * Counts an already validated request without adding it to the result store.
+     */
+    TextAnalysesResult analyze(TextAnalysesRequest request) {
+        log.debug("Analyzing text of length {} for {}",
                 request.getInputText().length(), request.getParameterType());
 
-        Map<Character, Integer> letterCounts = request.getParameterType() == ParameterType.VOWELS
-                ? countVowels(request.getInputText())
-                : countConsonants(request.getInputText());
+        metrics.recordInputSize(request.getParameterType(), request.getInputText().length());
+        long start = System.nanoTime();
+        if (hasTermTypes(request)) {
+            return analyzeTerms(request, start);
+        }
+        if (hasAdditionalTypes(request)) {
+            return analyzeFused(request, start);
+        }
+
+        // The cache key digests the whole text, so it is computed on the counting pool as well
+        Map<Character, Integer> letterCounts = countingExecutor.execute(request.getInputText().length(),
+                () -> resultCache.get(request.getParameterType(), request.getInputText(),
+                        () -> letterCountingEngine.count(request.getInputText(), request.getParameterType())));
+
+        metrics.recordPhase(AnalysisPhase.COUNT, request.getParameterType(), System.nanoTime() - start);
+
+        return OriginalTexts.limit(
+                new TextAnalysesResult(request.getParameterType(), request.getInputText(), letterCounts),
+                request.getOriginalTextLimit());
+    }
+
+    /**
+     * Counts the primary and all additional types in one fused pass. These
+     * results are not cached since the cache is keyed by a single type.
+     */
+    private TextAnalysesResult analyzeFused(TextAnalysesRequest request, long start) {
+        Set<ParameterType> parameterTypes = parameterTypes(request);
+        Map<ParameterType, Map<Character, Integer>> analyses = countingExecutor.execute(
+                request.getInputText().length(),
+                () -> letterCountingEngine.countAll(request.getInputText(), parameterTypes));
+
+        metrics.recordPhase(AnalysisPhase.COUNT, request.getParameterType(), System.nanoTime() - start);
+
+        TextAnalysesResult result = new TextAnalysesResult(request.getParameterType(), request.getInputText(),
+                analyses.get(request.getParameterType()));
+        result.setAnalyses(analyses);
+        return OriginalTexts.limit(result, request.getOriginalTextLimit());
+    }
+
+    /**
+     * Counts word and n-gram frequencies next to the per-character metrics of the
+     * request. Neither is cached, the cache only holds letter counts.
+     */
+    private TextAnalysesResult analyzeTerms(TextAnalysesRequest request, long start) {
+        Set<ParameterType> termTypes = EnumSet.noneOf(ParameterType.class);
+        Set<ParameterType> characterTypes = EnumSet.noneOf(ParameterType.class);
+        for (ParameterType parameterType : parameterTypes(request)) {
+            (parameterType.isTermType() ? termTypes : characterTypes).add(parameterType);
+        }
+        String text = request.getInputText();
+        Map<ParameterType, TermFrequencies> terms = countingExecutor.execute(text.length(),
+                () -> termFrequencyEngine.countAll(text, termTypes));
+        Map<ParameterType, Map<Character, Integer>> analyses = characterTypes.isEmpty() ? null
+                : countingExecutor.execute(text.length(), () -> letterCountingEngine.countAll(text, characterTypes));
+
+        metrics.recordPhase(AnalysisPhase.COUNT, request.getParameterType(), System.nanoTime() - start);
+
+        TextAnalysesResult result = new TextAnalysesResult(request.getParameterType(), text,
+                analyses == null ? null : analyses.get(request.getParameterType()));
+        if (hasAdditionalTypes(request)) {
+            result.setAnalyses(analyses);
+        }
+        result.setTerms(terms);
+        return OriginalTexts.limit(result, request.getOriginalTextLimit());
+    }
+
+    static boolean hasTermTypes(TextAnalysesRequest request) {
+        return request.getParameterType().isTermType()
+                || hasAdditionalTypes(request) && request.getAdditionalParameterTypes().stream()
+                .anyMatch(ParameterType::isTermType);
+    }
 
-        return new TextAnalysesResult(request.getParameterType(), request.getInputText(), letterCounts);
+    static boolean hasAdditionalTypes(TextAnalysesRequest request) {
+        return request.getAdditionalParameterTypes() != null && !request.getAdditionalParameterTypes().isEmpty();
     }
 
-    private void validateRequest(TextAnalysesRequest request) {
+    static Set<ParameterType> parameterTypes(TextAnalysesRequest request) {
+        Set<ParameterType> parameterTypes = EnumSet.of(request.getParameterType());
+        if (hasAdditionalTypes(request)) {
+            parameterTypes.addAll(request.getAdditionalParameterTypes());
+        }
+        return parameterTypes;
+    }
+
+    void validateRequest(TextAnalysesRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("Request cannot be null");
         }
@@ -44,40 +144,11 @@ public class TextAnalyzerService {
         if (request.getInputText().trim().isEmpty()) {
             throw new IllegalArgumentException("Text cannot be empty or whitespace only");
         }
-    }
-
-    private Map<Character, Integer> countVowels(String text) {
-        Map<Character, Integer> counts = new LinkedHashMap<>();
-
-        VOWELS.stream()
-                .sorted()
-                .forEach(vowel -> counts.put(vowel, 0));
-
-        text.toUpperCase().chars()
-                .mapToObj(c -> (char) c)
-                .filter(VOWELS::contains)
-                .forEach(vowel -> counts.merge(vowel, 1, Integer::sum));
-
-        return counts;
-    }
-
-    private Map<Character, Integer> countConsonants(String text) {
-        Map<Character, Integer> counts = text.toUpperCase().chars()
-                .mapToObj(c -> (char) c)
-                .filter(Character::isLetter)
-                .filter(c -> !VOWELS.contains(c))
-                .collect(Collectors.groupingBy(
-                        c -> c,
-                        Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
-                ));
-
-        return counts.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
+        if (hasAdditionalTypes(request) && request.getAdditionalParameterTypes().stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Additional Parameter Types cannot contain null");
+        }
+        if (request.getOriginalTextLimit() != null && request.getOriginalTextLimit() < 0) {
+            throw new IllegalArgumentException("Original text limit cannot be negative");
+        }
     }
 }
@@ -0,0 +1,116 @@
+package com.example.textanalyzerspring.session;
+
+import com.example.textanalyzerspring.engine.CharacterAnalyzer;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.LetterHistogram;
+import com.example.textanalyzerspring.model.ParameterType;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Text of one editing session together with its running histograms. An edit only
+ * recounts the replaced range widened by one character on each side, enough to
+ * catch a surrogate pair that the edit splits or joins, so its cost depends on the
+ * size of the edit and not on the size of the document.
+ * <p>
+ * Positions are UTF-16 code unit offsets, the same as JavaScript string indices.
+ */
+public final class AnalysisSession {
+
+    private final String id;
+    private final ParameterType parameterType;
+    private final Set<ParameterType> parameterTypes;
+    private final HistogramLetterCountingEngine engine;
+    private final CharacterAnalyzer[] analyzers;
+    private final LetterHistogram[] histograms;
+    private final StringBuilder text;
+    private Instant lastModified;
+    private volatile long lastAccessNanos;
+
+    public AnalysisSession(String id, ParameterType parameterType, Set<ParameterType> parameterTypes,
+                           String text, HistogramLetterCountingEngine engine) {
+        this.id = id;
+        this.parameterType = parameterType;
+        this.parameterTypes = Set.copyOf(parameterTypes);
+        this.engine = engine;
+        this.analyzers = engine.analyzers(parameterTypes);
+        this.histograms = HistogramLetterCountingEngine.newHistograms(analyzers.length);
+        this.text = new StringBuilder(text);
+        engine.accumulateAll(text, 0, text.length(), analyzers, histograms);
+        this.lastModified = Instant.now();
+        this.lastAccessNanos = System.nanoTime();
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public ParameterType parameterType() {
+        return parameterType;
+    }
+
+    public Set<ParameterType> parameterTypes() {
+        return parameterTypes;
+    }
+
+    public synchronized Snapshot append(String appended, int maxLength) {
+        return replace(text.length(), text.length(), appended, maxLength);
+    }
+
+    public synchronized Snapshot delete(int start, int end) {
+        if (start < 0 || end < start || end > text.length()) {
+            throw new IllegalArgumentException(
+                    "Range [" + start + ", " + end + ") is outside the session text of length " + text.length());
+        }
+        return replace(start, end, "", Integer.MAX_VALUE);
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(text.length(), engine.toCounts(analyzers, histograms), lastModified);
+    }
+
+    /**
+     * Counts the current text from scratch, to check the running counts against.
+     */
+    public synchronized Map<ParameterType, Map<Character, Integer>> recount() {
+        return engine.countAll(text.toString(), parameterTypes);
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch(long nanos) {
+        lastAccessNanos = nanos;
+    }
+
+    private Snapshot replace(int start, int end, String replacement, int maxLength) {
+        int newLength = text.length() - (end - start) + replacement.length();
+        if (newLength > maxLength) {
+            throw new IllegalArgumentException("Session text cannot exceed " + maxLength + " characters");
+        }
+
+        int windowStart = start > 0 && Character.isHighSurrogate(text.charAt(start - 1)) ? start - 1 : start;
+        int windowEnd = end < text.length() && Character.isLowSurrogate(text.charAt(end)) ? end + 1 : end;
+
+        LetterHistogram[] removed = HistogramLetterCountingEngine.newHistograms(analyzers.length);
+        engine.accumulateAll(text.substring(windowStart, windowEnd), 0, windowEnd - windowStart,
+                analyzers, removed);
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i].subtract(removed[i]);
+        }
+
+        text.replace(start, end, replacement);
+
+        String added = text.substring(windowStart, windowEnd + replacement.length() - (end - start));
+        engine.accumulateAll(added, 0, added.length(), analyzers, histograms);
+
+        lastModified = Instant.now();
+        return snapshot();
+    }
+
+    public record Snapshot(int length, Map<ParameterType, Map<Character, Integer>> analyses, Instant lastModified) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.textanalyzerspring.session;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded store of the open analysis sessions. Sessions are kept in access order;
+ * the least recently used one is dropped when a new session would exceed the
+ * limit, and sessions idle for longer than the timeout are swept periodically.
+ */
+@Slf4j
+@Component
+public class AnalysisSessionStore implements MeterBinder {
+
+    private final int maxSessions;
+    private final long idleTimeoutNanos;
+
+    private final LinkedHashMap<String, AnalysisSession> sessions = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final LongAdder idleEvictions = new LongAdder();
+    private final LongAdder capacityEvictions = new LongAdder();
+
+    public AnalysisSessionStore(TextAnalyzerProperties properties) {
+        this.maxSessions = properties.getSession().getMaxSessions();
+        this.idleTimeoutNanos = properties.getSession().getIdleTimeout().toNanos();
+    }
+
+    public void put(AnalysisSession session) {
+        session.touch(System.nanoTime());
+        synchronized (sessions) {
+            sessions.put(session.id(), session);
+
+            Iterator<AnalysisSession> eldest = sessions.values().iterator();
+            while (sessions.size() > maxSessions && eldest.hasNext()) {
+                log.debug("Evicting session {} to stay within {} sessions", eldest.next().id(), maxSessions);
+                eldest.remove();
+                capacityEvictions.increment();
+            }
+        }
+    }
+
+    public Optional<AnalysisSession> get(String id) {
+        AnalysisSession session;
+        synchronized (sessions) {
+            session = sessions.get(id);
+        }
+        if (session != null) {
+            session.touch(System.nanoTime());
+        }
+        return Optional.ofNullable(session);
+    }
+
+    public boolean remove(String id) {
+        synchronized (sessions) {
+            return sessions.remove(id) != null;
+        }
+    }
+
+    public int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${text-analyzer.session.eviction-interval:30s}")
+    public void evictIdleSessions() {
+        int evicted = evictIdle(System.nanoTime());
+        if (evicted > 0) {
+            log.debug("Evicted {} idle sessions", evicted);
+        }
+    }
+
+    /**
+     * Removes the sessions not accessed within the idle timeout before {@code nowNanos}.
+     * Iteration stops at the first recently used session since the map is in access order.
+     */
+    int evictIdle(long nowNanos) {
+        int evicted = 0;
+        synchronized (sessions) {
+            Iterator<AnalysisSession> eldest = sessions.values().iterator();
+            while (eldest.hasNext()) {
+                if (nowNanos - eldest.next().lastAccessNanos() <= idleTimeoutNanos) {
+                    break;
+                }
+                eldest.remove();
+                evicted++;
+            }
+        }
+        idleEvictions.add(evicted);
+        return evicted;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("text.analyzer.sessions.active", this, AnalysisSessionStore::size)
+                .register(registry);
+        FunctionCounter.builder("text.analyzer.sessions.evictions", idleEvictions, LongAdder::sum)
+                .tag("reason", "idle")
+                .register(registry);
+        FunctionCounter.builder("text.analyzer.sessions.evictions", capacityEvictions, LongAdder::sum)
+                .tag("reason", "capacity")
+                .register(registry);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.TermFrequencyEngine;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import com.example.textanalyzerspring.service.CountingExecutor;
+import com.example.textanalyzerspring.service.TextAnalyzerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class AnalyzeTextBenchmark {
+
+    @Param({"1KB", "64KB", "1MB", "100MB"})
+    private String size;
+
+    @Param
+    private TextCorpus.Alphabet alphabet;
+
+    @Param({"VOWELS", "CONSONANTS", "DIGITS", "WHITESPACE", "PUNCTUATION"})
+    private ParameterType parameterType;
+
+    @Param({"false", "true"})
+    private boolean cache;
+
+    private TextAnalyzerService service;
+    private TextAnalysesRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getCache().setEnabled(cache);
+        service = new TextAnalyzerService(new HistogramLetterCountingEngine(), new TermFrequencyEngine(),
+                new AnalysisResultCache(properties), new CountingExecutor(properties), new AnalysisMetrics(new SimpleMeterRegistry()),
+                new ResultColumnStore(properties));
+        request = new TextAnalysesRequest(parameterType, TextCorpus.generate(alphabet, TextCorpus.parseSize(size)));
+    }
+
+    @Benchmark
+    public TextAnalysesResult analyzeText() {
+        return service.analyzeText(request);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.TermFrequencyEngine;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesBatchRequest;
+import com.example.textanalyzerspring.model.TextAnalysesBatchResult;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import com.example.textanalyzerspring.service.BatchTextAnalyzerService;
+import com.example.textanalyzerspring.service.CountingExecutor;
+import com.example.textanalyzerspring.service.TextAnalyzerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one batch call against the same snippets sent as individual calls. Both
+ * sides include JSON parsing, bean validation, counting and serialization, which is
+ * the per-request work a batch saves apart from the HTTP round trip itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BatchBenchmark {
+
+    private static final ParameterType[] CHARACTER_TYPES = ParameterType.characterTypes().toArray(ParameterType[]::new);
+
+    @Param({"10", "100", "1000"})
+    private int items;
+
+    @Param({"64", "512"})
+    private int snippetLength;
+
+    private ObjectMapper objectMapper;
+    private Validator validator;
+    private TextAnalyzerService textAnalyzerService;
+    private BatchTextAnalyzerService batchTextAnalyzerService;
+    private List<byte[]> singleBodies;
+    private byte[] batchBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getBatch().setMaxSize(items);
+        properties.getCache().setEnabled(false);
+        HistogramLetterCountingEngine engine = new HistogramLetterCountingEngine();
+        CountingExecutor countingExecutor = new CountingExecutor(properties);
+        ResultColumnStore resultStore = new ResultColumnStore(properties);
+        textAnalyzerService = new TextAnalyzerService(engine, new TermFrequencyEngine(),
+                new AnalysisResultCache(properties), countingExecutor, new AnalysisMetrics(new SimpleMeterRegistry()),
+                resultStore);
+        batchTextAnalyzerService = new BatchTextAnalyzerService(textAnalyzerService, engine, countingExecutor,
+                resultStore, validator, properties);
+
+        List<TextAnalysesRequest> requests = new ArrayList<>(items);
+        singleBodies = new ArrayList<>(items);
+        String corpus = TextCorpus.generate(TextCorpus.Alphabet.ASCII, items * snippetLength);
+        for (int i = 0; i < items; i++) {
+            ParameterType parameterType = CHARACTER_TYPES[i % CHARACTER_TYPES.length];
+            var request = new TextAnalysesRequest(parameterType,
+                    corpus.substring(i * snippetLength, (i + 1) * snippetLength));
+            requests.add(request);
+            singleBodies.add(objectMapper.writeValueAsBytes(request));
+        }
+        batchBody = objectMapper.writeValueAsBytes(new TextAnalysesBatchRequest(requests));
+    }
+
+    @Benchmark
+    public void singleCalls(Blackhole blackhole) throws IOException {
+        for (byte[] body : singleBodies) {
+            TextAnalysesRequest request = objectMapper.readValue(body, TextAnalysesRequest.class);
+            blackhole.consume(validator.validate(request));
+            TextAnalysesResult result = textAnalyzerService.analyzeText(request);
+            blackhole.consume(objectMapper.writeValueAsBytes(result));
+        }
+    }
+
+    @Benchmark
+    public byte[] batchCall() throws IOException {
+        TextAnalysesBatchRequest request = objectMapper.readValue(batchBody, TextAnalysesBatchRequest.class);
+        TextAnalysesBatchResult result = batchTextAnalyzerService.analyzeBatch(request);
+        return objectMapper.writeValueAsBytes(result);
+    }
+}
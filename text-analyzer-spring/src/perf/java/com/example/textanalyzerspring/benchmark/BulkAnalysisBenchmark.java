@@ -0,0 +1,65 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.bulk.BulkAnalysisService;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.model.BulkAnalysisReport;
+import com.example.textanalyzerspring.model.ParameterType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Analyzes a memory-mapped file with the bulk mode, compared with reading the same
+ * file into a String and counting it with the in-memory engine. The file stays in
+ * the page cache, so this measures decoding and counting rather than the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BulkAnalysisBenchmark {
+
+    @Param({"1MB", "100MB"})
+    private String size;
+
+    @Param
+    private TextCorpus.Alphabet alphabet;
+
+    private final Set<ParameterType> parameterTypes = EnumSet.of(ParameterType.VOWELS, ParameterType.CONSONANTS);
+    private HistogramLetterCountingEngine engine;
+    private BulkAnalysisService service;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        engine = new HistogramLetterCountingEngine();
+        service = new BulkAnalysisService(engine, new TextAnalyzerProperties());
+        file = Files.createTempFile("bulk-benchmark", ".txt");
+        Files.writeString(file, TextCorpus.generate(alphabet, TextCorpus.parseSize(size)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public BulkAnalysisReport mapped() throws IOException {
+        return service.analyze(List.of(file), parameterTypes);
+    }
+
+    @Benchmark
+    public Object readAndCount() throws IOException {
+        return engine.countAll(Files.readString(file, StandardCharsets.UTF_8), parameterTypes);
+    }
+}
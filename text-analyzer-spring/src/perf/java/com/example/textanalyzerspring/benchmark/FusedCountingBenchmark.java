@@ -0,0 +1,52 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.model.ParameterType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts every {@link ParameterType} either in one fused pass or with one pass per type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FusedCountingBenchmark {
+
+    @Param({"1KB", "64KB", "1MB", "100MB"})
+    private String size;
+
+    @Param
+    private TextCorpus.Alphabet alphabet;
+
+    private final Set<ParameterType> parameterTypes = ParameterType.characterTypes();
+    private HistogramLetterCountingEngine engine;
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new HistogramLetterCountingEngine();
+        text = TextCorpus.generate(alphabet, TextCorpus.parseSize(size));
+    }
+
+    @Benchmark
+    public Map<ParameterType, Map<Character, Integer>> fused() {
+        return engine.countAll(text, parameterTypes);
+    }
+
+    @Benchmark
+    public Map<ParameterType, Map<Character, Integer>> separate() {
+        Map<ParameterType, Map<Character, Integer>> counts = new EnumMap<>(ParameterType.class);
+        for (ParameterType parameterType : parameterTypes) {
+            counts.put(parameterType, engine.count(text, parameterType));
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.LetterCountingEngine;
+import com.example.textanalyzerspring.engine.StreamLetterCountingEngine;
+import com.example.textanalyzerspring.model.ParameterType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LetterCountingBenchmark {
+
+    public enum Engine {
+        HISTOGRAM, STREAM
+    }
+
+    @Param({"1KB", "64KB", "1MB", "100MB"})
+    private String size;
+
+    @Param
+    private TextCorpus.Alphabet alphabet;
+
+    @Param
+    private Engine engine;
+
+    private LetterCountingEngine countingEngine;
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        countingEngine = engine == Engine.HISTOGRAM
+                ? new HistogramLetterCountingEngine()
+                : new StreamLetterCountingEngine();
+        text = TextCorpus.generate(alphabet, TextCorpus.parseSize(size));
+    }
+
+    @Benchmark
+    public Map<Character, Integer> countVowels() {
+        return countingEngine.count(text, ParameterType.VOWELS);
+    }
+
+    @Benchmark
+    public Map<Character, Integer> countConsonants() {
+        return countingEngine.count(text, ParameterType.CONSONANTS);
+    }
+}
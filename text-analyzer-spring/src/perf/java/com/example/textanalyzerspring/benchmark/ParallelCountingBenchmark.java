@@ -0,0 +1,58 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.ParallelLetterCountingEngine;
+import com.example.textanalyzerspring.model.ParameterType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the parallel engine against sequential counting. {@code poolSize = 0}
+ * runs the sequential path; the other values show the speedup per worker count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParallelCountingBenchmark {
+
+    @Param({"1MB", "16MB", "100MB"})
+    private String size;
+
+    @Param({"ASCII", "CYRILLIC"})
+    private TextCorpus.Alphabet alphabet;
+
+    @Param({"VOWELS", "CONSONANTS", "DIGITS", "WHITESPACE", "PUNCTUATION"})
+    private ParameterType parameterType;
+
+    @Param({"0", "1", "2", "4", "8", "16"})
+    private int poolSize;
+
+    private ParallelLetterCountingEngine engine;
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getParallel().setEnabled(poolSize > 0);
+        properties.getParallel().setThreshold(0);
+        properties.getParallel().setPoolSize(Math.max(poolSize, 1));
+        engine = new ParallelLetterCountingEngine(new HistogramLetterCountingEngine(), properties);
+        text = TextCorpus.generate(alphabet, TextCorpus.parseSize(size));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public Map<Character, Integer> count() {
+        return engine.count(text, parameterType);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.TermFrequencyEngine;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import com.example.textanalyzerspring.service.CountingExecutor;
+import com.example.textanalyzerspring.service.ProgressTextAnalyzerService;
+import com.example.textanalyzerspring.service.TextAnalyzerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of progress reporting on the counting loop: a plain fused count of the
+ * text compared with the chunked progress count, once with the default interval
+ * and once emitting an event after every chunk, the worst case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ProgressBenchmark {
+
+    public enum Interval {
+        DEFAULT, EVERY_CHUNK
+    }
+
+    @Param({"1MB", "100MB"})
+    private String size;
+
+    @Param
+    private TextCorpus.Alphabet alphabet;
+
+    @Param
+    private Interval interval;
+
+    private final Set<ParameterType> parameterTypes = EnumSet.of(ParameterType.VOWELS, ParameterType.CONSONANTS);
+    private HistogramLetterCountingEngine engine;
+    private CountingExecutor countingExecutor;
+    private ProgressTextAnalyzerService service;
+    private TextAnalysesRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        if (interval == Interval.EVERY_CHUNK) {
+            properties.getProgress().setInterval(Duration.ZERO);
+        }
+        engine = new HistogramLetterCountingEngine();
+        countingExecutor = new CountingExecutor(properties);
+        AnalysisMetrics metrics = new AnalysisMetrics(new SimpleMeterRegistry());
+        ResultColumnStore resultStore = new ResultColumnStore(properties);
+        service = new ProgressTextAnalyzerService(engine, new TextAnalyzerService(engine, new TermFrequencyEngine(),
+                new AnalysisResultCache(properties), countingExecutor, metrics, resultStore),
+                countingExecutor, properties, metrics, resultStore);
+        request = new TextAnalysesRequest(ParameterType.VOWELS, TextCorpus.generate(alphabet,
+                TextCorpus.parseSize(size)));
+        request.setAdditionalParameterTypes(EnumSet.of(ParameterType.CONSONANTS));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        countingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public Map<ParameterType, Map<Character, Integer>> plainCount() {
+        return engine.countAll(request.getInputText(), parameterTypes);
+    }
+
+    @Benchmark
+    public TextAnalysesResult withProgress(Blackhole blackhole) {
+        return service.analyze(request, blackhole::consume);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.ResultAggregate;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time-range aggregate over stored vowel counts: the memory-mapped column store
+ * against a list of result objects on the heap, summed map by map. The range
+ * covers the middle half of the stored results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ResultStoreBenchmark {
+
+    public enum Store {
+        COLUMNS, HEAP
+    }
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Param({"10000", "1000000"})
+    private int results;
+
+    @Param
+    private Store store;
+
+    private Path directory;
+    private ResultColumnStore columnStore;
+    private List<TextAnalysesResult> heapResults;
+    private Instant from;
+    private Instant to;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("result-store-benchmark");
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getResultStore().setEnabled(store == Store.COLUMNS);
+        properties.getResultStore().setDirectory(directory);
+        columnStore = new ResultColumnStore(properties);
+        heapResults = new ArrayList<>();
+        Random random = new Random(14);
+        for (int i = 0; i < results; i++) {
+            Map<Character, Integer> counts = Map.of('A', random.nextInt(1000), 'E', random.nextInt(1000),
+                    'I', random.nextInt(1000), 'O', random.nextInt(1000), 'U', random.nextInt(1000));
+            TextAnalysesResult result = new TextAnalysesResult(ParameterType.VOWELS, "", counts,
+                    START.plusMillis(i * 10L));
+            if (store == Store.COLUMNS) {
+                columnStore.append(result);
+            } else {
+                heapResults.add(result);
+            }
+        }
+        from = START.plusMillis(results / 4 * 10L);
+        to = START.plusMillis(results * 3 / 4 * 10L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public ResultAggregate aggregate() {
+        if (store == Store.COLUMNS) {
+            return columnStore.aggregate(ParameterType.VOWELS, from, to);
+        }
+        Map<Character, Long> totals = new TreeMap<>();
+        long count = 0;
+        for (TextAnalysesResult result : heapResults) {
+            if (!result.getTimestamp().isBefore(from) && result.getTimestamp().isBefore(to)) {
+                result.getLetterCounts().forEach((c, n) -> totals.merge(c, (long) n, Long::sum));
+                count++;
+            }
+        }
+        Map<Character, Double> averages = new TreeMap<>();
+        long resultCount = count;
+        totals.forEach((c, total) -> averages.put(c, (double) total / resultCount));
+        return new ResultAggregate(ParameterType.VOWELS, from, to, count, totals, averages);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.TermFrequencyEngine;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.pool.ScratchPools;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import com.example.textanalyzerspring.service.CountingExecutor;
+import com.example.textanalyzerspring.service.StreamingTextAnalyzerService;
+import com.example.textanalyzerspring.service.TextAnalyzerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small requests through {@code analyzeText} and the streaming path with the scratch
+ * pools enabled and disabled. Run with {@code -prof gc}: the pools show up in
+ * {@code gc.alloc.rate.norm}, {@code gc.count} and {@code gc.time}. The heap is kept
+ * small so that the allocation rate turns into collections within an iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms256m", "-Xmx256m"})
+public class ScratchPoolBenchmark {
+
+    @Param({"1KB", "64KB"})
+    private String size;
+
+    @Param({"ASCII", "CJK"})
+    private TextCorpus.Alphabet alphabet;
+
+    @Param({"false", "true"})
+    private boolean pool;
+
+    private TextAnalyzerService textAnalyzerService;
+    private StreamingTextAnalyzerService streamingService;
+    private TextAnalysesRequest request;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getPool().setEnabled(pool);
+        properties.getCache().setEnabled(false);
+        ScratchPools pools = new ScratchPools(properties);
+        HistogramLetterCountingEngine engine = new HistogramLetterCountingEngine(
+                HistogramLetterCountingEngine.defaultAnalyzers(), pools);
+        AnalysisMetrics metrics = new AnalysisMetrics(new SimpleMeterRegistry());
+        ResultColumnStore resultStore = new ResultColumnStore(properties);
+        textAnalyzerService = new TextAnalyzerService(engine, new TermFrequencyEngine(),
+                new AnalysisResultCache(properties), new CountingExecutor(properties), metrics, resultStore);
+        streamingService = new StreamingTextAnalyzerService(engine, properties, metrics, pools, resultStore);
+        String text = TextCorpus.generate(alphabet, TextCorpus.parseSize(size));
+        request = new TextAnalysesRequest(ParameterType.CONSONANTS, text);
+        body = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public TextAnalysesResult analyzeText() {
+        return textAnalyzerService.analyzeText(request);
+    }
+
+    @Benchmark
+    public StreamAnalysesResult analyzeStream() throws IOException {
+        return streamingService.analyzeStream(new ByteArrayInputStream(body), StandardCharsets.UTF_8,
+                ParameterType.CONSONANTS, false);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.service.OriginalTexts;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SerializationBenchmark {
+
+    public enum Format {
+        JSON, SMILE
+    }
+
+    public enum OriginalText {
+        FULL, OMITTED
+    }
+
+    @Param({"1KB", "64KB", "1MB", "100MB"})
+    private String size;
+
+    @Param
+    private TextCorpus.Alphabet alphabet;
+
+    @Param({"VOWELS", "CONSONANTS", "DIGITS", "WHITESPACE", "PUNCTUATION"})
+    private ParameterType parameterType;
+
+    @Param
+    private Format format;
+
+    @Param({"true", "false"})
+    private boolean blackbird;
+
+    @Param
+    private OriginalText originalText;
+
+    private ObjectMapper objectMapper;
+    private TextAnalysesResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = format == Format.SMILE
+                ? Jackson2ObjectMapperBuilder.smile()
+                : Jackson2ObjectMapperBuilder.json();
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        String text = TextCorpus.generate(alphabet, TextCorpus.parseSize(size));
+        result = new TextAnalysesResult(parameterType, text,
+                new HistogramLetterCountingEngine().count(text, parameterType));
+        if (originalText == OriginalText.OMITTED) {
+            OriginalTexts.limit(result, 0);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(result);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.session.AnalysisSession;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a keystroke-sized edit to an open session, compared with recounting the
+ * whole document as a client calling {@code /analyze} after every change does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SessionEditBenchmark {
+
+    private static final String EDIT = "quick brown fox ";
+
+    @Param({"1KB", "64KB", "1MB"})
+    private String size;
+
+    @Param
+    private TextCorpus.Alphabet alphabet;
+
+    private final Set<ParameterType> parameterTypes = EnumSet.of(ParameterType.VOWELS, ParameterType.CONSONANTS);
+    private HistogramLetterCountingEngine engine;
+    private AnalysisSession session;
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new HistogramLetterCountingEngine();
+        text = TextCorpus.generate(alphabet, TextCorpus.parseSize(size));
+        session = new AnalysisSession("benchmark", ParameterType.VOWELS, parameterTypes, text, engine);
+    }
+
+    // Appends and removes the same edit so the document keeps its size
+    @Benchmark
+    public AnalysisSession.Snapshot sessionEdit() {
+        AnalysisSession.Snapshot appended = session.append(EDIT, Integer.MAX_VALUE);
+        return session.delete(appended.length() - EDIT.length(), appended.length());
+    }
+
+    @Benchmark
+    public Map<ParameterType, Map<Character, Integer>> fullRecount() {
+        return engine.countAll(text, parameterTypes);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.textanalyzerspring.benchmark;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.TermAnalyzer;
+import com.example.textanalyzerspring.engine.TermCounter;
+import com.example.textanalyzerspring.engine.TermFrequencyEngine;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TermCount;
+import com.example.textanalyzerspring.model.TermFrequencies;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Word and n-gram frequencies with the exact primitive table, the Space-Saving
+ * summary and a {@code HashMap<String, Integer>} holding a string per distinct term.
+ * Run with {@code -prof gc} to compare allocation; the corpus is random, so nearly
+ * every word is distinct, which is the worst case for the exact counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TermFrequencyBenchmark {
+
+    public enum Counter {
+        EXACT, SPACE_SAVING, HASH_MAP
+    }
+
+    @Param({"1MB", "16MB"})
+    private String size;
+
+    @Param
+    private TextCorpus.Alphabet alphabet;
+
+    @Param({"WORDS", "NGRAMS"})
+    private ParameterType parameterType;
+
+    @Param
+    private Counter counter;
+
+    private String text;
+    private TermFrequencyEngine engine;
+    private TermAnalyzer analyzer;
+    private int topK;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getTerms().setExactThreshold(counter == Counter.SPACE_SAVING ? 0 : Integer.MAX_VALUE);
+        engine = new TermFrequencyEngine(TermFrequencyEngine.defaultAnalyzers(), properties);
+        analyzer = engine.analyzer(parameterType);
+        topK = properties.getTerms().getTopK();
+        text = TextCorpus.generate(alphabet, TextCorpus.parseSize(size));
+    }
+
+    @Benchmark
+    public TermFrequencies count() {
+        if (counter == Counter.HASH_MAP) {
+            return countWithHashMap();
+        }
+        return engine.count(text, parameterType);
+    }
+
+    private TermFrequencies countWithHashMap() {
+        Map<String, Integer> counts = new HashMap<>();
+        long[] total = new long[1];
+        analyzer.accumulate(text, 0, text.length(), new TermCounter() {
+            @Override
+            public void add(int start, int end) {
+                total[0]++;
+                counts.merge(text.substring(start, end).toLowerCase(Locale.ROOT), 1, Integer::sum);
+            }
+
+            @Override
+            public TermFrequencies result(int topK) {
+                return null;
+            }
+        });
+        List<TermCount> top = counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(topK)
+                .map(entry -> new TermCount(entry.getKey(), entry.getValue()))
+                .toList();
+        return new TermFrequencies(true, total[0], counts.size(), null, top);
+    }
+}
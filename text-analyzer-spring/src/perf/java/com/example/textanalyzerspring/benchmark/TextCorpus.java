@@ -0,0 +1,52 @@
+package com.example.textanalyzerspring.benchmark;
+
+import java.util.Random;
+
+public final class TextCorpus {
+
+    public enum Alphabet {
+        ASCII("The quick brown fox jumps over the lazy dog, 0123456789! "),
+        LATIN1("Ça été très déjà vu: naïve façade, über Größe, mañana año. "),
+        CYRILLIC("Съешь же ещё этих мягких французских булок, да выпей чаю. "),
+        CJK("天地玄黄宇宙洪荒日月盈昃辰宿列张、寒来暑往秋收冬藏。 "),
+        EMOJI("Great job 🎉 see you soon 😀 love it 👍🏽 ship it 🚀 ");
+
+        private final String sample;
+
+        Alphabet(String sample) {
+            this.sample = sample;
+        }
+    }
+
+    private TextCorpus() {
+    }
+
+    public static int parseSize(String size) {
+        String value = size.trim().toUpperCase();
+        if (value.endsWith("MB")) {
+            return Integer.parseInt(value.substring(0, value.length() - 2)) * 1024 * 1024;
+        }
+        if (value.endsWith("KB")) {
+            return Integer.parseInt(value.substring(0, value.length() - 2)) * 1024;
+        }
+        return Integer.parseInt(value);
+    }
+
+    /**
+     * Builds a deterministic text of {@code length} chars by sampling the alphabet's
+     * code points, so surrogate pairs are never split.
+     */
+    public static String generate(Alphabet alphabet, int length) {
+        int[] codePoints = alphabet.sample.codePoints().toArray();
+        Random random = new Random(length * 31L + alphabet.ordinal());
+        StringBuilder text = new StringBuilder(length + 1);
+        while (text.length() < length) {
+            int codePoint = codePoints[random.nextInt(codePoints.length)];
+            if (text.length() + Character.charCount(codePoint) > length) {
+                codePoint = ' ';
+            }
+            text.appendCodePoint(codePoint);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.textanalyzerspring.loadtest;
+
+import com.example.textanalyzerspring.TextAnalyzerSpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shows what admission control does for small requests under adversarial traffic.
+ * A group of clients posts large bodies back to back, ignoring Retry-After, while a
+ * few probe clients send small requests; the report compares probe latency, the
+ * outcome of the large requests and the time spent in GC with admission control
+ * disabled and enabled.
+ * <p>
+ * Arguments: {@code [largeClients] [largeMegabytes] [probeRequests]}, e.g.
+ * {@code ./mvnw -Pperf compile exec:exec
+ * -Dperf.main=com.example.textanalyzerspring.loadtest.AdmissionControlLoadTest -Dperf.args="16 8 2000"}.
+ */
+public final class AdmissionControlLoadTest {
+
+    private static final String PROBE_BODY = "{\"parameterType\":\"VOWELS\",\"inputText\":\"Hello there\"}";
+
+    private AdmissionControlLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int largeClients = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int largeMegabytes = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int probeRequests = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+
+        System.out.printf("Java %s, max heap %dMB, %d clients posting %dMB bodies, %d probe requests%n",
+                Runtime.version(), Runtime.getRuntime().maxMemory() >> 20, largeClients, largeMegabytes,
+                probeRequests);
+
+        byte[] largeBody = ("{\"parameterType\":\"CONSONANTS\",\"inputText\":\""
+                + "lorem ipsum dolor sit amet ".repeat(largeMegabytes * (1 << 20) / 27) + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        List<String> rows = new ArrayList<>();
+        for (boolean admission : new boolean[]{false, true}) {
+            rows.add(run(admission, largeClients, largeBody, probeRequests));
+        }
+
+        System.out.printf("%n%-10s %8s %8s %8s %8s %9s %9s %8s %8s%n",
+                "admission", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "large ok", "large 429", "errors", "gc ms");
+        rows.forEach(System.out::println);
+    }
+
+    private static String run(boolean admission, int largeClients, byte[] largeBody, int probeRequests)
+            throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TextAnalyzerSpringApplication.class)
+                .properties(
+                        "server.port=0",
+                        "text-analyzer.cache.enabled=false",
+                        "text-analyzer.admission.enabled=" + admission,
+                        "text-analyzer.admission.budget=" + 4 * largeBody.length,
+                        "text-analyzer.admission.max-request-size=" + 2 * largeBody.length,
+                        "text-analyzer.admission.fast-lane-reserve=" + largeBody.length,
+                        "logging.level.root=WARN")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI analyze = URI.create("http://localhost:" + port + "/api/text-analyzer/analyze");
+
+            ExecutorService clients = Executors.newFixedThreadPool(largeClients + 8);
+            HttpClient http = HttpClient.newBuilder().executor(clients).build();
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger largeAccepted = new AtomicInteger();
+            AtomicInteger largeRejected = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+            long gcStart = gcMillis();
+
+            List<Future<?>> large = new ArrayList<>();
+            for (int i = 0; i < largeClients; i++) {
+                large.add(clients.submit(() -> {
+                    while (running.get()) {
+                        try {
+                            int status = http.send(post(analyze, largeBody), HttpResponse.BodyHandlers.discarding())
+                                    .statusCode();
+                            if (status == 200) {
+                                largeAccepted.incrementAndGet();
+                            } else if (status == 429) {
+                                largeRejected.incrementAndGet();
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            // Connections closed on rejected bodies are part of the shedding
+                            largeRejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Thread.sleep(1000);
+
+            byte[] probeBody = PROBE_BODY.getBytes(StandardCharsets.UTF_8);
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            List<Future<?>> probes = new ArrayList<>();
+            for (int worker = 0; worker < 4; worker++) {
+                probes.add(clients.submit(() -> {
+                    for (int i = 0; i < probeRequests / 4; i++) {
+                        long start = System.nanoTime();
+                        try {
+                            if (http.send(post(analyze, probeBody), HttpResponse.BodyHandlers.discarding())
+                                    .statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : probes) {
+                future.get();
+            }
+            running.set(false);
+            for (Future<?> future : large) {
+                future.get();
+            }
+            clients.shutdown();
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return String.format("%-10s %8.1f %8.1f %8.1f %8.1f %9d %9d %8d %8d",
+                    admission ? "enabled" : "disabled",
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    percentile(sorted, 1.0), largeAccepted.get(), largeRejected.get(), errors.get(),
+                    gcMillis() - gcStart);
+        }
+    }
+
+    private static HttpRequest post(URI uri, byte[] body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(collector.getCollectionTime(), 0);
+        }
+        return total;
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.textanalyzerspring.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts requests that are being processed concurrently by the server and keeps
+ * the peak, registered only in load-test runs.
+ */
+@Configuration
+public class InFlightRequestTracker {
+
+    private final AtomicInteger current = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> inFlightFilter() {
+        return new FilterRegistrationBean<>(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    current.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    public int peak() {
+        return peak.get();
+    }
+}
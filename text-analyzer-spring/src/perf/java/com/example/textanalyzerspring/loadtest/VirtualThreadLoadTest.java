@@ -0,0 +1,158 @@
+package com.example.textanalyzerspring.loadtest;
+
+import com.example.textanalyzerspring.TextAnalyzerSpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the platform-thread and the virtual-thread execution modes under bursty
+ * load. A crowd of slow clients trickles large bodies to {@code /analyze} while a few
+ * probe clients send small requests; the report shows probe tail latency and the
+ * peak number of requests the server was processing at once.
+ * <p>
+ * Arguments: {@code [slowClients] [uploadSeconds] [probeRequests]}. Virtual threads
+ * need Java 21, e.g. {@code ./mvnw -Pperf,java21 compile exec:exec
+ * -Dperf.main=com.example.textanalyzerspring.loadtest.VirtualThreadLoadTest -Dperf.args="400 3 400"}.
+ */
+public final class VirtualThreadLoadTest {
+
+    private static final String PROBE_BODY = "{\"parameterType\":\"VOWELS\",\"inputText\":\"Hello there\"}";
+
+    private VirtualThreadLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int slowClients = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int uploadSeconds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int probeRequests = args.length > 2 ? Integer.parseInt(args[2]) : 400;
+
+        System.out.printf("Java %s, %d slow clients uploading for %ds, %d probe requests%n",
+                Runtime.version(), slowClients, uploadSeconds, probeRequests);
+
+        List<String> rows = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            rows.add(run(virtualThreads, slowClients, Duration.ofSeconds(uploadSeconds), probeRequests));
+        }
+
+        System.out.printf("%n%-10s %8s %8s %8s %8s %10s %8s%n",
+                "mode", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "peak conc", "errors");
+        rows.forEach(System.out::println);
+    }
+
+    private static String run(boolean virtualThreads, int slowClients, Duration uploadTime, int probeRequests)
+            throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                TextAnalyzerSpringApplication.class, InFlightRequestTracker.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.max-connections=20000",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "text-analyzer.counting.offload-enabled=" + virtualThreads,
+                        "text-analyzer.cache.enabled=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            InFlightRequestTracker tracker = context.getBean(InFlightRequestTracker.class);
+
+            ExecutorService clients = Executors.newFixedThreadPool(slowClients + 8);
+            AtomicInteger errors = new AtomicInteger();
+            List<Future<?>> uploads = new ArrayList<>();
+            for (int i = 0; i < slowClients; i++) {
+                uploads.add(clients.submit(() -> slowUpload(port, uploadTime, errors)));
+            }
+            Thread.sleep(uploadTime.toMillis() / 4);
+
+            HttpClient http = HttpClient.newBuilder().executor(clients).build();
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            List<Future<?>> probes = new ArrayList<>();
+            for (int worker = 0; worker < 4; worker++) {
+                probes.add(clients.submit(() -> {
+                    for (int i = 0; i < probeRequests / 4; i++) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = http.send(HttpRequest.newBuilder(
+                                            URI.create("http://localhost:" + port + "/api/text-analyzer/analyze"))
+                                    .header("Content-Type", "application/json")
+                                    .POST(HttpRequest.BodyPublishers.ofString(PROBE_BODY))
+                                    .build(), HttpResponse.BodyHandlers.ofString());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : probes) {
+                future.get();
+            }
+            for (Future<?> future : uploads) {
+                future.get();
+            }
+            clients.shutdown();
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return String.format("%-10s %8.1f %8.1f %8.1f %8.1f %10d %8d",
+                    virtualThreads ? "virtual" : "platform",
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    percentile(sorted, 1.0), tracker.peak(), errors.get());
+        }
+    }
+
+    private static Void slowUpload(int port, Duration uploadTime, AtomicInteger errors) {
+        byte[] body = ("{\"parameterType\":\"CONSONANTS\",\"inputText\":\""
+                + "lorem ipsum dolor sit amet ".repeat(2_000) + "\"}").getBytes(StandardCharsets.UTF_8);
+        int slices = 10;
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("POST /api/text-analyzer/analyze HTTP/1.1\r\nHost: localhost\r\n"
+                    + "Content-Type: application/json\r\nConnection: close\r\n"
+                    + "Content-Length: " + body.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            int slice = body.length / slices + 1;
+            for (int offset = 0; offset < body.length; offset += slice) {
+                out.write(body, offset, Math.min(slice, body.length - offset));
+                out.flush();
+                Thread.sleep(uploadTime.toMillis() / slices);
+            }
+            InputStream in = socket.getInputStream();
+            byte[] status = in.readNBytes(12);
+            if (!new String(status, StandardCharsets.US_ASCII).endsWith("200")) {
+                errors.incrementAndGet();
+            }
+            in.readAllBytes();
+        } catch (Exception e) {
+            errors.incrementAndGet();
+        }
+        return null;
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.textanalyzerspring.admission;
+
+import com.example.textanalyzerspring.exception.RequestTooLargeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "text-analyzer.admission.budget=200KB",
+        "text-analyzer.admission.max-request-size=64KB",
+        "text-analyzer.admission.fast-lane-size=1KB",
+        "text-analyzer.admission.fast-lane-reserve=64KB",
+        "text-analyzer.admission.max-wait=50ms",
+        "text-analyzer.admission.retry-after=3s"
+})
+@AutoConfigureMockMvc
+@DisplayName("Admission Control Filter Tests")
+public class AdmissionControlFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestBudget budget;
+
+    private long held;
+
+    @AfterEach
+    void tearDown() {
+        budget.release(held);
+        assertThat(budget.getInUse()).isZero();
+    }
+
+    private static String body(int textLength) {
+        return "{\"parameterType\":\"VOWELS\",\"inputText\":\"" + "a".repeat(textLength) + "\"}";
+    }
+
+    @Test
+    @DisplayName("Should reject bodies above the maximum size with 413")
+    void shouldRejectOversizedBody() throws Exception {
+        mockMvc.perform(post("/api/text-analyzer/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(70_000)))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.error").value("Payload too large"));
+    }
+
+    @Test
+    @DisplayName("Should turn large bodies away with 429 while small ones use the fast lane")
+    void shouldShedLargeRequestsFirst() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            budget.acquire(60_000);
+            held += 60_000;
+        }
+
+        mockMvc.perform(post("/api/text-analyzer/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(40_000)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+        mockMvc.perform(post("/api/text-analyzer/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(100)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should not charge streamed bodies against the budget")
+    void shouldSkipStreamedEndpoints() throws Exception {
+        mockMvc.perform(post("/api/text-analyzer/analyze/stream")
+                        .param("parameterType", "VOWELS")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("a".repeat(100_000)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should fail reading a chunked body once it grows past the reserved size")
+    void shouldLimitChunkedBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/text-analyzer/analyze");
+        request.setContent(new byte[2048]);
+        AdmissionControlFilter.LimitedBodyRequest limited = new AdmissionControlFilter.LimitedBodyRequest(request, 1024);
+
+        InputStream body = limited.getInputStream();
+        assertThat(body.readNBytes(1024)).hasSize(1024);
+        assertThatThrownBy(body::read).isInstanceOf(RequestTooLargeException.class);
+    }
+}
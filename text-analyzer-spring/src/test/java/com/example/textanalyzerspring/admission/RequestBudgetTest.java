@@ -0,0 +1,94 @@
+package com.example.textanalyzerspring.admission;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.exception.RequestTooLargeException;
+import com.example.textanalyzerspring.exception.ServerBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Request Budget Tests")
+public class RequestBudgetTest {
+
+    private TextAnalyzerProperties.Admission properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TextAnalyzerProperties.Admission();
+        properties.setBudget(DataSize.ofBytes(100_000));
+        properties.setMaxRequestSize(DataSize.ofBytes(50_000));
+        properties.setFastLaneSize(DataSize.ofBytes(1_000));
+        properties.setFastLaneReserve(DataSize.ofBytes(20_000));
+        properties.setMaxWait(Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("Should keep the fast-lane reserve free of large bodies")
+    void shouldKeepReserveForFastLane() {
+        RequestBudget budget = new RequestBudget(properties);
+        budget.acquire(40_000);
+        budget.acquire(40_000);
+
+        assertThatThrownBy(() -> budget.acquire(2_000)).isInstanceOf(ServerBusyException.class);
+        for (int i = 0; i < 20; i++) {
+            budget.acquire(1_000);
+        }
+        assertThat(budget.getInUse()).isEqualTo(100_000);
+        assertThatThrownBy(() -> budget.acquire(1_000)).isInstanceOf(ServerBusyException.class);
+    }
+
+    @Test
+    @DisplayName("Should admit a waiting body once enough budget is released")
+    void shouldAdmitAfterRelease() throws Exception {
+        properties.setMaxWait(Duration.ofSeconds(5));
+        RequestBudget budget = new RequestBudget(properties);
+        budget.acquire(50_000);
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> budget.acquire(50_000));
+        Thread.sleep(50);
+        assertThat(waiting).isNotDone();
+
+        budget.release(50_000);
+        waiting.get(5, TimeUnit.SECONDS);
+        assertThat(budget.getInUse()).isEqualTo(50_000);
+    }
+
+    @Test
+    @DisplayName("Should reject bodies above the maximum size and count rejections")
+    void shouldRejectOversizedBodies() {
+        RequestBudget budget = new RequestBudget(properties);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        budget.bindTo(registry);
+
+        assertThatThrownBy(() -> budget.acquire(50_001)).isInstanceOf(RequestTooLargeException.class);
+        budget.acquire(50_000);
+        assertThatThrownBy(() -> budget.acquire(40_000)).isInstanceOf(ServerBusyException.class);
+
+        assertThat(registry.get("text.analyzer.admission.rejected").tag("reason", "too_large")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("text.analyzer.admission.rejected").tag("reason", "busy")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("text.analyzer.admission.in.flight").gauge().value()).isEqualTo(50_000);
+        assertThat(budget.getInUse()).isEqualTo(50_000);
+    }
+
+    @Test
+    @DisplayName("Should derive the budget from the heap and cap the request size to it")
+    void shouldDeriveBudgetFromHeap() {
+        properties.setBudget(DataSize.ofBytes(0));
+
+        RequestBudget budget = new RequestBudget(properties, 160_000);
+
+        assertThat(budget.getCapacity()).isEqualTo(40_000);
+        assertThat(budget.getMaxRequestSize()).isEqualTo(20_000);
+        assertThatThrownBy(() -> new RequestBudget(properties, 80_000)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.textanalyzerspring.bulk;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Bulk Analysis Runner Tests")
+public class BulkAnalysisRunnerTest {
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private BulkAnalysisRunner runner(TextAnalyzerProperties properties) {
+        HistogramLetterCountingEngine engine = new HistogramLetterCountingEngine();
+        return new BulkAnalysisRunner(new BulkAnalysisService(engine, properties), properties, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should write a JSON report for the paths given as arguments")
+    void shouldWriteReport() throws IOException {
+        Path input = Files.writeString(directory.resolve("input.txt"), "Hello World");
+        Path output = directory.resolve("report.json");
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getBulk().setOutput(output);
+        BulkAnalysisRunner runner = runner(properties);
+
+        runner.run(new DefaultApplicationArguments(input.toString()));
+
+        JsonNode report = objectMapper.readTree(output.toFile());
+        assertThat(report.path("files").get(0).path("path").asText()).isEqualTo(input.toString());
+        assertThat(report.path("analyses").path("VOWELS").path("O").asLong()).isEqualTo(2);
+        assertThat(report.path("analyses").path("CONSONANTS").path("L").asLong()).isEqualTo(3);
+        assertThat(report.path("characterCount").asLong()).isEqualTo(11);
+        assertThat(runner.getExitCode()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse to run without paths")
+    void shouldRequirePaths() {
+        BulkAnalysisRunner runner = runner(new TextAnalyzerProperties());
+
+        assertThatThrownBy(() -> runner.run(new DefaultApplicationArguments()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("No paths to analyze");
+    }
+}
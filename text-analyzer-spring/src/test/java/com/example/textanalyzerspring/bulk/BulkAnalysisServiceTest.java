@@ -0,0 +1,122 @@
+package com.example.textanalyzerspring.bulk;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngineTest;
+import com.example.textanalyzerspring.model.BulkAnalysisReport;
+import com.example.textanalyzerspring.model.BulkFileResult;
+import com.example.textanalyzerspring.model.ParameterType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Bulk Analysis Service Tests")
+public class BulkAnalysisServiceTest {
+
+    private static final Set<ParameterType> ALL_TYPES = ParameterType.characterTypes();
+
+    @TempDir
+    private Path directory;
+
+    private HistogramLetterCountingEngine engine;
+    private BulkAnalysisService service;
+
+    @BeforeEach
+    void setUp() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getBulk().setThreads(2);
+        // Small segments so that multi-byte sequences straddle segment boundaries
+        properties.getBulk().setSegmentSize(DataSize.ofKilobytes(1));
+        engine = new HistogramLetterCountingEngine();
+        service = new BulkAnalysisService(engine, properties);
+    }
+
+    private static Map<ParameterType, Map<Character, Long>> widen(Map<ParameterType, Map<Character, Integer>> counts) {
+        return counts.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry ->
+                entry.getValue().entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, count -> count.getValue().longValue()))));
+    }
+
+    @Test
+    @DisplayName("Should count mapped files like the in-memory engine")
+    void shouldMatchInMemoryCounts() throws IOException {
+        String text = HistogramLetterCountingEngineTest.randomText(new Random(14), 20_000);
+        Path file = Files.writeString(directory.resolve("mixed.txt"), text);
+
+        BulkAnalysisReport report = service.analyze(List.of(file), ALL_TYPES);
+
+        BulkFileResult result = report.getFiles().get(0);
+        assertThat(result.getError()).isNull();
+        assertThat(result.getByteCount()).isEqualTo(Files.size(file));
+        assertThat(result.getCharacterCount()).isEqualTo(text.length());
+        assertThat(result.getAnalyses()).isEqualTo(widen(engine.countAll(text, ALL_TYPES)));
+    }
+
+    @Test
+    @DisplayName("Should walk directories and aggregate the counts of every file")
+    void shouldAggregateDirectoryTree() throws IOException {
+        Files.createDirectories(directory.resolve("nested"));
+        Files.writeString(directory.resolve("a.txt"), "Hello World");
+        Files.writeString(directory.resolve("nested/b.log"), "Grüße 😀 aus Köln");
+        Files.writeString(directory.resolve("nested/empty.txt"), "");
+        Set<ParameterType> types = EnumSet.of(ParameterType.VOWELS, ParameterType.CONSONANTS);
+
+        BulkAnalysisReport report = service.analyze(List.of(directory), types);
+
+        assertThat(report.getFiles()).extracting(BulkFileResult::getPath).containsExactly(
+                directory.resolve("a.txt").toString(),
+                directory.resolve("nested/b.log").toString(),
+                directory.resolve("nested/empty.txt").toString());
+        assertThat(report.getFailedCount()).isZero();
+        assertThat(report.getAnalyses())
+                .isEqualTo(widen(engine.countAll("Hello WorldGrüße 😀 aus Köln", types)));
+        assertThat(report.getFiles().get(2).getAnalyses().get(ParameterType.VOWELS))
+                .containsOnlyKeys('A', 'E', 'I', 'O', 'U')
+                .allSatisfy((vowel, count) -> assertThat(count).isZero());
+        assertThat(report.getByteCount()).isEqualTo(11 + "Grüße 😀 aus Köln".getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("Should only move segment boundaries past continuation bytes")
+    void shouldAlignSegmentsToSequenceStart() throws IOException {
+        Path file = Files.write(directory.resolve("emoji.txt"), "a😀b".getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertThat(BulkAnalysisService.alignToSequenceStart(channel, 0, 6)).isZero();
+            assertThat(BulkAnalysisService.alignToSequenceStart(channel, 1, 6)).isEqualTo(1);
+            assertThat(BulkAnalysisService.alignToSequenceStart(channel, 2, 6)).isEqualTo(5);
+            assertThat(BulkAnalysisService.alignToSequenceStart(channel, 4, 6)).isEqualTo(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject missing paths and invalid settings")
+    void shouldRejectInvalidInput() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getBulk().setSegmentSize(DataSize.ofBytes(10));
+
+        assertThatThrownBy(() -> service.analyze(List.of(directory.resolve("missing")), ALL_TYPES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Path does not exist");
+        assertThatThrownBy(() -> service.analyze(List.of(directory), Set.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BulkAnalysisService(engine, properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
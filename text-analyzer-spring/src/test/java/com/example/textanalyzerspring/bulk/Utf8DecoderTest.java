@@ -0,0 +1,83 @@
+package com.example.textanalyzerspring.bulk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UTF-8 Decoder Tests")
+public class Utf8DecoderTest {
+
+    private static String decodeAll(byte[] bytes, int bufferSize) {
+        ByteBuffer source = ByteBuffer.wrap(bytes);
+        char[] target = new char[bufferSize];
+        StringBuilder decoded = new StringBuilder();
+        while (source.hasRemaining()) {
+            int count = Utf8Decoder.decode(source, target);
+            decoded.append(target, 0, count);
+        }
+        return decoded.toString();
+    }
+
+    @Test
+    @DisplayName("Should decode ASCII, multi-byte and supplementary characters")
+    void shouldDecodeWellFormedText() {
+        String text = "plain ASCII run, Grüße aus Köln, привет, 漢字 and 😀 emoji ".repeat(20);
+
+        assertThat(decodeAll(text.getBytes(StandardCharsets.UTF_8), 4096)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("Should never split a surrogate pair at the end of the buffer")
+    void shouldKeepSurrogatePairsInOneBuffer() {
+        String text = "a😀".repeat(100);
+        ByteBuffer source = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        char[] target = new char[4];
+
+        while (source.hasRemaining()) {
+            int count = Utf8Decoder.decode(source, target);
+            assertThat(count).isPositive();
+            assertThat(Character.isHighSurrogate(target[count - 1])).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should replace malformed input like the JDK decoder")
+    void shouldReplaceMalformedInputLikeJdk() {
+        byte[][] samples = {
+                {(byte) 0x80},
+                {(byte) 0xC0, (byte) 0xAF},
+                {(byte) 0xE0, (byte) 0x80, (byte) 0x80},
+                {(byte) 0xED, (byte) 0xA0, (byte) 0x80},
+                {(byte) 0xED, (byte) 0xA0, 'A'},
+                {(byte) 0xF0, (byte) 0x9F, (byte) 0x98, 'A'},
+                {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+                {(byte) 0xFF, 'B', (byte) 0xE2, (byte) 0x82},
+        };
+        for (byte[] sample : samples) {
+            assertThat(decodeAll(sample, 16)).isEqualTo(new String(sample, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the JDK decoder on random bytes")
+    void shouldMatchJdkOnRandomBytes() {
+        Random random = new Random(14);
+        for (int round = 0; round < 2000; round++) {
+            byte[] bytes = new byte[random.nextInt(200)];
+            // ASCII with a varying share of UTF-8 lead and continuation bytes mixed in
+            int highShare = random.nextInt(5);
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) (random.nextInt(4) < highShare ? 0x80 + random.nextInt(0x80) : random.nextInt(0x80));
+            }
+
+            assertThat(decodeAll(bytes, 2 + random.nextInt(32)))
+                    .as("input #%d", round)
+                    .isEqualTo(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.textanalyzerspring.cache;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Analysis Result Cache Tests")
+public class AnalysisResultCacheTest {
+
+    private AnalysisResultCache cache(boolean enabled, long maxWeightBytes) {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getCache().setEnabled(enabled);
+        properties.getCache().setMaxWeight(DataSize.ofBytes(maxWeightBytes));
+        return new AnalysisResultCache(properties);
+    }
+
+    @Test
+    @DisplayName("Should return cached counts on a repeated text")
+    void shouldReturnCachedCounts() {
+        AnalysisResultCache cache = cache(true, 10_000);
+        AtomicInteger loads = new AtomicInteger();
+        Map<Character, Integer> counts = new LinkedHashMap<>(Map.of('E', 1, 'O', 1));
+
+        Map<Character, Integer> first = cache.get(ParameterType.VOWELS, "Hello", () -> {
+            loads.incrementAndGet();
+            return counts;
+        });
+        Map<Character, Integer> second = cache.get(ParameterType.VOWELS, "Hello", () -> {
+            loads.incrementAndGet();
+            return counts;
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().entries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep parameter types and texts apart")
+    void shouldSeparateKeys() {
+        AnalysisResultCache cache = cache(true, 10_000);
+
+        cache.get(ParameterType.VOWELS, "Hello", () -> Map.of('E', 1));
+        Map<Character, Integer> consonants = cache.get(ParameterType.CONSONANTS, "Hello", () -> Map.of('L', 2));
+        Map<Character, Integer> other = cache.get(ParameterType.VOWELS, "Hellp", () -> Map.of('E', 7));
+
+        assertThat(consonants).containsEntry('L', 2);
+        assertThat(other).containsEntry('E', 7);
+        assertThat(cache.stats().hits()).isZero();
+        assertThat(cache.key(ParameterType.VOWELS, "ab")).isNotEqualTo(cache.key(ParameterType.VOWELS, "ba"));
+        assertThat(cache.key(ParameterType.VOWELS, "ab")).isEqualTo(cache.key(ParameterType.VOWELS, "ab"));
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries beyond the weight limit")
+    void shouldEvictByWeight() {
+        AnalysisResultCache cache = cache(true, 400);
+
+        cache.get(ParameterType.VOWELS, "one", () -> Map.of('O', 1, 'E', 1));
+        cache.get(ParameterType.VOWELS, "two", () -> Map.of('O', 1));
+        cache.get(ParameterType.VOWELS, "one", () -> Map.of());
+        cache.get(ParameterType.VOWELS, "three", () -> Map.of('E', 2));
+
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.stats().entries()).isEqualTo(2);
+        assertThat(cache.stats().weightBytes()).isLessThanOrEqualTo(400);
+        assertThat(cache.get(ParameterType.VOWELS, "one", () -> Map.of('X', 9))).containsEntry('O', 1);
+        assertThat(cache.get(ParameterType.VOWELS, "two", () -> Map.of('X', 9))).containsEntry('X', 9);
+    }
+
+    @Test
+    @DisplayName("Should not cache texts above the maximum length")
+    void shouldBypassLongTexts() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getCache().setMaxTextLength(5);
+        AnalysisResultCache cache = new AnalysisResultCache(properties);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(ParameterType.VOWELS, "Hello", () -> Map.of('E', loads.incrementAndGet()));
+        cache.get(ParameterType.VOWELS, "Hello", () -> Map.of('E', loads.incrementAndGet()));
+        cache.get(ParameterType.VOWELS, "Hello!", () -> Map.of('E', loads.incrementAndGet()));
+        cache.get(ParameterType.VOWELS, "Hello!", () -> Map.of('E', loads.incrementAndGet()));
+
+        assertThat(loads).hasValue(3);
+        assertThat(cache.stats().entries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should key texts by their full content")
+    void shouldKeyByContent() {
+        AnalysisResultCache cache = cache(true, 10_000);
+        String text = "x".repeat(3000);
+
+        assertThat(cache.key(ParameterType.VOWELS, text)).isEqualTo(cache(true, 10_000).key(ParameterType.VOWELS, text));
+        assertThat(cache.key(ParameterType.VOWELS, text + "y")).isNotEqualTo(cache.key(ParameterType.VOWELS, text + "z"));
+        assertThat(cache.key(ParameterType.VOWELS, "\u0100a")).isNotEqualTo(cache.key(ParameterType.VOWELS, "\u0001a"));
+    }
+
+    @Test
+    @DisplayName("Should always load when disabled")
+    void shouldBypassWhenDisabled() {
+        AnalysisResultCache cache = cache(false, 10_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(ParameterType.VOWELS, "Hello", () -> Map.of('E', loads.incrementAndGet()));
+        cache.get(ParameterType.VOWELS, "Hello", () -> Map.of('E', loads.incrementAndGet()));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().entries()).isZero();
+    }
+}
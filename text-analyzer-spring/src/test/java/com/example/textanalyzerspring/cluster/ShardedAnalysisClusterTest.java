@@ -0,0 +1,128 @@
+package com.example.textanalyzerspring.cluster;
+
+import com.example.textanalyzerspring.TextAnalyzerSpringApplication;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngineTest;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs a coordinator and two peers as separate application contexts on localhost,
+ * plus one peer address nobody listens on.
+ */
+@DisplayName("Sharded Analysis Cluster Tests")
+public class ShardedAnalysisClusterTest {
+
+    private static final String TOKEN = "--text-analyzer.cluster.token=test-cluster-token";
+
+    private static ConfigurableApplicationContext firstPeer;
+    private static ConfigurableApplicationContext secondPeer;
+    private static ConfigurableApplicationContext coordinator;
+    private static String deadPeer;
+
+    @BeforeAll
+    static void startCluster() throws IOException {
+        firstPeer = start("--server.port=0", TOKEN);
+        secondPeer = start("--server.port=0", TOKEN);
+        try (ServerSocket socket = new ServerSocket(0)) {
+            deadPeer = "http://localhost:" + socket.getLocalPort();
+        }
+        coordinator = start("--server.port=0", TOKEN,
+                "--text-analyzer.cluster.peers=" + deadPeer + "," + url(firstPeer) + "," + url(secondPeer),
+                "--text-analyzer.cluster.shard-size=1024");
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        for (ConfigurableApplicationContext context : new ConfigurableApplicationContext[]{
+                coordinator, secondPeer, firstPeer}) {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String... args) {
+        return new SpringApplicationBuilder(TextAnalyzerSpringApplication.class).run(args);
+    }
+
+    private static String url(ConfigurableApplicationContext context) {
+        return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static double shards(String peer, String outcome) {
+        return coordinator.getBean(MeterRegistry.class).get("text.analyzer.shards")
+                .tag("peer", peer).tag("outcome", outcome).functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("Should merge the shard counts of the live peers into the full result")
+    void shouldMergeShardsFromPeers() {
+        String text = HistogramLetterCountingEngineTest.randomText(new Random(17), 50_000);
+        TextAnalysesRequest request = new TextAnalysesRequest(ParameterType.CONSONANTS, text);
+        request.setAdditionalParameterTypes(EnumSet.of(ParameterType.VOWELS, ParameterType.DIGITS));
+        request.setOriginalTextLimit(0);
+
+        TextAnalysesResult result = RestClient.create(url(coordinator)).post()
+                .uri("/api/text-analyzer/analyze/sharded")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(TextAnalysesResult.class);
+
+        Set<ParameterType> parameterTypes = EnumSet.of(ParameterType.CONSONANTS, ParameterType.VOWELS,
+                ParameterType.DIGITS);
+        assertThat(result).isNotNull();
+        assertThat(result.getAnalyses()).isEqualTo(new HistogramLetterCountingEngine().countAll(text, parameterTypes));
+        assertThat(result.getOriginalTextLength()).isEqualTo(text.length());
+        // Shards already in flight may reach the dead peer before it is excluded
+        assertThat(shards(deadPeer, "failure")).isPositive();
+        assertThat(shards(deadPeer, "success")).isZero();
+        assertThat(shards(url(firstPeer), "success")).isPositive();
+        assertThat(shards(url(secondPeer), "success")).isPositive();
+        assertThat(shards("local", "success")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse shard requests without the cluster token")
+    void shouldRefuseShardsWithoutToken() {
+        RestClient client = RestClient.create(url(firstPeer));
+
+        for (String token : new String[]{null, "wrong-token"}) {
+            assertThatThrownBy(() -> client.post()
+                    .uri(ShardPeerClient.SHARD_COUNT_PATH + "?parameterTypes=VOWELS")
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .headers(headers -> {
+                        if (token != null) {
+                            headers.set(ShardPeerClient.TOKEN_HEADER, token);
+                        }
+                    })
+                    .body("Hello")
+                    .retrieve()
+                    .toBodilessEntity())
+                    .isInstanceOfSatisfying(HttpClientErrorException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.textanalyzerspring.config;
+
+import com.example.textanalyzerspring.exception.GlobalExceptionHandler;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Runtime Hints Tests")
+public class TextAnalyzerRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new TextAnalyzerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register the request and result models for Jackson")
+    void shouldRegisterModels() {
+        for (Class<?> model : new Class<?>[]{TextAnalysesRequest.class, TextAnalysesResult.class, ParameterType.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(model)
+                    .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                            MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.DECLARED_FIELDS))
+                    .accepts(hints);
+        }
+    }
+
+    @Test
+    @DisplayName("Should register the exception handler methods")
+    void shouldRegisterExceptionHandler() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(GlobalExceptionHandler.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should cover every model class")
+    void shouldCoverEveryModel() throws IOException {
+        Resource[] classes = new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:com/example/textanalyzerspring/model/*.class");
+
+        assertThat(TextAnalyzerRuntimeHints.MODELS).extracting(Class::getSimpleName)
+                .containsExactlyInAnyOrder(Arrays.stream(classes)
+                        .map(Resource::getFilename)
+                        .filter(name -> !name.contains("$"))
+                        .map(name -> name.substring(0, name.length() - ".class".length()))
+                        .toArray(String[]::new));
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Histogram Letter Counting Engine Tests")
+public class HistogramLetterCountingEngineTest {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 .,!?\t\n"
+            + "àáâãäåæçèéêëìíîïñòóôõöøùúûüýÿßÀÉÜ"
+            + "абвгдеёжзийклмнопрстуфхцчшщъыьэюяАБВГДЕЁЖЗИЙ"
+            + "αβγδεζηθικλμνξοπρσςτυφχψω"
+            + "文字列解析漢字ひらがなカタカナ"
+            + "ﬁﬂﬃŉǰΐ"
+            + "😀🎉𐐨";
+
+    private static HistogramLetterCountingEngine engine;
+    private static StreamLetterCountingEngine reference;
+
+    @BeforeAll
+    static void setUp() {
+        engine = new HistogramLetterCountingEngine();
+        reference = new StreamLetterCountingEngine();
+    }
+
+    @Test
+    @DisplayName("Should seed all vowels in order")
+    void shouldSeedAllVowelsInOrder() {
+        Map<Character, Integer> counts = engine.count("xyz", ParameterType.VOWELS);
+
+        assertThat(counts).containsExactly(
+                entry('A', 0), entry('E', 0), entry('I', 0), entry('O', 0), entry('U', 0));
+    }
+
+    @Test
+    @DisplayName("Should return consonants sorted by letter")
+    void shouldReturnConsonantsSorted() {
+        Map<Character, Integer> counts = engine.count("zebra Жук", ParameterType.CONSONANTS);
+
+        assertThat(counts).containsExactly(
+                entry('B', 1), entry('R', 1), entry('Z', 1), entry('Ж', 1), entry('К', 1), entry('У', 1));
+    }
+
+    @Test
+    @DisplayName("Should count letters produced by multi-character upper-casing")
+    void shouldCountExpandedLetters() {
+        assertThat(engine.count("straße", ParameterType.CONSONANTS))
+                .containsEntry('S', 3)
+                .containsEntry('T', 1)
+                .containsEntry('R', 1);
+        assertThat(engine.count("ﬁ", ParameterType.VOWELS)).containsEntry('I', 1);
+    }
+
+    @Test
+    @DisplayName("Should count accented vowels by their base letter")
+    void shouldCountAccentedVowels() {
+        assertThat(engine.count("Élève über Ångström", ParameterType.VOWELS))
+                .containsExactly(entry('A', 1), entry('E', 4), entry('I', 0), entry('O', 1), entry('U', 1));
+        assertThat(engine.count("Élève über Ångström", ParameterType.CONSONANTS))
+                .doesNotContainKeys('É', 'È', 'Ü', 'Å', 'Ö')
+                .containsEntry('R', 2);
+    }
+
+    @Test
+    @DisplayName("Should keep configured accented vowels apart")
+    void shouldKeepConfiguredAccentedVowels() {
+        var german = new HistogramLetterCountingEngine(
+                List.of(new VowelAnalyzer(new LetterClassifier(Locale.GERMAN, "aeiouäöü"))));
+
+        assertThat(german.count("Öl über Ofen", ParameterType.VOWELS))
+                .containsExactly(entry('A', 0), entry('E', 2), entry('I', 0), entry('O', 1),
+                        entry('U', 0), entry('Ä', 0), entry('Ö', 1), entry('Ü', 1));
+    }
+
+    @Test
+    @DisplayName("Should count the Turkish dotted and dotless i as I in any locale")
+    void shouldCountTurkishIRegardlessOfLocale() {
+        String text = "İstanbul ılık iş";
+        for (Locale locale : List.of(Locale.ROOT, Locale.forLanguageTag("tr"), Locale.ENGLISH)) {
+            LetterClassifier letters = new LetterClassifier(locale, LetterClassifier.DEFAULT_VOWELS);
+            var localized = new HistogramLetterCountingEngine(List.of(new VowelAnalyzer(letters)));
+
+            assertThat(localized.count(text, ParameterType.VOWELS))
+                    .as("%s", locale)
+                    .containsEntry('I', 4)
+                    .containsEntry('A', 1)
+                    .containsEntry('U', 1);
+            assertThat(localized.count(text, ParameterType.VOWELS))
+                    .as("%s", locale)
+                    .containsExactlyEntriesOf(new StreamLetterCountingEngine(locale, LetterClassifier.DEFAULT_VOWELS)
+                            .count(text, ParameterType.VOWELS));
+        }
+    }
+
+    @Test
+    @DisplayName("Should classify surrogate pairs as one code point")
+    void shouldClassifySurrogatePairs() {
+        var smileys = new HistogramLetterCountingEngine(List.of(smileyAnalyzer()));
+        String text = "😀a😀\uD83Db";
+
+        assertThat(smileys.count(text, ParameterType.DIGITS)).containsExactly(entry('☺', 2));
+
+        LetterHistogram histogram = new LetterHistogram();
+        smileys.accumulate(text, 0, 1, ParameterType.DIGITS, histogram);
+        assertThat(histogram.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ParameterType.class, names = {"WORDS", "NGRAMS"}, mode = EnumSource.Mode.EXCLUDE)
+    @DisplayName("Should match the reference engine on mixed alphabets")
+    void shouldMatchReferenceEngine(ParameterType parameterType) {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            String text = randomText(random, 1 + random.nextInt(2_000));
+
+            assertThat(engine.count(text, parameterType))
+                    .as("input #%d", round)
+                    .containsExactlyEntriesOf(reference.count(text, parameterType));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ParameterType.class, names = {"WORDS", "NGRAMS"}, mode = EnumSource.Mode.EXCLUDE)
+    @DisplayName("Should match the reference engine on every BMP character")
+    void shouldMatchReferenceEngineOnEveryCharacter(ParameterType parameterType) {
+        StringBuilder text = new StringBuilder(Character.MAX_VALUE);
+        for (char c = 0; c < Character.MAX_VALUE; c++) {
+            if (!Character.isSurrogate(c)) {
+                text.append(c);
+            }
+        }
+
+        assertThat(engine.count(text.toString(), parameterType))
+                .containsExactlyEntriesOf(reference.count(text.toString(), parameterType));
+    }
+
+    @Test
+    @DisplayName("Should accumulate ranges into one histogram")
+    void shouldAccumulateRanges() {
+        String text = "Hello there, general Kenobi";
+        LetterHistogram histogram = new LetterHistogram();
+
+        engine.accumulate(text, 0, 10, ParameterType.CONSONANTS, histogram);
+        engine.accumulate(text.toCharArray(), 10, text.length(), ParameterType.CONSONANTS, histogram);
+
+        assertThat(engine.toCounts(histogram, ParameterType.CONSONANTS))
+                .containsExactlyEntriesOf(reference.count(text, ParameterType.CONSONANTS));
+    }
+
+    @Test
+    @DisplayName("Should count digits, whitespace and punctuation")
+    void shouldCountNewTypes() {
+        String text = "Call 555-0199, now!\tOK?";
+
+        assertThat(engine.count(text, ParameterType.DIGITS))
+                .containsExactly(entry('0', 1), entry('1', 1), entry('5', 3), entry('9', 2));
+        assertThat(engine.count(text, ParameterType.WHITESPACE))
+                .containsExactly(entry('\t', 1), entry(' ', 2));
+        assertThat(engine.count(text, ParameterType.PUNCTUATION))
+                .containsExactly(entry('!', 1), entry(',', 1), entry('-', 1), entry('?', 1));
+    }
+
+    @Test
+    @DisplayName("Should count several types in one fused pass")
+    void shouldCountAllTypesInOnePass() {
+        Random random = new Random(11);
+        String text = randomText(random, 3 * HistogramLetterCountingEngine.BLOCK_SIZE + 17);
+
+        Map<ParameterType, Map<Character, Integer>> counts =
+                engine.countAll(text, ParameterType.characterTypes());
+
+        assertThat(counts).containsOnlyKeys(ParameterType.characterTypes());
+        for (ParameterType parameterType : ParameterType.characterTypes()) {
+            assertThat(counts.get(parameterType))
+                    .as("%s", parameterType)
+                    .containsExactlyEntriesOf(reference.count(text, parameterType));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject two analyzers for the same type")
+    void shouldRejectDuplicateAnalyzers() {
+        assertThatThrownBy(() -> new HistogramLetterCountingEngine(List.of(new DigitAnalyzer(), new DigitAnalyzer())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Duplicate analyzer for DIGITS");
+    }
+
+    @Test
+    @DisplayName("Should reject types without a registered analyzer")
+    void shouldRejectUnregisteredType() {
+        var vowelsOnly = new HistogramLetterCountingEngine(List.of(new VowelAnalyzer(LetterClassifier.defaults())));
+
+        assertThatThrownBy(() -> vowelsOnly.count("Hello", ParameterType.DIGITS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No analyzer registered for DIGITS");
+    }
+
+    /**
+     * Counts U+1F600 as '☺', to exercise the supplementary code point path.
+     */
+    public static CharacterAnalyzer smileyAnalyzer() {
+        return new TableCharacterAnalyzer(ParameterType.DIGITS, "", codePoint -> codePoint == 0x1F600 ? "☺" : "") {
+        };
+    }
+
+    public static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            int index = random.nextInt(ALPHABET.length());
+            char c = ALPHABET.charAt(index);
+            if (Character.isHighSurrogate(c)) {
+                text.append(c).append(ALPHABET.charAt(index + 1));
+            } else if (!Character.isLowSurrogate(c)) {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Parallel Letter Counting Engine Tests")
+public class ParallelLetterCountingEngineTest {
+
+    private HistogramLetterCountingEngine sequential;
+    private ParallelLetterCountingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getParallel().setThreshold(0);
+        properties.getParallel().setChunkSize(97);
+        properties.getParallel().setPoolSize(4);
+        sequential = new HistogramLetterCountingEngine();
+        engine = new ParallelLetterCountingEngine(sequential, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ParameterType.class, names = {"WORDS", "NGRAMS"}, mode = EnumSource.Mode.EXCLUDE)
+    @DisplayName("Should produce the same counts as the sequential engine")
+    void shouldMatchSequentialEngine(ParameterType parameterType) {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            String text = HistogramLetterCountingEngineTest.randomText(random, 1 + random.nextInt(20_000));
+
+            assertThat(engine.count(text, parameterType))
+                    .as("input #%d", round)
+                    .containsExactlyEntriesOf(sequential.count(text, parameterType));
+        }
+    }
+
+    @Test
+    @DisplayName("Should count several types in one parallel pass")
+    void shouldMatchSequentialEngineForAllTypes() {
+        Random random = new Random(13);
+        Set<ParameterType> parameterTypes = EnumSet.of(ParameterType.VOWELS, ParameterType.DIGITS,
+                ParameterType.PUNCTUATION);
+        for (int round = 0; round < 20; round++) {
+            String text = HistogramLetterCountingEngineTest.randomText(random, 1 + random.nextInt(20_000));
+
+            assertThat(engine.countAll(text, parameterTypes))
+                    .as("input #%d", round)
+                    .containsExactlyInAnyOrderEntriesOf(sequential.countAll(text, parameterTypes));
+        }
+    }
+
+    @Test
+    @DisplayName("Should never split a surrogate pair")
+    void shouldNotSplitSurrogatePairs() {
+        String text = "ab😀cd";
+
+        assertThat(ParallelLetterCountingEngine.splitPoint(text, 0, 6)).isEqualTo(4);
+        assertThat(ParallelLetterCountingEngine.splitPoint(text, 0, 5)).isEqualTo(2);
+        assertThat(ParallelLetterCountingEngine.splitPoint(text, 2, 4)).isEqualTo(4);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.textanalyzerspring.engine;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TermCount;
+import com.example.textanalyzerspring.model.TermFrequencies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Term Frequency Engine Tests")
+public class TermFrequencyEngineTest {
+
+    private static List<String> terms(String text, TermAnalyzer analyzer) {
+        List<String> terms = new ArrayList<>();
+        analyzer.accumulate(text, 0, text.length(), new TermCounter() {
+            @Override
+            public void add(int start, int end) {
+                terms.add(text.substring(start, end));
+            }
+
+            @Override
+            public TermFrequencies result(int topK) {
+                return null;
+            }
+        });
+        return terms;
+    }
+
+    /**
+     * Straightforward count with a string per term, the baseline the counters replace.
+     */
+    private static Map<String, Long> referenceCounts(String text) {
+        Map<String, Long> counts = new HashMap<>();
+        for (String term : terms(text, new WordAnalyzer())) {
+            counts.merge(Terms.toString(term, 0, term.length()), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Space-separated words drawn from a Zipf distribution over {@code vocabulary} words.
+     */
+    private static String zipfText(Random random, int words, int vocabulary) {
+        double[] cumulative = new double[vocabulary];
+        double sum = 0;
+        for (int rank = 0; rank < vocabulary; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            text.append("w").append(rank < 0 ? -rank - 1 : rank).append(' ');
+        }
+        return text.toString();
+    }
+
+    @Test
+    @DisplayName("Should split words on anything but letters, digits and combining marks")
+    void shouldTokenizeWords() {
+        assertThat(terms("Hello, woŕld! 42 times—again 😀 straße", new WordAnalyzer()))
+                .containsExactly("Hello", "woŕld", "42", "times", "again", "straße");
+        assertThat(terms("𐐨𐐩 x", new WordAnalyzer())).containsExactly("𐐨𐐩", "x");
+    }
+
+    @Test
+    @DisplayName("Should emit the n-grams inside every word")
+    void shouldTokenizeNGrams() {
+        assertThat(terms("hello, ab 𐐨𐐩𐐪", new NGramAnalyzer(3)))
+                .containsExactly("hel", "ell", "llo", "𐐨𐐩𐐪");
+        assertThat(terms("abc", new NGramAnalyzer(1))).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("Should count small inputs exactly, ignoring case")
+    void shouldCountExactly() {
+        TermFrequencies frequencies = new TermFrequencyEngine()
+                .count("The cat and the hat. THE END, the end", ParameterType.WORDS);
+
+        assertThat(frequencies.isExact()).isTrue();
+        assertThat(frequencies.getTotalTerms()).isEqualTo(9);
+        assertThat(frequencies.getDistinctTerms()).isEqualTo(5);
+        assertThat(frequencies.getMaxError()).isNull();
+        assertThat(frequencies.getTopTerms()).containsExactly(
+                new TermCount("the", 4), new TermCount("end", 2), new TermCount("and", 1),
+                new TermCount("cat", 1), new TermCount("hat", 1));
+    }
+
+    @Test
+    @DisplayName("Should match a string-keyed count on random text")
+    void shouldMatchReferenceCounts() {
+        String text = HistogramLetterCountingEngineTest.randomText(new Random(19), 200_000);
+        Map<String, Long> reference = referenceCounts(text);
+
+        ExactTermCounter counter = new ExactTermCounter(text);
+        new WordAnalyzer().accumulate(text, 0, text.length(), counter);
+        TermFrequencies frequencies = counter.result(Integer.MAX_VALUE / 2);
+
+        assertThat(frequencies.getDistinctTerms()).isEqualTo(reference.size());
+        assertThat(frequencies.getTotalTerms()).isEqualTo(reference.values().stream().mapToLong(Long::longValue).sum());
+        assertThat(frequencies.getTopTerms()).hasSize(reference.size())
+                .allSatisfy(term -> assertThat(term.getCount()).isEqualTo(reference.get(term.getTerm())));
+    }
+
+    @Test
+    @DisplayName("Should bound the error of approximate counts and keep the heavy hitters")
+    void shouldApproximateHeavyHitters() {
+        String text = zipfText(new Random(23), 200_000, 20_000);
+        Map<String, Long> reference = referenceCounts(text);
+        int capacity = 1000;
+
+        SpaceSavingTermCounter counter = new SpaceSavingTermCounter(text, capacity);
+        new WordAnalyzer().accumulate(text, 0, text.length(), counter);
+        TermFrequencies frequencies = counter.result(capacity);
+
+        assertThat(frequencies.isExact()).isFalse();
+        assertThat(frequencies.getTotalTerms()).isEqualTo(200_000);
+        assertThat(frequencies.getMaxError()).isLessThanOrEqualTo(200_000 / capacity);
+        assertThat(frequencies.getTopTerms()).hasSize(capacity).allSatisfy(term -> {
+            long actual = reference.getOrDefault(term.getTerm(), 0L);
+            assertThat(term.getCount()).isGreaterThanOrEqualTo(actual);
+            assertThat(term.getCount() - term.getError()).isLessThanOrEqualTo(actual);
+        });
+        // Every term more frequent than the error bound must be monitored
+        List<String> monitored = frequencies.getTopTerms().stream().map(TermCount::getTerm).toList();
+        reference.forEach((term, count) -> {
+            if (count > frequencies.getMaxError()) {
+                assertThat(monitored).contains(term);
+            }
+        });
+        assertThat(frequencies.getTopTerms().subList(0, 5)).extracting(TermCount::getTerm)
+                .containsExactly("w0", "w1", "w2", "w3", "w4");
+    }
+
+    @Test
+    @DisplayName("Should switch to approximate counting above the exact threshold")
+    void shouldUseSpaceSavingForLargeInputs() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getTerms().setExactThreshold(100);
+        properties.getTerms().setCounters(4);
+        properties.getTerms().setTopK(2);
+        TermFrequencyEngine engine = new TermFrequencyEngine(TermFrequencyEngine.defaultAnalyzers(), properties);
+
+        TermFrequencies small = engine.count("a b a c", ParameterType.WORDS);
+        TermFrequencies large = engine.count("a b c d e f g h a a a b ".repeat(10), ParameterType.WORDS);
+
+        assertThat(small.isExact()).isTrue();
+        assertThat(small.getTopTerms()).containsExactly(new TermCount("a", 2), new TermCount("b", 1));
+        assertThat(large.isExact()).isFalse();
+        assertThat(large.getTopTerms()).extracting(TermCount::getTerm).containsExactly("a", "b");
+        assertThat(engine.count("a b a", ParameterType.NGRAMS).getTotalTerms()).isZero();
+
+        properties.getTerms().setCounters(1);
+        assertThatThrownBy(() -> new TermFrequencyEngine(TermFrequencyEngine.defaultAnalyzers(), properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
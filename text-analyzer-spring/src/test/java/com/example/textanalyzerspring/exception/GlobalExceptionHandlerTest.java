@@ -1,22 +1,31 @@
 package com.example.textanalyzerspring.exception;
 
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics.ValidationFailure;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.server.PayloadTooLargeException;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Global Exception Handler Tests")
@@ -25,6 +34,9 @@ public class GlobalExceptionHandlerTest {
     @InjectMocks
     private GlobalExceptionHandler globalExceptionHandler;
 
+    @Mock
+    private AnalysisMetrics metrics;
+
     @Mock
     private MethodArgumentNotValidException methodArgumentNotValidException;
 
@@ -48,6 +60,7 @@ public class GlobalExceptionHandlerTest {
                 .containsEntry("parameterType", "Parameter type is required")
                 .containsEntry("inputText", "Text is required")
                 .hasSize(2);
+        then(metrics).should().recordValidationFailure(ValidationFailure.FIELD);
     }
 
     @Test
@@ -93,6 +106,7 @@ public class GlobalExceptionHandlerTest {
                 .containsEntry("error", "Invalid input")
                 .containsEntry("message", "Text cannot be null")
                 .hasSize(2);
+        then(metrics).should().recordValidationFailure(ValidationFailure.BUSINESS);
     }
 
     @Test
@@ -125,6 +139,104 @@ public class GlobalExceptionHandlerTest {
                 .hasSize(2);
     }
 
+    @Test
+    @DisplayName("Should handle missing request parameter")
+    void shouldHandleMissingRequestParameter() {
+        var exception = new MissingServletRequestParameterException("parameterType", "ParameterType");
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleRequestParameterException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody())
+                .containsEntry("error", "Invalid request parameter")
+                .containsKey("message")
+                .hasSize(2);
+        then(metrics).should().recordValidationFailure(ValidationFailure.PARAMETER);
+    }
+
+    @Test
+    @DisplayName("Should handle SessionNotFoundException as not found")
+    void shouldHandleSessionNotFoundException() {
+        SessionNotFoundException exception = new SessionNotFoundException("abc");
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleNotFoundException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody())
+                .containsEntry("error", "Not found")
+                .containsEntry("message", "Session not found: abc")
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should handle JobNotFoundException as not found")
+    void shouldHandleJobNotFoundException() {
+        JobNotFoundException exception = new JobNotFoundException("abc");
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleNotFoundException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).containsEntry("message", "Job not found: abc");
+    }
+
+    @Test
+    @DisplayName("Should handle JobQueueFullException as too many requests with Retry-After")
+    void shouldHandleJobQueueFullException() {
+        JobQueueFullException exception = new JobQueueFullException(100, Duration.ofSeconds(5));
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleJobQueueFullException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+        assertThat(response.getBody())
+                .containsEntry("error", "Too many requests")
+                .containsEntry("message", "Job queue is full, please retry later")
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should handle ServerBusyException as too many requests with Retry-After")
+    void shouldHandleServerBusyException() {
+        ServerBusyException exception = new ServerBusyException(1 << 20, Duration.ofSeconds(2));
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleServerBusyException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody()).containsEntry("error", "Too many requests").hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should handle RequestTooLargeException as payload too large")
+    void shouldHandleRequestTooLargeException() {
+        RequestTooLargeException exception = new RequestTooLargeException(1024);
+
+        ResponseEntity<Map<String, String>> response =
+                globalExceptionHandler.handleRequestTooLargeException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(response.getBody())
+                .containsEntry("error", "Payload too large")
+                .containsEntry("message", "Request body exceeds the limit of 1024 bytes");
+    }
+
+    @Test
+    @DisplayName("Should handle RejectedExecutionException as service unavailable")
+    void shouldHandleRejectedExecutionException() {
+        RejectedExecutionException exception = new RejectedExecutionException("queue full");
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleRejectedExecutionException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody())
+                .containsEntry("error", "Service unavailable")
+                .containsEntry("message", "Server is busy, please retry later")
+                .hasSize(2);
+    }
+
     @Test
     @DisplayName("Should handle NullPointerException as generic exception")
     void shouldHandleNullPointerException() {
@@ -154,4 +266,37 @@ public class GlobalExceptionHandlerTest {
                 .containsEntry("message", "Unexpected error occurred")
                 .hasSize(2);
     }
+
+    @Test
+    @DisplayName("Should map a payload too large status to 413")
+    void shouldHandlePayloadTooLargeException() {
+        var exception = new PayloadTooLargeException(new DataBufferLimitException("Exceeded limit on max bytes to buffer"));
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleResponseStatusException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(response.getBody()).containsEntry("error", "Payload Too Large");
+    }
+
+    @Test
+    @DisplayName("Should map an exceeded buffer limit to 413")
+    void shouldHandleDataBufferLimitException() {
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleDataBufferLimitException(
+                new DataBufferLimitException("Exceeded limit on max bytes to buffer : 262144"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(response.getBody())
+                .containsEntry("error", "Payload too large")
+                .containsEntry("message", "Exceeded limit on max bytes to buffer : 262144");
+    }
+
+    @Test
+    @DisplayName("Should refuse shard requests without the cluster token with 403")
+    void shouldHandleShardAccessDeniedException() {
+        ResponseEntity<Map<String, String>> response =
+                globalExceptionHandler.handleShardAccessDeniedException(new ShardAccessDeniedException());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(response.getBody()).containsEntry("error", "Forbidden");
+    }
 }
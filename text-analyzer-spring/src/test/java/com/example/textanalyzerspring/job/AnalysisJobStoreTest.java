@@ -0,0 +1,97 @@
+package com.example.textanalyzerspring.job;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.JobPriority;
+import com.example.textanalyzerspring.model.JobStatus;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesJob;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Analysis Job Store Tests")
+public class AnalysisJobStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private AnalysisJobStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getJobs().setDirectory(directory.resolve("jobs"));
+        store = new AnalysisJobStore(properties, JsonMapper.builder().findAndAddModules().build());
+    }
+
+    private static TextAnalysesJob job(JobStatus status) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        TextAnalysesResult result = status == JobStatus.SUCCEEDED
+                ? new TextAnalysesResult(ParameterType.VOWELS, "Hello", Map.of('E', 1, 'O', 1), now)
+                : null;
+        return new TextAnalysesJob(UUID.randomUUID().toString(), status, JobPriority.NORMAL, ParameterType.VOWELS,
+                now, now, now, result, null, null);
+    }
+
+    @Test
+    @DisplayName("Should store and reload jobs including their result")
+    void shouldRoundTripJobs() throws IOException {
+        TextAnalysesJob job = job(JobStatus.SUCCEEDED);
+
+        store.save(job);
+        job.setError("replaced");
+        store.save(job);
+
+        assertThat(store.load(job.getJobId())).contains(job);
+        assertThat(store.loadAll()).containsExactly(job);
+        assertThat(directory.resolve("jobs")).isDirectoryNotContaining("glob:**.tmp");
+    }
+
+    @Test
+    @DisplayName("Should not resolve anything but job ids against the directory")
+    void shouldIgnoreInvalidIds() {
+        assertThat(store.load("../secret")).isEmpty();
+        assertThat(store.load(UUID.randomUUID().toString())).isEmpty();
+        assertThat(store.delete("../secret")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should delete records and uploads older than the cutoff unless retained")
+    void shouldDeleteExpiredJobs() throws IOException {
+        TextAnalysesJob expired = job(JobStatus.SUCCEEDED);
+        TextAnalysesJob retained = job(JobStatus.RUNNING);
+        TextAnalysesJob recent = job(JobStatus.FAILED);
+        store.save(expired);
+        store.save(retained);
+        store.save(recent);
+        Files.writeString(store.upload(expired.getJobId()), "body");
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        for (String jobId : Set.of(expired.getJobId(), retained.getJobId())) {
+            Files.setLastModifiedTime(directory.resolve("jobs").resolve(jobId + ".json"), old);
+        }
+        Files.setLastModifiedTime(store.upload(expired.getJobId()), old);
+
+        assertThat(store.deleteOlderThan(Instant.now().minus(Duration.ofDays(1)), Set.of(retained.getJobId())))
+                .containsExactly(expired.getJobId());
+        assertThat(store.load(expired.getJobId())).isEmpty();
+        assertThat(store.upload(expired.getJobId())).doesNotExist();
+        assertThat(store.load(retained.getJobId())).isPresent();
+        assertThat(store.load(recent.getJobId())).isPresent();
+    }
+}
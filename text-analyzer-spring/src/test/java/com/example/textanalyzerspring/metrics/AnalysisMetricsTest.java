@@ -0,0 +1,51 @@
+package com.example.textanalyzerspring.metrics;
+
+import com.example.textanalyzerspring.model.ParameterType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Analysis Metrics Tests")
+public class AnalysisMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private AnalysisMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new AnalysisMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("Should record phase timings by parameter type")
+    void shouldRecordPhaseTimings() {
+        metrics.recordPhase(AnalysisPhase.COUNT, ParameterType.VOWELS, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.recordPhase(AnalysisPhase.PARSE, null, TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertThat(registry.get("text.analyzer.phase").tag("phase", "count").tag("parameterType", "VOWELS")
+                .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3.0);
+        assertThat(registry.get("text.analyzer.phase").tag("phase", "parse").tag("parameterType", "none")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("text.analyzer.phase").tag("phase", "count").tag("parameterType", "CONSONANTS")
+                .timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should record input sizes and validation failures")
+    void shouldRecordSizesAndFailures() {
+        metrics.recordInputSize(ParameterType.CONSONANTS, 1_000);
+        metrics.recordValidationFailure(AnalysisMetrics.ValidationFailure.FIELD);
+        metrics.recordValidationFailure(AnalysisMetrics.ValidationFailure.FIELD);
+
+        assertThat(registry.get("text.analyzer.input.size").tag("parameterType", "CONSONANTS")
+                .summary().totalAmount()).isEqualTo(1_000);
+        assertThat(registry.get("text.analyzer.validation.failures").tag("type", "field")
+                .counter().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.textanalyzerspring.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Metrics Endpoint Integration Tests")
+public class MetricsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should expose phase timings and validation failures for Prometheus")
+    void shouldExposePrometheusMetrics() throws Exception {
+        mockMvc.perform(post("/api/text-analyzer/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parameterType\":\"VOWELS\",\"inputText\":\"Hello there\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/text-analyzer/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parameterType\":\"VOWELS\",\"inputText\":\"\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "text_analyzer_phase_seconds_count{parameterType=\"VOWELS\",phase=\"parse\"} 2")))
+                .andExpect(content().string(containsString(
+                        "text_analyzer_phase_seconds_count{parameterType=\"VOWELS\",phase=\"validate\"} 2")))
+                .andExpect(content().string(containsString(
+                        "text_analyzer_phase_seconds_count{parameterType=\"VOWELS\",phase=\"count\"} 1")))
+                .andExpect(content().string(containsString(
+                        "text_analyzer_phase_seconds_count{parameterType=\"VOWELS\",phase=\"serialize\"} 1")))
+                .andExpect(content().string(containsString(
+                        "text_analyzer_validation_failures_total{type=\"field\"} 1")))
+                .andExpect(content().string(containsString("text_analyzer_input_size_characters_count")))
+                .andExpect(content().string(containsString("text_analyzer_cache_requests_total")));
+    }
+}
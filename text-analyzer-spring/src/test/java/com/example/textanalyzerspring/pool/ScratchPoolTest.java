@@ -0,0 +1,135 @@
+package com.example.textanalyzerspring.pool;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.LetterHistogram;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Scratch Pool Tests")
+public class ScratchPoolTest {
+
+    private static ScratchPool<StringBuilder> pool(int maxIdle, int leakDetectionInterval) {
+        return new ScratchPool<>("builder", maxIdle, leakDetectionInterval, StringBuilder::new,
+                builder -> builder.setLength(0));
+    }
+
+    @Test
+    @DisplayName("Should reuse returned objects after resetting them")
+    void shouldReuseResetObjects() {
+        ScratchPool<StringBuilder> pool = pool(2, 0);
+
+        StringBuilder first;
+        try (ScratchPool.Lease<StringBuilder> lease = pool.acquire()) {
+            first = lease.get().append("used");
+        }
+        try (ScratchPool.Lease<StringBuilder> lease = pool.acquire()) {
+            assertThat(lease.get()).isSameAs(first).isEmpty();
+        }
+
+        assertThat(pool.created()).isEqualTo(1);
+        assertThat(pool.reused()).isEqualTo(1);
+        assertThat(pool.idle()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep no more idle objects than its bound")
+    void shouldBoundIdleObjects() {
+        ScratchPool<StringBuilder> pool = pool(2, 0);
+        List<ScratchPool.Lease<StringBuilder>> leases = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            leases.add(pool.acquire());
+        }
+        leases.forEach(ScratchPool.Lease::close);
+
+        assertThat(pool.created()).isEqualTo(5);
+        assertThat(pool.idle()).isEqualTo(2);
+        assertThat(pool.discarded()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject use of a closed lease and ignore a second close")
+    void shouldGuardClosedLeases() {
+        ScratchPool<StringBuilder> pool = pool(2, 1);
+        ScratchPool.Lease<StringBuilder> lease = pool.acquire();
+
+        lease.close();
+        lease.close();
+
+        assertThatThrownBy(lease::get).isInstanceOf(IllegalStateException.class);
+        assertThat(pool.idle()).isEqualTo(1);
+        assertThat(pool.leaked()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should allocate every time when pooling is disabled")
+    void shouldNotPoolWhenDisabled() {
+        ScratchPool<StringBuilder> pool = pool(0, 0);
+        StringBuilder first;
+        try (ScratchPool.Lease<StringBuilder> lease = pool.acquire()) {
+            first = lease.get();
+        }
+        try (ScratchPool.Lease<StringBuilder> lease = pool.acquire()) {
+            assertThat(lease.get()).isNotSameAs(first);
+        }
+
+        assertThat(pool.created()).isEqualTo(2);
+        assertThat(pool.idle()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report leases that are never closed")
+    void shouldDetectLeaks() throws InterruptedException {
+        ScratchPool<StringBuilder> pool = pool(2, 1);
+        pool.acquire().get().append("never returned");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.leaked() == 0 && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat(pool.leaked()).isEqualTo(1);
+        assertThat(pool.idle()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand out reset histograms, buffers and decoders")
+    void shouldResetPooledScratch() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getPool().setMaxIdle(1);
+        ScratchPools pools = new ScratchPools(properties);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        pools.bindTo(registry);
+
+        try (ScratchPool.Lease<LetterHistogram> histogram = pools.histogram();
+             ScratchPool.Lease<CharBuffer> chars = pools.charBuffer();
+             ScratchPool.Lease<CharsetDecoder> decoder = pools.decoder(StandardCharsets.UTF_8)) {
+            histogram.get().increment('a');
+            chars.get().put("abc");
+            decoder.get().decode(ByteBuffer.wrap(new byte[]{(byte) 0xC3}), CharBuffer.allocate(4), false);
+        }
+        try (ScratchPool.Lease<LetterHistogram> histogram = pools.histogram();
+             ScratchPool.Lease<CharBuffer> chars = pools.charBuffer();
+             ScratchPool.Lease<CharsetDecoder> decoder = pools.decoder(StandardCharsets.UTF_8)) {
+            assertThat(histogram.get().isEmpty()).isTrue();
+            assertThat(chars.get().position()).isZero();
+            assertThat(chars.get().capacity()).isEqualTo(properties.getStream().getBufferSize());
+            assertThat(decoder.get().charset()).isEqualTo(StandardCharsets.UTF_8);
+        }
+
+        assertThat(registry.get("text.analyzer.pool.reused").tag("pool", "histogram").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("text.analyzer.pool.idle").tag("pool", "decoder").gauge().value()).isEqualTo(1);
+    }
+}
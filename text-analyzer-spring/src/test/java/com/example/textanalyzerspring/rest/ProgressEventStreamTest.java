@@ -0,0 +1,60 @@
+package com.example.textanalyzerspring.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "text-analyzer.progress.interval=0s",
+        "text-analyzer.progress.chunk-size=1024"
+})
+@AutoConfigureMockMvc
+@DisplayName("Progress Event Stream Tests")
+public class ProgressEventStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should stream progress events followed by the result")
+    void shouldStreamProgressAndResult() throws Exception {
+        String text = "Hello World ".repeat(500);
+        MvcResult started = mockMvc.perform(post("/api/text-analyzer/analyze/progress")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content("{\"parameterType\":\"VOWELS\",\"inputText\":\"" + text + "\","
+                                + "\"originalTextLimit\":0}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult(5000);
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("event:progress", "\"processedCharacters\":1024", "\"totalCharacters\":6000");
+        assertThat(body.indexOf("event:result")).isGreaterThan(body.lastIndexOf("event:progress"));
+        assertThat(body).contains("\"letterCounts\":{\"A\":0,\"E\":500,\"I\":0,\"O\":1000,\"U\":0}");
+    }
+
+    @Test
+    @DisplayName("Should refuse invalid requests before opening the stream")
+    void shouldRejectInvalidRequest() throws Exception {
+        mockMvc.perform(post("/api/text-analyzer/analyze/progress")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON)
+                        .content("{\"parameterType\":\"VOWELS\",\"inputText\":\"\"}"))
+                .andExpect(status().isBadRequest());
+    }
+}
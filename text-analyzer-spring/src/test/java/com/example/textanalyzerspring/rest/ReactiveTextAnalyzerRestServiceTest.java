@@ -0,0 +1,240 @@
+package com.example.textanalyzerspring.rest;
+
+import com.example.textanalyzerspring.config.JacksonConfiguration;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesSessionAppendRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionResult;
+import com.example.textanalyzerspring.service.TextAnalyzerService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@DisplayName("Reactive Text Analyzer Rest Service Tests")
+public class ReactiveTextAnalyzerRestServiceTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Autowired
+    private TextAnalyzerService textAnalyzerService;
+
+    @Autowired
+    private HistogramLetterCountingEngine engine;
+
+    @Test
+    @DisplayName("Should serve the reactive variant on Netty")
+    void shouldRunOnNetty() {
+        assertThat(context.getWebServer()).isInstanceOf(NettyWebServer.class);
+    }
+
+    @Test
+    @DisplayName("Should return the same result as the shared service")
+    void shouldMatchSharedService() {
+        var request = new TextAnalysesRequest(ParameterType.CONSONANTS, "Grüße aus Köln");
+
+        TextAnalysesResult result = webTestClient.post().uri("/api/text-analyzer/analyze")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TextAnalysesResult.class)
+                .returnResult().getResponseBody();
+
+        TextAnalysesResult expected = textAnalyzerService.analyzeText(request);
+        assertThat(result).isNotNull();
+        assertThat(result.getParameterType()).isEqualTo(expected.getParameterType());
+        assertThat(result.getOriginalText()).isEqualTo(expected.getOriginalText());
+        assertThat(result.getLetterCounts()).containsExactlyEntriesOf(expected.getLetterCounts());
+    }
+
+    @Test
+    @DisplayName("Should accept JSON bodies above the default 256KB codec limit")
+    void shouldAcceptLargeJsonBody() {
+        var request = new TextAnalysesRequest(ParameterType.VOWELS, "aeiou ".repeat(100_000));
+        request.setOriginalTextLimit(16);
+
+        TextAnalysesResult result = webTestClient.post().uri("/api/text-analyzer/analyze")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TextAnalysesResult.class)
+                .returnResult().getResponseBody();
+
+        assertThat(result).isNotNull();
+        assertThat(result.getLetterCounts())
+                .containsEntry('A', 100_000)
+                .containsEntry('U', 100_000);
+    }
+
+    @Test
+    @DisplayName("Should open, edit, verify and close a session")
+    void shouldServeSessions() {
+        TextAnalysesSessionResult created = webTestClient.post().uri("/api/text-analyzer/sessions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TextAnalysesSessionRequest(ParameterType.VOWELS, null, "Hel"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TextAnalysesSessionResult.class)
+                .returnResult().getResponseBody();
+        assertThat(created).isNotNull();
+        String uri = "/api/text-analyzer/sessions/" + created.getSessionId();
+
+        webTestClient.post().uri(uri + "/append")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TextAnalysesSessionAppendRequest("lo"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length").isEqualTo(5)
+                .jsonPath("$.letterCounts.O").isEqualTo(1);
+        webTestClient.get().uri(uri + "/verify")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.consistent").isEqualTo(true);
+        webTestClient.delete().uri(uri)
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.get().uri(uri)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Not found");
+    }
+
+    @Test
+    @DisplayName("Should answer in Smile when the client accepts it")
+    void shouldWriteSmile() {
+        webTestClient.post().uri("/api/text-analyzer/analyze")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(JacksonConfiguration.APPLICATION_SMILE)
+                .bodyValue(new TextAnalysesRequest(ParameterType.VOWELS, "Hello"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(JacksonConfiguration.APPLICATION_SMILE)
+                .expectBody(TextAnalysesResult.class)
+                .value(result -> assertThat(result.getLetterCounts()).containsEntry('E', 1).containsEntry('O', 1));
+    }
+
+    @Test
+    @DisplayName("Should end the progress stream with a result event")
+    void shouldStreamProgressResult() {
+        List<ServerSentEvent<TextAnalysesResult>> events = webTestClient.post()
+                .uri("/api/text-analyzer/analyze/progress")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(new TextAnalysesRequest(ParameterType.VOWELS, "Hello World"))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<TextAnalysesResult>>() {
+                })
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(events).isNotNull();
+        ServerSentEvent<TextAnalysesResult> last = events.get(events.size() - 1);
+        assertThat(last.event()).isEqualTo("result");
+        assertThat(last.data().getLetterCounts()).containsEntry('E', 1).containsEntry('O', 2);
+    }
+
+    @Test
+    @DisplayName("Should count a streamed body split inside multi-byte characters")
+    void shouldCountStreamedBody() {
+        String text = "Привет, мир! 😀 Grüße ".repeat(200);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        Flux<DataBuffer> body = Flux.range(0, (bytes.length + 6) / 7)
+                .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(
+                        Arrays.copyOfRange(bytes, chunk * 7, Math.min(bytes.length, chunk * 7 + 7))));
+
+        StreamAnalysesResult result = webTestClient.post()
+                .uri("/api/text-analyzer/analyze/stream?parameterType=CONSONANTS&digest=true")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(body, DataBuffer.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(StreamAnalysesResult.class)
+                .returnResult().getResponseBody();
+
+        assertThat(result).isNotNull();
+        assertThat(result.getLetterCounts()).containsExactlyEntriesOf(engine.count(text, ParameterType.CONSONANTS));
+        assertThat(result.getCharacterCount()).isEqualTo(text.length());
+        assertThat(result.getByteCount()).isEqualTo(bytes.length);
+        assertThat(result.getSha256()).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("Should report field validation errors")
+    void shouldReportValidationErrors() {
+        webTestClient.post().uri("/api/text-analyzer/analyze")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"parameterType\":\"VOWELS\",\"inputText\":\"\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.inputText").isEqualTo("Text is required");
+    }
+
+    @Test
+    @DisplayName("Should reject a whitespace-only stream")
+    void shouldRejectBlankStream() {
+        webTestClient.post().uri("/api/text-analyzer/analyze/stream?parameterType=VOWELS")
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue("   ")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Text cannot be empty or whitespace only");
+    }
+
+    @Test
+    @DisplayName("Should reject a missing parameter type")
+    void shouldRejectMissingParameterType() {
+        webTestClient.post().uri("/api/text-analyzer/analyze/stream")
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue("Hello")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid request parameter");
+    }
+
+    @Test
+    @DisplayName("Should serve result aggregates, refused while the result store is disabled")
+    void shouldServeResultAggregates() {
+        webTestClient.get().uri("/api/text-analyzer/results/aggregate?parameterType=VOWELS")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("The result store is not enabled");
+    }
+}
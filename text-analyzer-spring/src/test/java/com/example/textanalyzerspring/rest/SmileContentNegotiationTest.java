@@ -0,0 +1,102 @@
+package com.example.textanalyzerspring.rest;
+
+import com.example.textanalyzerspring.config.JacksonConfiguration;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Smile Content Negotiation Tests")
+public class SmileContentNegotiationTest {
+
+    private static ObjectMapper smileMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void setUp() {
+        smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+    }
+
+    @Test
+    @DisplayName("Should register Blackbird with the application mapper")
+    void shouldRegisterBlackbird() {
+        assertThat(objectMapper.getRegisteredModuleIds()).contains(BlackbirdModule.class.getName());
+    }
+
+    @Test
+    @DisplayName("Should keep JSON as the default format")
+    void shouldDefaultToJson() throws Exception {
+        mockMvc.perform(post("/api/text-analyzer/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.ALL)
+                        .content("{\"parameterType\":\"VOWELS\",\"inputText\":\"Hello\"}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should answer in Smile when the client accepts it")
+    void shouldWriteSmile() throws Exception {
+        byte[] body = mockMvc.perform(post("/api/text-analyzer/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(JacksonConfiguration.APPLICATION_SMILE)
+                        .content("{\"parameterType\":\"VOWELS\",\"inputText\":\"Hello there\"}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(JacksonConfiguration.APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        TextAnalysesResult result = smileMapper.readValue(body, TextAnalysesResult.class);
+        assertThat(result.getOriginalText()).isEqualTo("Hello there");
+        assertThat(result.getLetterCounts()).containsEntry('E', 3).containsEntry('O', 1);
+        assertThat(result.getTimestamp()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should read a Smile request")
+    void shouldReadSmile() throws Exception {
+        var request = new TextAnalysesRequest(ParameterType.CONSONANTS, "abc");
+
+        mockMvc.perform(post("/api/text-analyzer/analyze")
+                        .contentType(JacksonConfiguration.APPLICATION_SMILE)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(smileMapper.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.letterCounts.B").value(1))
+                .andExpect(jsonPath("$.letterCounts.C").value(1));
+    }
+
+    @Test
+    @DisplayName("Should leave out the original text when asked to")
+    void shouldOmitOriginalText() throws Exception {
+        mockMvc.perform(post("/api/text-analyzer/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parameterType\":\"VOWELS\",\"inputText\":\"Hello there\",\"originalTextLimit\":0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.originalText").doesNotExist())
+                .andExpect(jsonPath("$.originalTextLength").value(11))
+                .andExpect(jsonPath("$.originalTextSha256").isString());
+    }
+}
@@ -1,8 +1,25 @@
 package com.example.textanalyzerspring.rest;
 
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.model.JobPriority;
+import com.example.textanalyzerspring.model.JobStatus;
 import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.ResultAggregate;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesBatchItem;
+import com.example.textanalyzerspring.model.TextAnalysesBatchRequest;
+import com.example.textanalyzerspring.model.TextAnalysesBatchResult;
+import com.example.textanalyzerspring.model.TextAnalysesJob;
 import com.example.textanalyzerspring.model.TextAnalysesRequest;
 import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesSessionAppendRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionResult;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import com.example.textanalyzerspring.service.AnalysisJobService;
+import com.example.textanalyzerspring.service.BatchTextAnalyzerService;
+import com.example.textanalyzerspring.service.SessionTextAnalyzerService;
+import com.example.textanalyzerspring.service.StreamingTextAnalyzerService;
 import com.example.textanalyzerspring.service.TextAnalyzerService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,14 +28,21 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Text Analyzer Rest Service Tests")
@@ -27,6 +51,24 @@ public class TextAnalyzerRestServiceTest {
     @Mock
     private TextAnalyzerService textAnalyzerService;
 
+    @Mock
+    private StreamingTextAnalyzerService streamingTextAnalyzerService;
+
+    @Mock
+    private BatchTextAnalyzerService batchTextAnalyzerService;
+
+    @Mock
+    private SessionTextAnalyzerService sessionTextAnalyzerService;
+
+    @Mock
+    private AnalysisJobService analysisJobService;
+
+    @Mock
+    private AnalysisResultCache resultCache;
+
+    @Mock
+    private ResultColumnStore resultStore;
+
     @InjectMocks
     private TextAnalyzerRestService textAnalyzerRestService;
 
@@ -65,6 +107,111 @@ public class TextAnalyzerRestServiceTest {
                 .hasMessage("Text cannot be null");
     }
 
+    @Test
+    @DisplayName("Should analyze a batch")
+    void shouldAnalyzeBatch() {
+        var request = new TextAnalysesBatchRequest(List.of(new TextAnalysesRequest(ParameterType.VOWELS, "Hello")));
+        var expectedResult = new TextAnalysesBatchResult(List.of(new TextAnalysesBatchItem(0,
+                new TextAnalysesResult(ParameterType.VOWELS, "Hello", Map.of('E', 1, 'O', 1)), null)), 1, 0);
+
+        given(batchTextAnalyzerService.analyzeBatch(request)).willReturn(expectedResult);
+
+        ResponseEntity<TextAnalysesBatchResult> response = textAnalyzerRestService.analyzeBatch(request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(expectedResult);
+    }
+
+    @Test
+    @DisplayName("Should analyze a streamed body with the charset from the content type")
+    void shouldAnalyzeStream() throws Exception {
+        InputStream body = new ByteArrayInputStream("Hello".getBytes(StandardCharsets.ISO_8859_1));
+        var expectedResult = new StreamAnalysesResult(
+                ParameterType.CONSONANTS, Map.of('H', 1, 'L', 2), 5, 5, null, Instant.now());
+
+        given(streamingTextAnalyzerService.analyzeStream(
+                eq(body), eq(StandardCharsets.ISO_8859_1), eq(ParameterType.CONSONANTS), eq(false)))
+                .willReturn(expectedResult);
+
+        ResponseEntity<StreamAnalysesResult> response = textAnalyzerRestService.analyzeStream(
+                ParameterType.CONSONANTS, false, MediaType.parseMediaType("text/plain;charset=ISO-8859-1"), body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(expectedResult);
+    }
+
+    @Test
+    @DisplayName("Should open a session and apply edits to it")
+    void shouldOpenAndEditSession() {
+        var request = new TextAnalysesSessionRequest(ParameterType.VOWELS, null, "Hel");
+        var created = new TextAnalysesSessionResult("s1", ParameterType.VOWELS, 3, Map.of('E', 1), null,
+                Instant.now());
+        var appended = new TextAnalysesSessionResult("s1", ParameterType.VOWELS, 5, Map.of('E', 1, 'O', 1), null,
+                Instant.now());
+        given(sessionTextAnalyzerService.createSession(request)).willReturn(created);
+        given(sessionTextAnalyzerService.append(eq("s1"), any(TextAnalysesSessionAppendRequest.class)))
+                .willReturn(appended);
+
+        ResponseEntity<TextAnalysesSessionResult> createResponse = textAnalyzerRestService.createSession(request);
+        ResponseEntity<TextAnalysesSessionResult> appendResponse = textAnalyzerRestService.appendToSession(
+                "s1", new TextAnalysesSessionAppendRequest("lo"));
+        ResponseEntity<Void> deleteResponse = textAnalyzerRestService.deleteSession("s1");
+
+        assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(createResponse.getBody()).isSameAs(created);
+        assertThat(appendResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(appendResponse.getBody()).isSameAs(appended);
+        assertThat(deleteResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @Test
+    @DisplayName("Should accept jobs and long-poll for them")
+    void shouldSubmitAndPollJob() throws Exception {
+        var request = new TextAnalysesRequest(ParameterType.VOWELS, "Hello");
+        var queued = new TextAnalysesJob("j1", JobStatus.QUEUED, JobPriority.HIGH, ParameterType.VOWELS,
+                Instant.now(), null, null, null, null, null);
+        var finished = new TextAnalysesJob("j1", JobStatus.SUCCEEDED, JobPriority.HIGH, ParameterType.VOWELS,
+                Instant.now(), Instant.now(), Instant.now(), null, null, null);
+        given(analysisJobService.submit(request, JobPriority.HIGH)).willReturn(queued);
+        given(analysisJobService.await("j1", 10)).willReturn(CompletableFuture.completedFuture(finished));
+
+        ResponseEntity<TextAnalysesJob> submitResponse = textAnalyzerRestService.submitJob(request, JobPriority.HIGH);
+        ResponseEntity<TextAnalysesJob> pollResponse = textAnalyzerRestService.getJob("j1", 10).get();
+        ResponseEntity<Void> deleteResponse = textAnalyzerRestService.deleteJob("j1");
+
+        assertThat(submitResponse.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(submitResponse.getHeaders().getLocation()).hasPath("/api/text-analyzer/jobs/j1");
+        assertThat(submitResponse.getBody()).isSameAs(queued);
+        assertThat(pollResponse.getBody()).isSameAs(finished);
+        assertThat(deleteResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @Test
+    @DisplayName("Should return cache statistics")
+    void shouldReturnCacheStats() {
+        var stats = new AnalysisResultCache.CacheStats(3, 1, 0, 1, 170);
+        given(resultCache.stats()).willReturn(stats);
+
+        ResponseEntity<AnalysisResultCache.CacheStats> response = textAnalyzerRestService.cacheStats();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(stats);
+    }
+
+    @Test
+    @DisplayName("Should aggregate stored results")
+    void shouldAggregateStoredResults() {
+        Instant from = Instant.parse("2026-01-01T00:00:00Z");
+        var aggregate = new ResultAggregate(ParameterType.VOWELS, from, null, 2, Map.of('E', 3L), Map.of('E', 1.5));
+        given(resultStore.aggregate(ParameterType.VOWELS, from, null)).willReturn(aggregate);
+
+        ResponseEntity<ResultAggregate> response =
+                textAnalyzerRestService.aggregateResults(ParameterType.VOWELS, from, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(aggregate);
+    }
+
     @Test
     @DisplayName("Should return health status")
     void shouldReturnHealthStatus() {
@@ -0,0 +1,189 @@
+package com.example.textanalyzerspring.results;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.ResultAggregate;
+import com.example.textanalyzerspring.model.TermFrequencies;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Result Column Store Tests")
+public class ResultColumnStoreTest {
+
+    private static final Instant START = Instant.parse("2026-10-01T00:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    private TextAnalyzerProperties properties;
+    private ResultColumnStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new TextAnalyzerProperties();
+        properties.getResultStore().setEnabled(true);
+        properties.getResultStore().setDirectory(directory.resolve("results"));
+        // Tiny partitions so that the tests also remap grown columns
+        properties.getResultStore().setInitialCapacity(2);
+        store = new ResultColumnStore(properties);
+    }
+
+    private static TextAnalysesResult vowels(int minutes, Map<Character, Integer> counts) {
+        return new TextAnalysesResult(ParameterType.VOWELS, "", counts, START.plusSeconds(60L * minutes));
+    }
+
+    @Test
+    @DisplayName("Should sum and average the stored counts")
+    void shouldAggregateStoredCounts() {
+        store.append(vowels(0, Map.of('A', 1, 'E', 2, 'I', 0)));
+        store.append(vowels(1, Map.of('A', 3, 'O', 4)));
+        store.append(vowels(2, Map.of('E', 5)));
+
+        ResultAggregate aggregate = store.aggregate(ParameterType.VOWELS, null, null);
+
+        assertThat(aggregate.getResultCount()).isEqualTo(3);
+        assertThat(aggregate.getTotals()).containsExactly(
+                entry('A', 4L), entry('E', 7L), entry('O', 4L));
+        assertThat(aggregate.getAverages()).containsEntry('A', 4 / 3.0).containsEntry('E', 7 / 3.0);
+        assertThat(store.aggregate(ParameterType.CONSONANTS, null, null).getResultCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the old capacity when a grown column cannot be mapped")
+    void shouldRecoverFromFailedGrow() throws IOException {
+        store.append(vowels(0, Map.of('A', 1, 'E', 1)));
+        store.append(vowels(1, Map.of('A', 2, 'E', 2)));
+        Path column = directory.resolve("results/VOWELS/0045.col");
+        Path moved = Files.move(column, directory.resolve("0045.col"));
+        // A directory in place of the column file makes its mapping fail
+        Files.createDirectory(column);
+
+        assertThatCode(() -> store.append(vowels(2, Map.of('A', 4, 'E', 4)))).doesNotThrowAnyException();
+        assertThatCode(() -> store.append(vowels(3, Map.of('E', 8)))).doesNotThrowAnyException();
+        assertThat(store.aggregate(ParameterType.VOWELS, null, null).getResultCount()).isEqualTo(2);
+
+        Files.delete(column);
+        Files.move(moved, column);
+        store.append(vowels(4, Map.of('A', 16, 'E', 16)));
+
+        ResultAggregate aggregate = store.aggregate(ParameterType.VOWELS, null, null);
+        assertThat(aggregate.getResultCount()).isEqualTo(3);
+        assertThat(aggregate.getTotals()).containsExactly(entry('A', 19L), entry('E', 19L));
+    }
+
+    @Test
+    @DisplayName("Should not leave partial counts behind when a new column cannot be created")
+    void shouldNotLeavePartialRows() throws IOException {
+        store.append(vowels(0, Map.of('A', 1)));
+        Path column = directory.resolve("results/VOWELS/004f.col");
+        Files.createDirectory(column);
+        Map<Character, Integer> counts = new LinkedHashMap<>();
+        counts.put('A', 100);
+        counts.put('O', 100);
+
+        store.append(vowels(1, counts));
+        Files.delete(column);
+        store.append(vowels(2, Map.of('O', 1)));
+
+        ResultAggregate aggregate = store.aggregate(ParameterType.VOWELS, null, null);
+        assertThat(aggregate.getResultCount()).isEqualTo(2);
+        assertThat(aggregate.getTotals()).containsExactly(entry('A', 1L), entry('O', 1L));
+    }
+
+    @Test
+    @DisplayName("Should only aggregate the results inside the time range")
+    void shouldAggregateTimeRange() {
+        for (int minute = 0; minute < 10; minute++) {
+            store.append(vowels(minute, Map.of('A', minute)));
+        }
+
+        ResultAggregate aggregate = store.aggregate(ParameterType.VOWELS,
+                START.plusSeconds(120), START.plusSeconds(300));
+
+        assertThat(aggregate.getResultCount()).isEqualTo(3);
+        assertThat(aggregate.getTotals()).containsExactly(entry('A', 2L + 3 + 4));
+        assertThat(store.aggregate(ParameterType.VOWELS, START.plusSeconds(600), null).getResultCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should store every letter count type but no term frequencies")
+    void shouldStoreEachAnalysis() {
+        TextAnalysesResult result = vowels(0, null);
+        result.setAnalyses(Map.of(
+                ParameterType.VOWELS, Map.of('A', 2),
+                ParameterType.DIGITS, Map.of('1', 3)));
+        result.setTerms(Map.of(ParameterType.WORDS, new TermFrequencies()));
+
+        store.append(result);
+
+        assertThat(store.aggregate(ParameterType.DIGITS, null, null).getTotals()).containsExactly(entry('1', 3L));
+        assertThat(store.rows()).isEqualTo(2);
+        assertThat(directory.resolve("results/WORDS")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should keep stored results across restarts")
+    void shouldReopenStoredResults() throws IOException {
+        store.append(vowels(0, Map.of('A', 1)));
+        store.append(vowels(1, Map.of('E', 2)));
+        store.append(vowels(2, Map.of('A', 3)));
+        store.force();
+
+        ResultColumnStore reopened = new ResultColumnStore(properties);
+        reopened.append(vowels(3, Map.of('U', 4)));
+
+        assertThat(reopened.aggregate(ParameterType.VOWELS, null, null).getTotals()).containsExactly(
+                entry('A', 4L), entry('E', 2L), entry('U', 4L));
+        assertThat(Files.size(directory.resolve("results/VOWELS/0041.col"))).isEqualTo(4 * Integer.BYTES);
+    }
+
+    @Test
+    @DisplayName("Should keep rows in time order")
+    void shouldClampOutOfOrderTimestamps() {
+        store.append(vowels(5, Map.of('A', 1)));
+        store.append(vowels(1, Map.of('A', 2)));
+
+        assertThat(store.aggregate(ParameterType.VOWELS, START.plusSeconds(300), null).getResultCount())
+                .isEqualTo(2);
+        assertThat(store.aggregate(ParameterType.VOWELS, null, START.plusSeconds(300)).getResultCount())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should report stored rows as a metric")
+    void shouldBindMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store.bindTo(registry);
+        store.append(vowels(0, Map.of('A', 1)));
+
+        assertThat(registry.get("text.analyzer.results.stored").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject queries when disabled or invalid")
+    void shouldRejectInvalidQueries() throws IOException {
+        ResultColumnStore disabled = new ResultColumnStore(new TextAnalyzerProperties());
+        disabled.append(vowels(0, Map.of('A', 1)));
+
+        assertThatThrownBy(() -> disabled.aggregate(ParameterType.VOWELS, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The result store is not enabled");
+        assertThatThrownBy(() -> store.aggregate(ParameterType.WORDS, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.aggregate(ParameterType.VOWELS, START, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.exception.JobNotFoundException;
+import com.example.textanalyzerspring.exception.JobQueueFullException;
+import com.example.textanalyzerspring.job.AnalysisJobStore;
+import com.example.textanalyzerspring.model.JobPriority;
+import com.example.textanalyzerspring.model.JobStatus;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesJob;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Analysis Job Service Tests")
+public class AnalysisJobServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private TextAnalyzerService textAnalyzerService;
+
+    @Mock
+    private StreamingTextAnalyzerService streamingTextAnalyzerService;
+
+    private TextAnalyzerProperties properties;
+    private AnalysisJobStore store;
+    private AnalysisJobService service;
+
+    private final CountDownLatch blockerStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseBlocker = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new TextAnalyzerProperties();
+        properties.getJobs().setDirectory(directory);
+        properties.getJobs().setWorkers(1);
+        properties.getJobs().setQueueCapacity(3);
+        store = new AnalysisJobStore(properties, JsonMapper.builder().findAndAddModules().build());
+        service = new AnalysisJobService(textAnalyzerService, streamingTextAnalyzerService, store, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseBlocker.countDown();
+        service.shutdown();
+    }
+
+    private static TextAnalysesResult result(String text) {
+        return new TextAnalysesResult(ParameterType.VOWELS, text, Map.of('E', 1), Instant.now());
+    }
+
+    /**
+     * Occupies the single worker until {@link #releaseBlocker} is counted down.
+     */
+    private TextAnalysesJob submitBlocker() throws InterruptedException, IOException {
+        TextAnalysesRequest request = new TextAnalysesRequest(ParameterType.VOWELS, "blocker");
+        given(textAnalyzerService.analyzeText(request)).willAnswer(invocation -> {
+            blockerStarted.countDown();
+            releaseBlocker.await();
+            return result("blocker");
+        });
+        TextAnalysesJob blocker = service.submit(request, JobPriority.NORMAL);
+        assertThat(blockerStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        return blocker;
+    }
+
+    @Test
+    @DisplayName("Should run a submitted job and keep its result in the store")
+    void shouldRunJobAndPersistResult() throws Exception {
+        TextAnalysesRequest request = new TextAnalysesRequest(ParameterType.VOWELS, "Hello");
+        given(textAnalyzerService.analyzeText(request)).willReturn(result("Hello"));
+
+        TextAnalysesJob submitted = service.submit(request, JobPriority.NORMAL);
+        TextAnalysesJob finished = service.await(submitted.getJobId(), 5).get(10, TimeUnit.SECONDS);
+
+        assertThat(submitted.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(finished.getResult().getOriginalText()).isNull();
+        assertThat(finished.getResult().getOriginalTextLength()).isEqualTo(5);
+        assertThat(finished.getStartedAt()).isNotNull();
+        assertThat(finished.getCompletedAt()).isNotNull();
+        assertThat(store.load(submitted.getJobId())).contains(finished);
+        assertThat(service.get(submitted.getJobId())).isEqualTo(finished);
+    }
+
+    @Test
+    @DisplayName("Should keep the text of queued jobs in the store until they start")
+    void shouldSpoolQueuedText() throws Exception {
+        submitBlocker();
+        TextAnalysesRequest request = new TextAnalysesRequest(ParameterType.VOWELS, "Grüße", null, 3);
+        given(textAnalyzerService.analyzeText(request)).willAnswer(invocation ->
+                OriginalTexts.limit(result(invocation.<TextAnalysesRequest>getArgument(0).getInputText()), 3));
+
+        TextAnalysesJob queued = service.submit(request, JobPriority.NORMAL);
+        Path upload = store.upload(queued.getJobId());
+        assertThat(upload).content(StandardCharsets.UTF_8).isEqualTo("Grüße");
+
+        releaseBlocker.countDown();
+        TextAnalysesJob finished = service.await(queued.getJobId(), 5).get(10, TimeUnit.SECONDS);
+
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(finished.getResult().getOriginalText()).isEqualTo("Grü");
+        assertThat(finished.getResult().getOriginalTextLength()).isEqualTo(5);
+        assertThat(upload).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should start queued jobs by priority, then in submission order")
+    void shouldRunJobsByPriority() throws Exception {
+        submitBlocker();
+        List<String> order = new CopyOnWriteArrayList<>();
+        given(textAnalyzerService.analyzeText(any(TextAnalysesRequest.class))).willAnswer(invocation -> {
+            String text = invocation.<TextAnalysesRequest>getArgument(0).getInputText();
+            order.add(text);
+            return result(text);
+        });
+
+        TextAnalysesJob last = service.submit(new TextAnalysesRequest(ParameterType.VOWELS, "low"),
+                JobPriority.LOW);
+        service.submit(new TextAnalysesRequest(ParameterType.VOWELS, "normal"), JobPriority.NORMAL);
+        service.submit(new TextAnalysesRequest(ParameterType.VOWELS, "high"), JobPriority.HIGH);
+        releaseBlocker.countDown();
+        service.await(last.getJobId(), 5).get(10, TimeUnit.SECONDS);
+
+        assertThat(order).containsExactly("high", "normal", "low");
+    }
+
+    @Test
+    @DisplayName("Should reject submissions once the queue is full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        submitBlocker();
+        for (int i = 0; i < 3; i++) {
+            service.submit(new TextAnalysesRequest(ParameterType.VOWELS, "queued " + i), JobPriority.NORMAL);
+        }
+
+        assertThatThrownBy(() -> service.submit(new TextAnalysesRequest(ParameterType.VOWELS, "rejected"),
+                JobPriority.HIGH))
+                .isInstanceOf(JobQueueFullException.class)
+                .extracting(e -> ((JobQueueFullException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(5));
+        assertThat(service.queuedJobs()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return the current state when the long-poll wait is over")
+    void shouldTimeOutLongPoll() throws Exception {
+        properties.getJobs().setMaxWait(Duration.ofMillis(100));
+        TextAnalysesJob blocker = submitBlocker();
+
+        TextAnalysesJob polled = service.await(blocker.getJobId(), 60).get(10, TimeUnit.SECONDS);
+
+        assertThat(polled.getStatus()).isEqualTo(JobStatus.RUNNING);
+    }
+
+    @Test
+    @DisplayName("Should spool uploads, count them and remove the spooled body")
+    void shouldRunUploadJob() throws Exception {
+        StreamAnalysesResult streamResult = new StreamAnalysesResult(
+                ParameterType.CONSONANTS, Map.of('H', 1, 'L', 2), 5, 5, null, Instant.now());
+        given(streamingTextAnalyzerService.analyzeStream(any(InputStream.class), eq(StandardCharsets.UTF_8),
+                eq(ParameterType.CONSONANTS), eq(true))).willAnswer(invocation ->
+                new String(invocation.<InputStream>getArgument(0).readAllBytes(), StandardCharsets.UTF_8)
+                        .equals("Hello") ? streamResult : null);
+
+        TextAnalysesJob submitted = service.submitUpload(new ByteArrayInputStream("Hello".getBytes()),
+                StandardCharsets.UTF_8, ParameterType.CONSONANTS, true, JobPriority.NORMAL);
+        TextAnalysesJob finished = service.await(submitted.getJobId(), 5).get(10, TimeUnit.SECONDS);
+
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(finished.getStreamResult()).isEqualTo(streamResult);
+        assertThat(finished.getResult()).isNull();
+        assertThat(store.upload(submitted.getJobId())).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should refuse term uploads before spooling them")
+    void shouldRejectTermUpload() {
+        for (ParameterType parameterType : new ParameterType[]{ParameterType.WORDS, ParameterType.NGRAMS}) {
+            assertThatThrownBy(() -> service.submitUpload(new ByteArrayInputStream("to be or not".getBytes()),
+                    StandardCharsets.UTF_8, parameterType, false, JobPriority.NORMAL))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(parameterType + " is counted per term and cannot be uploaded");
+        }
+        assertThat(service.queuedJobs()).isZero();
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("Should refuse uploads above the size limit and release their slot")
+    void shouldRejectOversizedUpload() {
+        properties.getJobs().setMaxUploadSize(DataSize.ofBytes(4));
+
+        assertThatThrownBy(() -> service.submitUpload(new ByteArrayInputStream("Hello".getBytes()),
+                StandardCharsets.UTF_8, ParameterType.VOWELS, false, JobPriority.NORMAL))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Upload cannot exceed 4 bytes");
+        assertThat(service.queuedJobs()).isZero();
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("Should record failures of the analysis in the job")
+    void shouldRecordFailure() throws Exception {
+        TextAnalysesRequest request = new TextAnalysesRequest(ParameterType.VOWELS, "Hello");
+        given(textAnalyzerService.analyzeText(request)).willThrow(new IllegalStateException("boom"));
+
+        TextAnalysesJob submitted = service.submit(request, JobPriority.LOW);
+        TextAnalysesJob finished = service.await(submitted.getJobId(), 5).get(10, TimeUnit.SECONDS);
+
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(finished.getError()).isEqualTo("Analysis failed");
+    }
+
+    @Test
+    @DisplayName("Should take deleted jobs off the queue and forget them")
+    void shouldDeleteQueuedJob() throws Exception {
+        submitBlocker();
+        TextAnalysesJob queued = service.submit(new TextAnalysesRequest(ParameterType.VOWELS, "queued"),
+                JobPriority.NORMAL);
+
+        service.delete(queued.getJobId());
+
+        assertThat(service.queuedJobs()).isZero();
+        assertThatThrownBy(() -> service.get(queued.getJobId())).isInstanceOf(JobNotFoundException.class);
+        assertThatThrownBy(() -> service.delete(queued.getJobId())).isInstanceOf(JobNotFoundException.class);
+        assertThatThrownBy(() -> service.get(UUID.randomUUID().toString()))
+                .isInstanceOf(JobNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should mark jobs interrupted by a restart as failed")
+    void shouldRecoverInterruptedJobs() throws Exception {
+        String jobId = UUID.randomUUID().toString();
+        store.save(new TextAnalysesJob(jobId, JobStatus.RUNNING, JobPriority.NORMAL, ParameterType.VOWELS,
+                Instant.now(), Instant.now(), null, null, null, null));
+        Files.writeString(store.upload(jobId), "half an upload");
+
+        AnalysisJobService restarted = new AnalysisJobService(textAnalyzerService, streamingTextAnalyzerService,
+                store, properties);
+        try {
+            TextAnalysesJob recovered = restarted.get(jobId);
+
+            assertThat(recovered.getStatus()).isEqualTo(JobStatus.FAILED);
+            assertThat(recovered.getError()).isEqualTo("Interrupted by a restart");
+            assertThat(store.upload(jobId)).doesNotExist();
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should validate requests before queueing them")
+    void shouldValidateBeforeQueueing() {
+        willAnswer(invocation -> {
+            throw new IllegalArgumentException("Text cannot be null");
+        }).given(textAnalyzerService).validateRequest(any());
+
+        assertThatThrownBy(() -> service.submit(new TextAnalysesRequest(ParameterType.VOWELS, null),
+                JobPriority.NORMAL))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.await("unknown", -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.queuedJobs()).isZero();
+    }
+}
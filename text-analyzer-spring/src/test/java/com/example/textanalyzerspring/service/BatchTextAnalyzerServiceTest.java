@@ -0,0 +1,222 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.LetterHistogram;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TermCount;
+import com.example.textanalyzerspring.model.TextAnalysesBatchItem;
+import com.example.textanalyzerspring.model.TextAnalysesBatchRequest;
+import com.example.textanalyzerspring.model.TextAnalysesBatchResult;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.engine.TermFrequencyEngine;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Batch Text Analyzer Service Tests")
+public class BatchTextAnalyzerServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private TextAnalyzerService textAnalyzerService;
+    private ResultColumnStore resultStore;
+    private BatchTextAnalyzerService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getBatch().setMaxSize(3);
+        properties.getResultStore().setEnabled(true);
+        properties.getResultStore().setDirectory(directory);
+        properties.getResultStore().setInitialCapacity(16);
+        HistogramLetterCountingEngine engine = new HistogramLetterCountingEngine();
+        CountingExecutor countingExecutor = new CountingExecutor(properties);
+        resultStore = new ResultColumnStore(properties);
+        textAnalyzerService = new TextAnalyzerService(engine, new TermFrequencyEngine(),
+                new AnalysisResultCache(properties), countingExecutor, new AnalysisMetrics(new SimpleMeterRegistry()),
+                resultStore);
+        service = new BatchTextAnalyzerService(textAnalyzerService, engine, countingExecutor, resultStore,
+                Validation.buildDefaultValidatorFactory().getValidator(), properties);
+    }
+
+    @Test
+    @DisplayName("Should analyze mixed parameter types in order")
+    void shouldAnalyzeItemsInOrder() {
+        var request = new TextAnalysesBatchRequest(List.of(
+                new TextAnalysesRequest(ParameterType.VOWELS, "Hello there"),
+                new TextAnalysesRequest(ParameterType.CONSONANTS, "Hello"),
+                new TextAnalysesRequest(ParameterType.VOWELS, "Aaa")));
+
+        TextAnalysesBatchResult result = service.analyzeBatch(request);
+
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+        assertThat(result.getItems()).extracting(TextAnalysesBatchItem::getIndex).containsExactly(0, 1, 2);
+        for (int i = 0; i < 3; i++) {
+            TextAnalysesRequest item = request.getItems().get(i);
+            assertThat(result.getItems().get(i).getResult().getLetterCounts())
+                    .containsExactlyEntriesOf(textAnalyzerService.analyzeText(item).getLetterCounts());
+            assertThat(result.getItems().get(i).getResult().getParameterType()).isEqualTo(item.getParameterType());
+        }
+    }
+
+    @Test
+    @DisplayName("Should count items on the counting pool when offloading is enabled")
+    void shouldOffloadItems() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getCounting().setOffloadEnabled(true);
+        properties.getCounting().setOffloadThreshold(0);
+        HistogramLetterCountingEngine engine = new HistogramLetterCountingEngine();
+        CountingExecutor countingExecutor = new CountingExecutor(properties);
+        var offloading = new BatchTextAnalyzerService(textAnalyzerService, engine, countingExecutor, resultStore,
+                Validation.buildDefaultValidatorFactory().getValidator(), properties);
+        try {
+            TextAnalysesBatchResult result = offloading.analyzeBatch(new TextAnalysesBatchRequest(List.of(
+                    new TextAnalysesRequest(ParameterType.VOWELS, "Hello there"),
+                    new TextAnalysesRequest(ParameterType.CONSONANTS, "Hello"))));
+
+            assertThat(result.getSucceeded()).isEqualTo(2);
+            assertThat(result.getItems().get(0).getResult().getLetterCounts()).containsEntry('E', 3).containsEntry('O', 1);
+            assertThat(result.getItems().get(1).getResult().getLetterCounts()).containsEntry('L', 2).containsEntry('H', 1);
+        } finally {
+            countingExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the counts of the analyzed items in the result store")
+    void shouldStoreItemResults() {
+        service.analyzeBatch(new TextAnalysesBatchRequest(List.of(
+                new TextAnalysesRequest(ParameterType.VOWELS, "Hello there"),
+                new TextAnalysesRequest(ParameterType.VOWELS, " "),
+                new TextAnalysesRequest(ParameterType.VOWELS, "Aaa"))));
+
+        var aggregate = resultStore.aggregate(ParameterType.VOWELS, null, null);
+        assertThat(aggregate.getResultCount()).isEqualTo(2);
+        assertThat(aggregate.getTotals()).containsEntry('A', 3L).containsEntry('E', 3L);
+    }
+
+    @Test
+    @DisplayName("Should report invalid items without failing the batch")
+    void shouldReportPerItemErrors() {
+        var request = new TextAnalysesBatchRequest(List.of(
+                new TextAnalysesRequest(null, "Hello"),
+                new TextAnalysesRequest(ParameterType.CONSONANTS, "Hello"),
+                new TextAnalysesRequest(ParameterType.VOWELS, " ")));
+
+        TextAnalysesBatchResult result = service.analyzeBatch(request);
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getItems().get(0).getResult()).isNull();
+        assertThat(result.getItems().get(0).getErrors()).containsKey("parameterType");
+        assertThat(result.getItems().get(1).getResult().getLetterCounts()).containsEntry('L', 2);
+        assertThat(result.getItems().get(1).getErrors()).isNull();
+        assertThat(result.getItems().get(2).getErrors()).containsEntry("inputText", "Text is required");
+    }
+
+    @Test
+    @DisplayName("Should count words and n-grams of term items")
+    void shouldAnalyzeTermItems() {
+        TextAnalysesRequest ngrams = new TextAnalysesRequest(ParameterType.VOWELS, "to be or not to be");
+        ngrams.setAdditionalParameterTypes(EnumSet.of(ParameterType.NGRAMS));
+        var request = new TextAnalysesBatchRequest(List.of(
+                new TextAnalysesRequest(ParameterType.WORDS, "to be or not to be"),
+                ngrams,
+                new TextAnalysesRequest(ParameterType.VOWELS, "Hello there")));
+
+        TextAnalysesBatchResult result = service.analyzeBatch(request);
+
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+        TextAnalysesResult words = result.getItems().get(0).getResult();
+        assertThat(words.getTerms().get(ParameterType.WORDS).getTopTerms())
+                .startsWith(new TermCount("be", 2), new TermCount("to", 2));
+        TextAnalysesResult withNgrams = result.getItems().get(1).getResult();
+        assertThat(withNgrams.getLetterCounts()).containsEntry('O', 4).containsEntry('E', 2);
+        assertThat(withNgrams.getTerms()).containsOnlyKeys(ParameterType.NGRAMS);
+        assertThat(result.getItems().get(2).getResult().getLetterCounts()).containsEntry('E', 3);
+    }
+
+    @Test
+    @DisplayName("Should report items the engine rejects without failing the batch")
+    void shouldReportCountingErrorsPerItem() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        HistogramLetterCountingEngine failing = new HistogramLetterCountingEngine() {
+            @Override
+            public void accumulate(String text, int from, int to, ParameterType parameterType,
+                                   LetterHistogram histogram) {
+                super.accumulate(text, from, to, parameterType, histogram);
+                if (text.contains("boom")) {
+                    throw new IllegalArgumentException("Cannot count " + text);
+                }
+            }
+        };
+        var failingService = new BatchTextAnalyzerService(textAnalyzerService, failing,
+                new CountingExecutor(properties), resultStore, Validation.buildDefaultValidatorFactory().getValidator(), properties);
+        var request = new TextAnalysesBatchRequest(List.of(
+                new TextAnalysesRequest(ParameterType.VOWELS, "boom"),
+                new TextAnalysesRequest(ParameterType.VOWELS, "Hello there")));
+
+        TextAnalysesBatchResult result = failingService.analyzeBatch(request);
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getItems().get(0).getResult()).isNull();
+        assertThat(result.getItems().get(0).getErrors())
+                .containsEntry("error", "Invalid input")
+                .containsEntry("message", "Cannot count boom");
+        // The failed item left no counts behind in the shared scratch histogram
+        assertThat(result.getItems().get(1).getResult().getLetterCounts()).containsEntry('E', 3).containsEntry('O', 1);
+    }
+
+    @Test
+    @DisplayName("Should report null items")
+    void shouldReportNullItems() {
+        List<TextAnalysesRequest> items = new ArrayList<>();
+        items.add(null);
+
+        TextAnalysesBatchResult result = service.analyzeBatch(new TextAnalysesBatchRequest(items));
+
+        assertThat(result.getItems().get(0).getErrors())
+                .containsEntry("error", "Invalid input")
+                .containsEntry("message", "Request cannot be null");
+    }
+
+    @Test
+    @DisplayName("Should reject batches above the configured size")
+    void shouldRejectOversizedBatch() {
+        var request = new TextAnalysesBatchRequest(
+                Collections.nCopies(4, new TextAnalysesRequest(ParameterType.VOWELS, "Hello")));
+
+        assertThatThrownBy(() -> service.analyzeBatch(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Batch cannot contain more than 3 items");
+    }
+
+    @Test
+    @DisplayName("Should reject an empty batch")
+    void shouldRejectEmptyBatch() {
+        assertThatThrownBy(() -> service.analyzeBatch(new TextAnalysesBatchRequest(List.of())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Batch cannot be empty");
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Counting Executor Tests")
+public class CountingExecutorTest {
+
+    private CountingExecutor executor;
+
+    private CountingExecutor executor(boolean offloadEnabled) {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getCounting().setOffloadEnabled(offloadEnabled);
+        properties.getCounting().setOffloadThreshold(10);
+        properties.getCounting().setMaxThreads(2);
+        executor = new CountingExecutor(properties);
+        return executor;
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should count on the calling thread when offloading is disabled")
+    void shouldRunInlineWhenDisabled() {
+        String thread = executor(false).execute(1_000, () -> Thread.currentThread().getName());
+
+        assertThat(thread).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("Should count small inputs on the calling thread")
+    void shouldRunSmallInputsInline() {
+        String thread = executor(true).execute(9, () -> Thread.currentThread().getName());
+
+        assertThat(thread).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("Should offload large inputs to the counting pool")
+    void shouldOffloadLargeInputs() {
+        String thread = executor(true).execute(10, () -> Thread.currentThread().getName());
+
+        assertThat(thread).startsWith("counting-");
+    }
+
+    @Test
+    @DisplayName("Should rethrow runtime exceptions from the counting pool")
+    void shouldRethrowRuntimeExceptions() {
+        CountingExecutor countingExecutor = executor(true);
+
+        assertThatThrownBy(() -> countingExecutor.execute(10, () -> {
+            throw new IllegalArgumentException("boom");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    @DisplayName("Should run submitted tasks on the counting pool whatever their size")
+    void shouldSubmitToCountingPool() throws Exception {
+        String thread = executor(false).submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        assertThat(thread).startsWith("counting-");
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngineTest;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesProgress;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.engine.TermFrequencyEngine;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Progress Text Analyzer Service Tests")
+public class ProgressTextAnalyzerServiceTest {
+
+    private TextAnalyzerProperties properties;
+    private HistogramLetterCountingEngine engine;
+    private CountingExecutor countingExecutor;
+    private ProgressTextAnalyzerService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new TextAnalyzerProperties();
+        properties.getProgress().setInterval(Duration.ZERO);
+        properties.getProgress().setChunkSize(1024);
+        engine = new HistogramLetterCountingEngine();
+        countingExecutor = new CountingExecutor(properties);
+        AnalysisMetrics metrics = new AnalysisMetrics(new SimpleMeterRegistry());
+        ResultColumnStore resultStore = new ResultColumnStore(properties);
+        TextAnalyzerService textAnalyzerService = new TextAnalyzerService(engine, new TermFrequencyEngine(),
+                new AnalysisResultCache(properties), countingExecutor, metrics, resultStore);
+        service = new ProgressTextAnalyzerService(engine, textAnalyzerService, countingExecutor, properties,
+                metrics, resultStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        countingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should report the counts of each processed prefix, then the full result")
+    void shouldReportPartialCounts() {
+        String text = HistogramLetterCountingEngineTest.randomText(new Random(16), 10_000);
+        Set<ParameterType> parameterTypes = EnumSet.of(ParameterType.VOWELS, ParameterType.DIGITS);
+        TextAnalysesRequest request = new TextAnalysesRequest(ParameterType.VOWELS, text);
+        request.setAdditionalParameterTypes(EnumSet.of(ParameterType.DIGITS));
+        List<TextAnalysesProgress> events = new ArrayList<>();
+
+        TextAnalysesResult result = service.analyze(request, events::add);
+
+        assertThat(events).hasSizeGreaterThanOrEqualTo(9);
+        long previous = 0;
+        for (TextAnalysesProgress event : events) {
+            int processed = (int) event.getProcessedCharacters();
+            assertThat(processed).isGreaterThan((int) previous).isLessThan(text.length());
+            assertThat(Character.isHighSurrogate(text.charAt(processed - 1))).isFalse();
+            assertThat(event.getTotalCharacters()).isEqualTo(text.length());
+            assertThat(event.getPercent()).isBetween(0.0, 100.0);
+            assertThat(event.getAnalyses()).isEqualTo(engine.countAll(text.substring(0, processed), parameterTypes));
+            assertThat(event.getLetterCounts()).isEqualTo(event.getAnalyses().get(ParameterType.VOWELS));
+            previous = processed;
+        }
+        assertThat(result.getAnalyses()).isEqualTo(engine.countAll(text, parameterTypes));
+        assertThat(result.getLetterCounts()).isEqualTo(engine.count(text, ParameterType.VOWELS));
+        assertThat(result.getOriginalText()).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("Should not report progress before the interval has passed")
+    void shouldThrottleEvents() {
+        properties.getProgress().setInterval(Duration.ofHours(1));
+        List<TextAnalysesProgress> events = new ArrayList<>();
+
+        TextAnalysesResult result = service.analyze(
+                new TextAnalysesRequest(ParameterType.CONSONANTS, "Hello World ".repeat(1000)), events::add);
+
+        assertThat(events).isEmpty();
+        assertThat(result.getAnalyses()).isNull();
+        assertThat(result.getLetterCounts()).containsEntry('L', 3000);
+    }
+
+    @Test
+    @DisplayName("Should stop counting when the listener fails")
+    void shouldAbortWhenListenerFails() {
+        List<TextAnalysesProgress> events = new ArrayList<>();
+
+        assertThatThrownBy(() -> service.analyze(new TextAnalysesRequest(ParameterType.VOWELS, "a".repeat(5000)),
+                progress -> {
+                    events.add(progress);
+                    throw new IllegalStateException("client gone");
+                }))
+                .hasMessage("client gone");
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should validate on the calling thread and count on the counting pool")
+    void shouldCountAsynchronously() throws Exception {
+        assertThatThrownBy(() -> service.analyzeAsync(new TextAnalysesRequest(ParameterType.VOWELS, " "),
+                progress -> {
+                }))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        TextAnalysesRequest request = new TextAnalysesRequest(ParameterType.VOWELS, "Hello");
+        request.setOriginalTextLimit(0);
+        TextAnalysesResult result = service.analyzeAsync(request, progress -> {
+        }).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getLetterCounts()).containsEntry('E', 1).containsEntry('O', 1);
+        assertThat(result.getOriginalText()).isNull();
+        assertThat(result.getOriginalTextLength()).isEqualTo(5);
+    }
+}
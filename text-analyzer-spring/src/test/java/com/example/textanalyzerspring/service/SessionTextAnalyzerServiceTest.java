@@ -0,0 +1,187 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngineTest;
+import com.example.textanalyzerspring.exception.SessionNotFoundException;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesSessionAppendRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionDeleteRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionRequest;
+import com.example.textanalyzerspring.model.TextAnalysesSessionResult;
+import com.example.textanalyzerspring.model.TextAnalysesSessionVerification;
+import com.example.textanalyzerspring.session.AnalysisSessionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Session Text Analyzer Service Tests")
+public class SessionTextAnalyzerServiceTest {
+
+    private HistogramLetterCountingEngine engine;
+    private SessionTextAnalyzerService service;
+
+    @BeforeEach
+    void setUp() {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getSession().setMaxLength(100_000);
+        engine = new HistogramLetterCountingEngine();
+        service = new SessionTextAnalyzerService(engine, new AnalysisSessionStore(properties), properties);
+    }
+
+    @Test
+    @DisplayName("Should update counts on append and delete")
+    void shouldUpdateCountsOnEdits() {
+        TextAnalysesSessionResult created = service.createSession(
+                new TextAnalysesSessionRequest(ParameterType.VOWELS, null, "Hel"));
+        String sessionId = created.getSessionId();
+
+        TextAnalysesSessionResult appended = service.append(sessionId,
+                new TextAnalysesSessionAppendRequest("lo World"));
+        TextAnalysesSessionResult deleted = service.deleteRange(sessionId,
+                new TextAnalysesSessionDeleteRequest(0, 6));
+
+        assertThat(created.getLength()).isEqualTo(3);
+        assertThat(created.getLetterCounts()).containsExactlyEntriesOf(engine.count("Hel", ParameterType.VOWELS));
+        assertThat(created.getAnalyses()).isNull();
+        assertThat(appended.getLength()).isEqualTo(11);
+        assertThat(appended.getLetterCounts())
+                .containsExactlyEntriesOf(engine.count("Hello World", ParameterType.VOWELS));
+        assertThat(deleted.getLength()).isEqualTo(5);
+        assertThat(deleted.getLetterCounts()).containsExactlyEntriesOf(engine.count("World", ParameterType.VOWELS));
+        assertThat(service.getSession(sessionId)).isEqualTo(deleted);
+    }
+
+    @Test
+    @DisplayName("Should keep additional types up to date in the same session")
+    void shouldTrackAdditionalTypes() {
+        String sessionId = service.createSession(new TextAnalysesSessionRequest(ParameterType.CONSONANTS,
+                Set.of(ParameterType.DIGITS, ParameterType.PUNCTUATION), "abc")).getSessionId();
+
+        TextAnalysesSessionResult result = service.append(sessionId, new TextAnalysesSessionAppendRequest(" 42!"));
+
+        assertThat(result.getAnalyses()).isEqualTo(engine.countAll("abc 42!",
+                EnumSet.of(ParameterType.CONSONANTS, ParameterType.DIGITS, ParameterType.PUNCTUATION)));
+        assertThat(result.getLetterCounts()).isEqualTo(result.getAnalyses().get(ParameterType.CONSONANTS));
+    }
+
+    @Test
+    @DisplayName("Should count a surrogate pair joined or split by an edit")
+    void shouldHandleSurrogatePairsAcrossEdits() {
+        HistogramLetterCountingEngine smileyEngine = new HistogramLetterCountingEngine(List.of(
+                HistogramLetterCountingEngineTest.smileyAnalyzer()));
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        SessionTextAnalyzerService smileyService = new SessionTextAnalyzerService(smileyEngine,
+                new AnalysisSessionStore(properties), properties);
+        String smiley = "😀";
+
+        String sessionId = smileyService.createSession(
+                new TextAnalysesSessionRequest(ParameterType.DIGITS, null, "a" + smiley.charAt(0))).getSessionId();
+        TextAnalysesSessionResult joined = smileyService.append(sessionId,
+                new TextAnalysesSessionAppendRequest(smiley.substring(1) + "b"));
+        TextAnalysesSessionResult split = smileyService.deleteRange(sessionId,
+                new TextAnalysesSessionDeleteRequest(2, 3));
+
+        assertThat(joined.getLetterCounts()).containsEntry('☺', 1);
+        assertThat(split.getLetterCounts()).doesNotContainKey('☺');
+        assertThat(smileyService.verify(sessionId).isConsistent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should match a full recount after random edits")
+    void shouldMatchFullRecountAfterRandomEdits() {
+        Random random = new Random(13);
+        Set<ParameterType> allTypes = ParameterType.characterTypes();
+        String sessionId = service.createSession(new TextAnalysesSessionRequest(ParameterType.VOWELS,
+                allTypes, "")).getSessionId();
+        StringBuilder expected = new StringBuilder();
+
+        for (int round = 0; round < 300; round++) {
+            TextAnalysesSessionResult result;
+            if (expected.length() > 0 && random.nextInt(3) == 0) {
+                int start = random.nextInt(expected.length());
+                int end = start + random.nextInt(Math.min(40, expected.length() - start) + 1);
+                expected.delete(start, end);
+                result = service.deleteRange(sessionId, new TextAnalysesSessionDeleteRequest(start, end));
+            } else {
+                // Cut at a random offset so that appends can split surrogate pairs
+                String chunk = HistogramLetterCountingEngineTest.randomText(random, 1 + random.nextInt(60));
+                chunk = chunk.substring(0, 1 + random.nextInt(chunk.length()));
+                expected.append(chunk);
+                result = service.append(sessionId, new TextAnalysesSessionAppendRequest(chunk));
+            }
+
+            assertThat(result.getLength()).isEqualTo(expected.length());
+            assertThat(result.getAnalyses())
+                    .as("round #%d", round)
+                    .isEqualTo(engine.countAll(expected.toString(), allTypes));
+        }
+
+        TextAnalysesSessionVerification verification = service.verify(sessionId);
+        assertThat(verification.isConsistent()).isTrue();
+        assertThat(verification.getMismatchedTypes()).isEmpty();
+        assertThat(verification.getLength()).isEqualTo(expected.length());
+    }
+
+    @Test
+    @DisplayName("Should reject edits outside the text or beyond the maximum length")
+    void shouldRejectInvalidEdits() {
+        String sessionId = service.createSession(
+                new TextAnalysesSessionRequest(ParameterType.VOWELS, null, "Hello")).getSessionId();
+
+        assertThatThrownBy(() -> service.deleteRange(sessionId, new TextAnalysesSessionDeleteRequest(3, 9)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("outside the session text");
+        assertThatThrownBy(() -> service.deleteRange(sessionId, new TextAnalysesSessionDeleteRequest(4, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.append(sessionId,
+                new TextAnalysesSessionAppendRequest("x".repeat(100_000))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Session text cannot exceed 100000 characters");
+        assertThat(service.getSession(sessionId).getLetterCounts())
+                .containsExactlyEntriesOf(engine.count("Hello", ParameterType.VOWELS));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid session requests")
+    void shouldRejectInvalidRequests() {
+        Set<ParameterType> withNull = new HashSet<>();
+        withNull.add(null);
+
+        assertThatThrownBy(() -> service.createSession(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Request cannot be null");
+        assertThatThrownBy(() -> service.createSession(new TextAnalysesSessionRequest(null, null, "a")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Parameter Type cannot be null");
+        assertThatThrownBy(() -> service.createSession(
+                new TextAnalysesSessionRequest(ParameterType.VOWELS, withNull, "a")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Additional Parameter Types cannot contain null");
+    }
+
+    @Test
+    @DisplayName("Should report unknown and deleted sessions as not found")
+    void shouldReportUnknownSessions() {
+        String sessionId = service.createSession(
+                new TextAnalysesSessionRequest(ParameterType.VOWELS, null, null)).getSessionId();
+
+        service.deleteSession(sessionId);
+
+        assertThatThrownBy(() -> service.getSession(sessionId))
+                .isInstanceOf(SessionNotFoundException.class)
+                .hasMessage("Session not found: " + sessionId);
+        assertThatThrownBy(() -> service.deleteSession(sessionId))
+                .isInstanceOf(SessionNotFoundException.class);
+        assertThatThrownBy(() -> service.append("missing", new TextAnalysesSessionAppendRequest("a")))
+                .isInstanceOf(SessionNotFoundException.class);
+    }
+}
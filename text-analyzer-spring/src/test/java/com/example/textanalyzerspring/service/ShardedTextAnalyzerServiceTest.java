@@ -0,0 +1,208 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.cluster.ShardPeerClient;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngineTest;
+import com.example.textanalyzerspring.exception.ShardAccessDeniedException;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TextAnalysesRequest;
+import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.model.TextAnalysesShardResult;
+import com.example.textanalyzerspring.engine.TermFrequencyEngine;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.URI;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Sharded Text Analyzer Service Tests")
+public class ShardedTextAnalyzerServiceTest {
+
+    private static final URI PEER_A = URI.create("http://peer-a:8080");
+    private static final URI PEER_B = URI.create("http://peer-b:8080");
+    private static final Set<ParameterType> TYPES = EnumSet.of(ParameterType.VOWELS, ParameterType.CONSONANTS);
+
+    @Mock
+    private ShardPeerClient peerClient;
+
+    @Mock
+    private ResultColumnStore resultStore;
+
+    private HistogramLetterCountingEngine engine;
+    private CountingExecutor countingExecutor;
+    private SimpleMeterRegistry registry;
+    private ShardedTextAnalyzerService service;
+
+    @BeforeEach
+    void setUp() {
+        engine = new HistogramLetterCountingEngine();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+            countingExecutor.shutdown();
+        }
+    }
+
+    private ShardedTextAnalyzerService service(List<URI> peers) {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getCluster().setPeers(peers);
+        properties.getCluster().setShardSize(1024);
+        // One shard at a time, so a failed peer is skipped by every later shard
+        properties.getCluster().setParallelism(1);
+        countingExecutor = new CountingExecutor(properties);
+        AnalysisMetrics metrics = new AnalysisMetrics(new SimpleMeterRegistry());
+        service = new ShardedTextAnalyzerService(engine, new TextAnalyzerService(engine, new TermFrequencyEngine(),
+                new AnalysisResultCache(properties), countingExecutor, metrics, resultStore),
+                peerClient, properties, metrics, resultStore);
+        registry = new SimpleMeterRegistry();
+        service.bindTo(registry);
+        return service;
+    }
+
+    private static TextAnalysesRequest request(String text) {
+        TextAnalysesRequest request = new TextAnalysesRequest(ParameterType.VOWELS, text);
+        request.setAdditionalParameterTypes(EnumSet.of(ParameterType.CONSONANTS));
+        return request;
+    }
+
+    private double shards(String peer, String outcome) {
+        return registry.get("text.analyzer.shards").tag("peer", peer).tag("outcome", outcome).functionCounter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("Should never end a shard inside a surrogate pair")
+    void shouldKeepSurrogatePairsTogether() {
+        String text = "a".repeat(1023) + "😀" + "b".repeat(1000);
+
+        List<int[]> shards = ShardedTextAnalyzerService.shardBounds(text, 1024);
+
+        assertThat(shards).extracting(bounds -> bounds[0]).containsExactly(0, 1025);
+        assertThat(shards).extracting(bounds -> bounds[1]).containsExactly(1025, text.length());
+        assertThat(ShardedTextAnalyzerService.shardBounds("", 1024)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count every shard on the coordinator when no peer is configured")
+    void shouldCountLocallyWithoutPeers() {
+        String text = HistogramLetterCountingEngineTest.randomText(new Random(17), 10_000);
+
+        TextAnalysesResult result = service(List.of()).analyzeSharded(request(text));
+
+        assertThat(result.getAnalyses()).isEqualTo(engine.countAll(text, TYPES));
+        assertThat(result.getLetterCounts()).isEqualTo(engine.count(text, ParameterType.VOWELS));
+        assertThat(shards("local", "success")).isEqualTo(10);
+        then(resultStore).should().append(result);
+    }
+
+    @Test
+    @DisplayName("Should retry the shards of a failed peer on the next one")
+    void shouldRetryOnNextPeer() {
+        String text = HistogramLetterCountingEngineTest.randomText(new Random(17), 10_000);
+        service(List.of(PEER_A, PEER_B));
+        given(peerClient.count(eq(PEER_A), anyString(), any())).willThrow(new ResourceAccessException("refused"));
+        given(peerClient.count(eq(PEER_B), anyString(), any())).willAnswer(invocation ->
+                service.countShard(invocation.getArgument(1), invocation.getArgument(2)));
+
+        TextAnalysesResult result = service.analyzeSharded(request(text));
+
+        assertThat(result.getAnalyses()).isEqualTo(engine.countAll(text, TYPES));
+        then(peerClient).should(times(1)).count(eq(PEER_A), anyString(), any());
+        assertThat(shards(PEER_A.toString(), "failure")).isEqualTo(1);
+        assertThat(shards(PEER_B.toString(), "success")).isEqualTo(10);
+        assertThat(shards("local", "success")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count a shard itself once no peer could, including incomplete answers")
+    void shouldFallBackToLocalCount() {
+        String text = "Hello World ".repeat(200);
+        service(List.of(PEER_A, PEER_B));
+        given(peerClient.count(eq(PEER_A), anyString(), any())).willThrow(new ResourceAccessException("timeout"));
+        given(peerClient.count(eq(PEER_B), anyString(), any()))
+                .willReturn(new TextAnalysesShardResult(1, null));
+
+        TextAnalysesResult result = service.analyzeSharded(request(text));
+
+        assertThat(result.getAnalyses()).isEqualTo(engine.countAll(text, TYPES));
+        assertThat(shards(PEER_B.toString(), "failure")).isEqualTo(1);
+        assertThat(shards("local", "success")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should list only the characters that occur in a shard")
+    void shouldReturnCompactShardCounts() {
+        TextAnalysesShardResult result = service(List.of()).countShard("Hello", EnumSet.of(ParameterType.VOWELS));
+
+        assertThat(result.getCharacterCount()).isEqualTo(5);
+        assertThat(result.getCounts().get(ParameterType.VOWELS)).containsExactly(entry('E', 1), entry('O', 1));
+        assertThatThrownBy(() -> service.countShard("Hello", Set.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should only let peers with the configured token count shards")
+    void shouldCheckPeerToken() {
+        assertThatThrownBy(() -> service(List.of()).checkPeerToken(""))
+                .isInstanceOf(ShardAccessDeniedException.class);
+
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getCluster().setToken("secret");
+        ShardedTextAnalyzerService secured = new ShardedTextAnalyzerService(engine, null, peerClient, properties,
+                new AnalysisMetrics(new SimpleMeterRegistry()), resultStore);
+        try {
+            assertThatCode(() -> secured.checkPeerToken("secret")).doesNotThrowAnyException();
+            assertThatThrownBy(() -> secured.checkPeerToken("secreT")).isInstanceOf(ShardAccessDeniedException.class);
+            assertThatThrownBy(() -> secured.checkPeerToken(null)).isInstanceOf(ShardAccessDeniedException.class);
+        } finally {
+            secured.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse word and n-gram requests before sending any shard")
+    void shouldRejectTermTypes() {
+        TextAnalysesRequest words = new TextAnalysesRequest(ParameterType.WORDS, "to be or not to be");
+        TextAnalysesRequest additionalNgrams = request("to be or not to be");
+        additionalNgrams.setAdditionalParameterTypes(EnumSet.of(ParameterType.NGRAMS));
+
+        for (List<URI> peers : List.of(List.<URI>of(), List.of(PEER_A, PEER_B))) {
+            ShardedTextAnalyzerService sharded = service(peers);
+            for (TextAnalysesRequest request : List.of(words, additionalNgrams)) {
+                assertThatThrownBy(() -> sharded.analyzeSharded(request))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("Word and n-gram frequencies cannot be sharded");
+            }
+            sharded.shutdown();
+        }
+        then(peerClient).shouldHaveNoInteractions();
+        assertThat(shards(PEER_A.toString(), "failure")).isZero();
+        assertThat(shards("local", "success")).isZero();
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.textanalyzerspring.service;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngineTest;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
+import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.StreamAnalysesResult;
+import com.example.textanalyzerspring.pool.ScratchPools;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Streaming Text Analyzer Service Tests")
+public class StreamingTextAnalyzerServiceTest {
+
+    private TextAnalyzerProperties properties;
+    private HistogramLetterCountingEngine engine;
+    private ScratchPools pools;
+    private ResultColumnStore resultStore;
+    private StreamingTextAnalyzerService service;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new TextAnalyzerProperties();
+        properties.getStream().setBufferSize(64);
+        properties.getResultStore().setEnabled(true);
+        properties.getResultStore().setDirectory(directory);
+        properties.getResultStore().setInitialCapacity(16);
+        engine = new HistogramLetterCountingEngine();
+        pools = new ScratchPools(properties);
+        resultStore = new ResultColumnStore(properties);
+        service = new StreamingTextAnalyzerService(engine, properties,
+                new AnalysisMetrics(new SimpleMeterRegistry()), pools, resultStore);
+    }
+
+    @Test
+    @DisplayName("Should keep the counts of every stream in the result store")
+    void shouldStoreStreamResults() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            service.analyzeStream(new ByteArrayInputStream("Hello there".getBytes(StandardCharsets.UTF_8)),
+                    StandardCharsets.UTF_8, ParameterType.VOWELS, false);
+        }
+
+        var aggregate = resultStore.aggregate(ParameterType.VOWELS, null, null);
+        assertThat(aggregate.getResultCount()).isEqualTo(3);
+        assertThat(aggregate.getTotals()).containsEntry('E', 9L).containsEntry('O', 3L);
+    }
+
+    @Test
+    @DisplayName("Should count the same letters as the in-memory engine across chunk boundaries")
+    void shouldMatchInMemoryCounts() throws IOException {
+        String text = "Grüße aus Köln, привет мир! 漢字 😀 ".repeat(50);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        for (ParameterType parameterType : ParameterType.characterTypes()) {
+            StreamAnalysesResult result = service.analyzeStream(
+                    new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, parameterType, false);
+
+            assertThat(result.getParameterType()).isEqualTo(parameterType);
+            assertThat(result.getLetterCounts()).containsExactlyEntriesOf(engine.count(text, parameterType));
+            assertThat(result.getCharacterCount()).isEqualTo(text.length());
+            assertThat(result.getByteCount()).isEqualTo(bytes.length);
+            assertThat(result.getSha256()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not split surrogate pairs between buffers")
+    void shouldKeepSurrogatePairsTogether() throws IOException {
+        var smileys = new HistogramLetterCountingEngine(List.of(HistogramLetterCountingEngineTest.smileyAnalyzer()));
+        var smileyService = new StreamingTextAnalyzerService(smileys, properties,
+                new AnalysisMetrics(new SimpleMeterRegistry()), pools, resultStore);
+        for (int offset = 0; offset < 4; offset++) {
+            String text = "x".repeat(offset) + "😀".repeat(100);
+
+            StreamAnalysesResult result = smileyService.analyzeStream(
+                    new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8,
+                    ParameterType.DIGITS, false);
+
+            assertThat(result.getLetterCounts()).as("offset %d", offset).containsExactly(entry('☺', 100));
+            assertThat(result.getCharacterCount()).isEqualTo(text.length());
+        }
+    }
+
+    @Test
+    @DisplayName("Should count buffers fed one byte at a time")
+    void shouldCountBufferFedByteByByte() {
+        String text = "Grüße, привет 😀 漢字 ".repeat(20);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        var counter = service.open(StandardCharsets.UTF_8, ParameterType.CONSONANTS, false);
+        for (byte b : bytes) {
+            counter.feed(ByteBuffer.wrap(new byte[]{b}));
+        }
+        StreamAnalysesResult result = counter.finish();
+
+        assertThat(result.getLetterCounts()).containsExactlyEntriesOf(engine.count(text, ParameterType.CONSONANTS));
+        assertThat(result.getCharacterCount()).isEqualTo(text.length());
+        assertThat(result.getByteCount()).isEqualTo(bytes.length);
+    }
+
+    @Test
+    @DisplayName("Should hand its buffers back to the pools when finished or closed")
+    void shouldReturnPooledBuffers() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        pools.bindTo(registry);
+        for (int i = 0; i < 5; i++) {
+            service.analyzeStream(new ByteArrayInputStream("Hello".getBytes(StandardCharsets.UTF_8)),
+                    StandardCharsets.UTF_8, ParameterType.VOWELS, false);
+        }
+        var abandoned = service.open(StandardCharsets.UTF_8, ParameterType.VOWELS, false);
+        abandoned.close();
+
+        assertThat(registry.get("text.analyzer.pool.created").tag("pool", "char_buffer").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("text.analyzer.pool.reused").tag("pool", "decoder").functionCounter().count())
+                .isEqualTo(5);
+        assertThatThrownBy(() -> abandoned.feed(ByteBuffer.wrap(new byte[]{'a'})))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should decode with the given charset")
+    void shouldDecodeWithCharset() throws IOException {
+        byte[] bytes = "Éléphant".getBytes(StandardCharsets.ISO_8859_1);
+
+        StreamAnalysesResult result = service.analyzeStream(
+                new ByteArrayInputStream(bytes), StandardCharsets.ISO_8859_1, ParameterType.VOWELS, false);
+
+        assertThat(result.getLetterCounts()).containsEntry('A', 1);
+        assertThat(result.getCharacterCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should return the SHA-256 of the original bytes")
+    void shouldReturnDigest() throws Exception {
+        byte[] bytes = "Hello there".getBytes(StandardCharsets.UTF_8);
+
+        StreamAnalysesResult result = service.analyzeStream(
+                new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, ParameterType.VOWELS, true);
+
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        assertThat(result.getSha256()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should reject a whitespace-only body")
+    void shouldRejectBlankBody() {
+        var body = new ByteArrayInputStream(" \t\n ".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> service.analyzeStream(body, StandardCharsets.UTF_8, ParameterType.VOWELS, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Text cannot be empty or whitespace only");
+    }
+
+    @Test
+    @DisplayName("Should reject a missing parameter type")
+    void shouldRejectMissingParameterType() {
+        var body = new ByteArrayInputStream("Hello".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> service.analyzeStream(body, StandardCharsets.UTF_8, null, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Parameter Type cannot be null");
+    }
+}
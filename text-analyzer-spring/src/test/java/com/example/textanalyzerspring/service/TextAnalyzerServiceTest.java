@@ -1,13 +1,26 @@
 package com.example.textanalyzerspring.service;
 
+import com.example.textanalyzerspring.cache.AnalysisResultCache;
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.metrics.AnalysisMetrics;
 import com.example.textanalyzerspring.model.ParameterType;
+import com.example.textanalyzerspring.model.TermCount;
 import com.example.textanalyzerspring.model.TextAnalysesRequest;
 import com.example.textanalyzerspring.model.TextAnalysesResult;
+import com.example.textanalyzerspring.engine.TermFrequencyEngine;
+import com.example.textanalyzerspring.results.ResultColumnStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -17,8 +30,11 @@ public class TextAnalyzerServiceTest {
     private TextAnalyzerService service;
 
     @BeforeEach
-    void setUp() {
-        service = new TextAnalyzerService();
+    void setUp() throws IOException {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        service = new TextAnalyzerService(new HistogramLetterCountingEngine(), new TermFrequencyEngine(),
+                new AnalysisResultCache(properties), new CountingExecutor(properties), new AnalysisMetrics(new SimpleMeterRegistry()),
+                new ResultColumnStore(properties));
     }
 
     @Test
@@ -88,6 +104,86 @@ public class TextAnalyzerServiceTest {
                 .doesNotContainKey('@');
     }
 
+    @Test
+    @DisplayName("Should return additional types counted in the same pass")
+    void shouldReturnAdditionalTypes() {
+        var request = new TextAnalysesRequest(ParameterType.VOWELS, "Room 42, please!");
+        request.setAdditionalParameterTypes(Set.of(ParameterType.DIGITS, ParameterType.PUNCTUATION));
+
+        TextAnalysesResult result = service.analyzeText(request);
+
+        assertThat(result.getLetterCounts()).containsEntry('O', 2).containsEntry('E', 2);
+        assertThat(result.getAnalyses())
+                .containsOnlyKeys(ParameterType.VOWELS, ParameterType.DIGITS, ParameterType.PUNCTUATION);
+        assertThat(result.getAnalyses().get(ParameterType.VOWELS)).isEqualTo(result.getLetterCounts());
+        assertThat(result.getAnalyses().get(ParameterType.DIGITS)).containsExactly(entry('2', 1), entry('4', 1));
+        assertThat(result.getAnalyses().get(ParameterType.PUNCTUATION)).containsExactly(entry('!', 1), entry(',', 1));
+    }
+
+    @Test
+    @DisplayName("Should return word frequencies next to letter counts")
+    void shouldReturnTermFrequencies() {
+        var request = new TextAnalysesRequest(ParameterType.WORDS, "To be or not to be");
+        request.setAdditionalParameterTypes(Set.of(ParameterType.VOWELS, ParameterType.NGRAMS));
+
+        TextAnalysesResult result = service.analyzeText(request);
+
+        assertThat(result.getLetterCounts()).isNull();
+        assertThat(result.getAnalyses()).containsOnlyKeys(ParameterType.VOWELS);
+        assertThat(result.getTerms()).containsOnlyKeys(ParameterType.WORDS, ParameterType.NGRAMS);
+        assertThat(result.getTerms().get(ParameterType.WORDS).getTopTerms()).containsExactly(
+                new TermCount("be", 2), new TermCount("to", 2), new TermCount("not", 1), new TermCount("or", 1));
+        assertThat(result.getTerms().get(ParameterType.NGRAMS).getTopTerms())
+                .containsExactly(new TermCount("not", 1));
+    }
+
+    @Test
+    @DisplayName("Should leave analyses out for single type requests")
+    void shouldOmitAnalysesForSingleType() {
+        TextAnalysesResult result = service.analyzeText(new TextAnalysesRequest(ParameterType.DIGITS, "a1b2"));
+
+        assertThat(result.getLetterCounts()).containsExactly(entry('1', 1), entry('2', 1));
+        assertThat(result.getAnalyses()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should replace the echoed text with its length and digest")
+    void shouldOmitOriginalText() throws Exception {
+        String text = "Hello there ".repeat(2_000);
+        var request = new TextAnalysesRequest(ParameterType.VOWELS, text);
+        request.setOriginalTextLimit(0);
+
+        TextAnalysesResult result = service.analyzeText(request);
+
+        assertThat(result.getOriginalText()).isNull();
+        assertThat(result.getOriginalTextLength()).isEqualTo(text.length());
+        assertThat(result.getOriginalTextSha256()).isEqualTo(HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8))));
+        assertThat(result.getLetterCounts()).containsEntry('E', 6_000);
+    }
+
+    @Test
+    @DisplayName("Should truncate the echoed text without splitting a surrogate pair")
+    void shouldTruncateOriginalText() {
+        var request = new TextAnalysesRequest(ParameterType.VOWELS, "ab😀cd");
+        request.setOriginalTextLimit(3);
+
+        TextAnalysesResult result = service.analyzeText(request);
+
+        assertThat(result.getOriginalText()).isEqualTo("ab");
+        assertThat(result.getOriginalTextLength()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should keep the full echo without a limit")
+    void shouldKeepOriginalTextByDefault() {
+        TextAnalysesResult result = service.analyzeText(new TextAnalysesRequest(ParameterType.VOWELS, "Hello"));
+
+        assertThat(result.getOriginalText()).isEqualTo("Hello");
+        assertThat(result.getOriginalTextLength()).isNull();
+        assertThat(result.getOriginalTextSha256()).isNull();
+    }
+
     @Test
     @DisplayName("Should handle empty text with validation")
     void shouldThrowExceptionForEmptyText() {
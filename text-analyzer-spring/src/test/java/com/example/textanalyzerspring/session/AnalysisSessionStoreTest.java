@@ -0,0 +1,77 @@
+package com.example.textanalyzerspring.session;
+
+import com.example.textanalyzerspring.config.TextAnalyzerProperties;
+import com.example.textanalyzerspring.engine.HistogramLetterCountingEngine;
+import com.example.textanalyzerspring.model.ParameterType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Analysis Session Store Tests")
+public class AnalysisSessionStoreTest {
+
+    private static final HistogramLetterCountingEngine ENGINE = new HistogramLetterCountingEngine();
+
+    private AnalysisSessionStore store(int maxSessions, Duration idleTimeout) {
+        TextAnalyzerProperties properties = new TextAnalyzerProperties();
+        properties.getSession().setMaxSessions(maxSessions);
+        properties.getSession().setIdleTimeout(idleTimeout);
+        return new AnalysisSessionStore(properties);
+    }
+
+    private static AnalysisSession session(String id) {
+        return new AnalysisSession(id, ParameterType.VOWELS, Set.of(ParameterType.VOWELS), "Hello", ENGINE);
+    }
+
+    @Test
+    @DisplayName("Should drop the least recently used session beyond the limit")
+    void shouldEvictLeastRecentlyUsed() {
+        AnalysisSessionStore store = store(2, Duration.ofMinutes(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store.bindTo(registry);
+
+        store.put(session("a"));
+        store.put(session("b"));
+        store.get("a");
+        store.put(session("c"));
+
+        assertThat(store.get("a")).isPresent();
+        assertThat(store.get("b")).isEmpty();
+        assertThat(store.get("c")).isPresent();
+        assertThat(registry.get("text.analyzer.sessions.active").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("text.analyzer.sessions.evictions").tag("reason", "capacity")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should sweep sessions idle for longer than the timeout")
+    void shouldEvictIdleSessions() {
+        AnalysisSessionStore store = store(10, Duration.ofSeconds(10));
+        store.put(session("a"));
+        store.put(session("b"));
+        long now = System.nanoTime();
+        store.get("b").orElseThrow().touch(now + Duration.ofSeconds(30).toNanos());
+
+        int evicted = store.evictIdle(now + Duration.ofSeconds(20).toNanos());
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(store.get("a")).isEmpty();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should remove sessions on request")
+    void shouldRemoveSessions() {
+        AnalysisSessionStore store = store(10, Duration.ofMinutes(1));
+        store.put(session("a"));
+
+        assertThat(store.remove("a")).isTrue();
+        assertThat(store.remove("a")).isFalse();
+        assertThat(store.size()).isZero();
+    }
+}